@@ -0,0 +1,71 @@
+package dev.cdevents.benchmarks;
+
+import dev.cdevents.CDEvents;
+import dev.cdevents.models.CDEvent;
+import io.cloudevents.CloudEvent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the {@link CDEvents} serialize, validate and convert paths,
+ * for every event type and payload size of {@link EventState}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CDEventsBenchmark {
+
+    /**
+     * @param state the sample event
+     * @return json of the sample event
+     */
+    @Benchmark
+    public String cdEventAsJson(EventState state) {
+        return CDEvents.cdEventAsJson(state.cdEvent);
+    }
+
+    /**
+     * @param state the sample event
+     * @return true, If the sample event is valid
+     */
+    @Benchmark
+    public boolean validateCDEvent(EventState state) {
+        return CDEvents.validateCDEvent(state.cdEvent);
+    }
+
+    /**
+     * @param state the sample event
+     * @return CloudEvent of the sample event
+     */
+    @Benchmark
+    public CloudEvent cdEventAsCloudEvent(EventState state) {
+        return CDEvents.cdEventAsCloudEvent(state.cdEvent);
+    }
+
+    /**
+     * @param state the sample event
+     * @return CDEvent read from the json of the sample event
+     */
+    @Benchmark
+    public CDEvent cdEventFromJson(EventState state) {
+        return CDEvents.cdEventFromJson(state.cdEventJson);
+    }
+
+    /**
+     * @param state the sample event
+     * @return CDEvent read from the UTF-8 encoded json of the sample event
+     */
+    @Benchmark
+    public CDEvent cdEventFromJsonBytes(EventState state) {
+        return CDEvents.cdEventFromJson(state.cdEventBytes);
+    }
+}
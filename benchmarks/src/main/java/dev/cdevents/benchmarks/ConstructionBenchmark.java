@@ -0,0 +1,65 @@
+package dev.cdevents.benchmarks;
+
+import dev.cdevents.constants.CDEventConstants;
+import dev.cdevents.exception.CDEventsException;
+import dev.cdevents.models.CDEvent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the construction of an event of every {@link CDEventConstants.CDEventTypes},
+ * which initializes the context with a new id and timestamp.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConstructionBenchmark {
+
+    /**
+     * Event type to construct, all event types by default.
+     */
+    @Param
+    public CDEventConstants.CDEventTypes eventType;
+
+    private MethodHandle constructor;
+
+    /**
+     * Looks up the no-arg constructor of the event class.
+     */
+    @Setup
+    public void setUp() {
+        try {
+            constructor = MethodHandles.publicLookup()
+                    .findConstructor(eventType.getEventClass(), MethodType.methodType(void.class))
+                    .asType(MethodType.methodType(CDEvent.class));
+        } catch (ReflectiveOperationException e) {
+            throw new CDEventsException("Exception while looking up constructor of " + eventType.getEventClass(), e);
+        }
+    }
+
+    /**
+     * @return a new event of the event type
+     * @throws Throwable if the constructor fails
+     */
+    @Benchmark
+    public CDEvent newEvent() throws Throwable {
+        return (CDEvent) constructor.invokeExact();
+    }
+}
@@ -0,0 +1,57 @@
+package dev.cdevents.benchmarks;
+
+import dev.cdevents.constants.CDEventConstants;
+import dev.cdevents.models.CDEvent;
+import dev.cdevents.spec.schemas.SchemaRegistry;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Sample event of every {@link CDEventConstants.CDEventTypes} at every {@link PayloadSize},
+ * prepared once per trial so that benchmarks only measure the SDK call.
+ */
+@State(Scope.Benchmark)
+public class EventState {
+
+    /**
+     * Event type of the sample, all event types by default.
+     */
+    @Param
+    public CDEventConstants.CDEventTypes eventType;
+
+    /**
+     * Payload size of the sample, all sizes by default.
+     */
+    @Param
+    public PayloadSize payloadSize;
+
+    /**
+     * The sample event.
+     */
+    public CDEvent cdEvent;
+
+    /**
+     * Json of the sample event.
+     */
+    public String cdEventJson;
+
+    /**
+     * UTF-8 encoded json of the sample event.
+     */
+    public byte[] cdEventBytes;
+
+    /**
+     * Builds the sample event and its json, with the event schemas already compiled.
+     */
+    @Setup
+    public void setUp() {
+        SchemaRegistry.warmUp();
+        cdEventJson = SampleEvents.sampleJson(eventType, payloadSize);
+        cdEventBytes = cdEventJson.getBytes(StandardCharsets.UTF_8);
+        cdEvent = SampleEvents.sampleEvent(eventType, payloadSize);
+    }
+}
@@ -0,0 +1,21 @@
+package dev.cdevents.benchmarks;
+
+public enum PayloadSize {
+    /**
+     * Only the properties required by the event schema.
+     */
+    SMALL,
+    /**
+     * All properties of the event schema.
+     */
+    TYPICAL,
+    /**
+     * All properties of the event schema and a large customData object.
+     */
+    LARGE;
+
+    /**
+     * Number of customData entries of a {@link #LARGE} payload, roughly 100 bytes each.
+     */
+    static final int LARGE_CUSTOM_DATA_ENTRIES = 500;
+}
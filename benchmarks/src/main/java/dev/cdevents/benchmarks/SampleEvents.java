@@ -0,0 +1,118 @@
+package dev.cdevents.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import dev.cdevents.CDEvents;
+import dev.cdevents.constants.CDEventConstants;
+import dev.cdevents.exception.CDEventsException;
+import dev.cdevents.models.CDEvent;
+import dev.cdevents.spec.schemas.SchemaLoader;
+import dev.cdevents.spec.schemas.SchemaRegistry;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Builds schema valid sample events of every {@link CDEventConstants.CDEventTypes}.
+ * The samples are derived from the event JsonSchemas, so every event type is covered
+ * without hand written fixtures.
+ */
+public final class SampleEvents {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private static final String SAMPLE_URL = "https://cdevents.dev/benchmarks/";
+
+    private static final String SAMPLE_TIMESTAMP = "2024-01-01T00:00:00Z";
+
+    private SampleEvents() {
+    }
+
+    /**
+     * @param eventType the CDEvent type
+     * @param payloadSize size of the sample payload
+     * @return json of a valid sample event
+     */
+    public static String sampleJson(CDEventConstants.CDEventTypes eventType, PayloadSize payloadSize) {
+        JsonNode schema = readSchema(eventType);
+        ObjectNode event = sampleObject(schema, payloadSize != PayloadSize.SMALL);
+        if (payloadSize == PayloadSize.LARGE) {
+            event.set("customData", largeCustomData());
+            event.put("customDataContentType", "application/json");
+        }
+        return event.toString();
+    }
+
+    /**
+     * @param eventType the CDEvent type
+     * @param payloadSize size of the sample payload
+     * @return a valid sample event
+     */
+    public static CDEvent sampleEvent(CDEventConstants.CDEventTypes eventType, PayloadSize payloadSize) {
+        return CDEvents.cdEventFromJson(sampleJson(eventType, payloadSize));
+    }
+
+    private static JsonNode readSchema(CDEventConstants.CDEventTypes eventType) {
+        try {
+            return OBJECT_MAPPER.readTree(SchemaLoader.loadSchema(SchemaRegistry.schemaFileName(eventType)));
+        } catch (IOException e) {
+            throw new CDEventsException("Exception while reading Event JsonSchema file ", e);
+        }
+    }
+
+    private static ObjectNode sampleObject(JsonNode schema, boolean optionalProperties) {
+        ObjectNode object = OBJECT_MAPPER.createObjectNode();
+        JsonNode required = schema.path("required");
+        Iterator<Map.Entry<String, JsonNode>> properties = schema.path("properties").fields();
+        while (properties.hasNext()) {
+            Map.Entry<String, JsonNode> property = properties.next();
+            String name = property.getKey();
+            JsonNode propertySchema = property.getValue();
+            if (propertySchema.has("oneOf") || !(optionalProperties || contains(required, name))) {
+                continue;
+            }
+            if ("object".equals(propertySchema.path("type").asText())) {
+                object.set(name, sampleObject(propertySchema, optionalProperties));
+            } else {
+                object.put(name, sampleString(name, propertySchema));
+            }
+        }
+        return object;
+    }
+
+    private static String sampleString(String name, JsonNode schema) {
+        if (schema.has("enum")) {
+            return schema.get("enum").get(0).asText();
+        }
+        if ("date-time".equals(schema.path("format").asText())) {
+            return SAMPLE_TIMESTAMP;
+        }
+        if ("version".equals(name)) {
+            return CDEventConstants.CDEVENTS_SPEC_VERSION;
+        }
+        return SAMPLE_URL + name;
+    }
+
+    private static ObjectNode largeCustomData() {
+        ObjectNode customData = OBJECT_MAPPER.createObjectNode();
+        for (int i = 0; i < PayloadSize.LARGE_CUSTOM_DATA_ENTRIES; i++) {
+            ObjectNode entry = customData.putObject("entry" + i);
+            entry.put("id", i);
+            entry.put("name", "custom-data-entry-" + i);
+            entry.put("url", SAMPLE_URL + "custom-data/" + i);
+            entry.put("enabled", i % 2 == 0);
+        }
+        return customData;
+    }
+
+    private static boolean contains(JsonNode array, String value) {
+        for (JsonNode element : array) {
+            if (value.equals(element.asText())) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -12,10 +12,19 @@ import java.io.BufferedWriter;
 import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
 
 public final class CDEventsGenerator {
 
@@ -39,6 +48,40 @@ public final class CDEventsGenerator {
      * Mustache generic event template file.
      */
     private static final String EVENT_TEMPLATE_MUSTACHE = RESOURCES_DIR + "template/event-template.mustache";
+    /**
+     * Mustache event codec template file.
+     */
+    private static final String CODEC_TEMPLATE_MUSTACHE = RESOURCES_DIR + "template/codec-template.mustache";
+    /**
+     * Mustache Jackson module template file.
+     */
+    private static final String MODULE_TEMPLATE_MUSTACHE = RESOURCES_DIR + "template/module-template.mustache";
+    /**
+     * Mustache event schema validator template file.
+     */
+    private static final String VALIDATOR_TEMPLATE_MUSTACHE = RESOURCES_DIR + "template/validator-template.mustache";
+    /**
+     * Mustache schema validator registry template file.
+     */
+    private static final String VALIDATORS_TEMPLATE_MUSTACHE = RESOURCES_DIR + "template/validators-template.mustache";
+
+    /**
+     * Mustache protobuf message definition template file.
+     */
+    private static final String PROTO_TEMPLATE_MUSTACHE = RESOURCES_DIR + "template/proto-template.mustache";
+    /**
+     * Mustache event protobuf codec template file.
+     */
+    private static final String PROTOBUF_CODEC_TEMPLATE_MUSTACHE = RESOURCES_DIR + "template/protobuf-codec-template.mustache";
+    /**
+     * Mustache protobuf codec registry template file.
+     */
+    private static final String PROTOBUF_CODECS_TEMPLATE_MUSTACHE = RESOURCES_DIR + "template/protobuf-codecs-template.mustache";
+
+    /**
+     * JsonSchema keywords that only annotate a value and are not checked by the generated validators.
+     */
+    private static final List<String> ANNOTATION_KEYWORDS = Arrays.asList("$schema", "$id", "title", "description", "contentEncoding");
 
     /**
      * Main method to generate CDEvents from Json schema files.
@@ -53,6 +96,11 @@ public final class CDEventsGenerator {
         String sdkBaseDir = args[1];
         String parentBaseDir = args[2];
         String targetPackageDir = sdkBaseDir + File.separator + "src/main/java/dev/cdevents/events";
+        String codecPackageDir = sdkBaseDir + File.separator + "src/main/java/dev/cdevents/serialization";
+        String validatorPackageDir = sdkBaseDir + File.separator + "src/main/java/dev/cdevents/validation";
+        String protobufPackageDir = sdkBaseDir + File.separator + "src/main/java/dev/cdevents/protobuf";
+        String protoDir = sdkBaseDir + File.separator + "src/main/resources/dev/cdevents/proto";
+        String modelPackageDir = sdkBaseDir + File.separator + "src/main/java/dev/cdevents/models";
         File folder = new File(parentBaseDir + File.separator + "spec" + File.separator + "schemas");
         if (folder.isDirectory()) {
             File[] files = folder.listFiles((dir, name) -> name.toLowerCase().endsWith(".json"));
@@ -60,13 +108,30 @@ public final class CDEventsGenerator {
                 //Create Mustache factory and compile event-template.mustache template
                 MustacheFactory mf = new DefaultMustacheFactory();
                 Mustache mustache = mf.compile(generatorBaseDir + File.separator + EVENT_TEMPLATE_MUSTACHE);
+                Mustache codecMustache = mf.compile(generatorBaseDir + File.separator + CODEC_TEMPLATE_MUSTACHE);
+                Mustache moduleMustache = mf.compile(generatorBaseDir + File.separator + MODULE_TEMPLATE_MUSTACHE);
+                Mustache validatorMustache = mf.compile(generatorBaseDir + File.separator + VALIDATOR_TEMPLATE_MUSTACHE);
+                Mustache validatorsMustache = mf.compile(generatorBaseDir + File.separator + VALIDATORS_TEMPLATE_MUSTACHE);
+                Mustache protoMustache = mf.compile(generatorBaseDir + File.separator + PROTO_TEMPLATE_MUSTACHE);
+                Mustache protobufCodecMustache = mf.compile(generatorBaseDir + File.separator + PROTOBUF_CODEC_TEMPLATE_MUSTACHE);
+                Mustache protobufCodecsMustache = mf.compile(generatorBaseDir + File.separator + PROTOBUF_CODECS_TEMPLATE_MUSTACHE);
 
-                //Generate a class file for each Json schema file using a mustache template
+                //Generate a class file, codec class files, a validator class file and a proto file for each Json schema file using mustache templates
 
+                Arrays.sort(files, Comparator.comparing(File::getName));
+                List<SchemaData> events = new ArrayList<>();
                 for (File file : files) {
-                    SchemaData schemaData = buildCDEventDataFromJsonSchema(file);
+                    SchemaData schemaData = buildCDEventDataFromJsonSchema(file, modelPackageDir);
                     generateClassFileFromSchemaData(mustache, schemaData, targetPackageDir);
+                    renderTemplate(codecMustache, schemaData, new File(codecPackageDir, schemaData.getEventClassName() + "Codec.java"));
+                    renderTemplate(validatorMustache, schemaData, new File(validatorPackageDir, schemaData.getEventClassName() + "Validator.java"));
+                    renderTemplate(protoMustache, schemaData, new File(protoDir, schemaData.getSubject() + "_" + schemaData.getPredicate() + ".proto"));
+                    renderTemplate(protobufCodecMustache, schemaData, new File(protobufPackageDir, schemaData.getEventClassName() + "ProtobufCodec.java"));
+                    events.add(schemaData);
                 }
+                renderTemplate(moduleMustache, Collections.singletonMap("events", events), new File(codecPackageDir, "CDEventsModule.java"));
+                renderTemplate(validatorsMustache, Collections.singletonMap("events", events), new File(validatorPackageDir, "SchemaValidators.java"));
+                renderTemplate(protobufCodecsMustache, Collections.singletonMap("events", events), new File(protobufPackageDir, "ProtobufCodecs.java"));
             } else {
                 log.error("No schema files found in the specified directory {}", folder.getAbsolutePath());
             }
@@ -90,7 +155,17 @@ public final class CDEventsGenerator {
         log.info("Rendered event-template has been written to file - {}", classFile.getAbsolutePath());
     }
 
-    private static SchemaData buildCDEventDataFromJsonSchema(File file) {
+    private static void renderTemplate(Mustache mustache, Object scope, File classFile) {
+        try (BufferedWriter bufferedWriter = new BufferedWriter(new FileWriter(classFile))) {
+            mustache.execute(bufferedWriter, scope).flush();
+        } catch (IOException e) {
+            log.error("Exception occurred while generating class file {} {}", classFile.getName(), e.getMessage());
+            throw new IllegalStateException("Exception occurred while generating class file " + classFile.getName(), e);
+        }
+        log.info("Rendered {} has been written to file - {}", mustache.getName(), classFile.getAbsolutePath());
+    }
+
+    private static SchemaData buildCDEventDataFromJsonSchema(File file, String modelPackageDir) {
         SchemaData schemaData = new SchemaData();
 
         log.info("Processing event JsonSchema file: {}", file.getAbsolutePath());
@@ -123,6 +198,8 @@ public final class CDEventsGenerator {
 
             JsonNode subjectContentNode = subjectNode.get("content").get("properties");
             updateSubjectContentProperties(schemaData, subjectContentNode);
+            updateModelObjects(schemaData, rootNode, new File(modelPackageDir, subject + File.separator + predicate));
+            updateValidatorObjects(schemaData, rootNode);
         } catch (IOException e) {
             log.error("Exception occurred while building schema data from Json schema {}", e.getMessage());
             throw new IllegalStateException("Exception occurred while building schema data from Json schema ", e);
@@ -153,8 +230,8 @@ public final class CDEventsGenerator {
             String capitalizedContentField = StringUtils.capitalize(contentField);
             JsonNode contentNode = contentMap.getValue();
             String dataType = "";
-            if (!contentNode.get("type").asText().equals("object")) {
-                if (contentNode.get("format") != null && contentNode.get("format").asText().equalsIgnoreCase("uri")) {
+            if (contentNode.get("type") == null || !contentNode.get("type").asText().equals("object")) {
+                if (contentNode.get("type") == null || contentNode.get("format") != null && contentNode.get("format").asText().equalsIgnoreCase("uri")) {
                     dataType = "URI";
                 } else if (contentNode.get("enum") != null) {
                     dataType = "Content." + capitalizedContentField;
@@ -171,7 +248,7 @@ public final class CDEventsGenerator {
                     String contentObjField = contentObjectProps.next();
                     String capitalizedContentObjField = StringUtils.capitalize(contentObjField);
                     JsonNode fieldNode = contentObjectNode.get(contentObjField);
-                    if (fieldNode.get("format") != null && fieldNode.get("format").asText().equalsIgnoreCase("uri")) {
+                    if (fieldNode.get("type") == null || fieldNode.get("format") != null && fieldNode.get("format").asText().equalsIgnoreCase("uri")) {
                         dataType = "URI";
                     } else if (fieldNode.get("enum") != null) {
                         dataType = capitalizedContentField + "." + capitalizedContentObjField;
@@ -189,6 +266,265 @@ public final class CDEventsGenerator {
         schemaData.setContentObjectFields(contentObjectFields);
     }
 
+    /**
+     * Describes the model classes generated by jsonschema2pojo for the schema, so that the codec template
+     * can read and write every field without reflection. Objects map to a class named after their property,
+     * enums to a nested enum of the owning class, date-time strings to Date, the untyped customData to Object
+     * and the other untyped properties, which are URI references, to URI.
+     * The protobuf message of an object numbers its fields in schema order. Enums and URIs are strings, dates are
+     * google.protobuf.Timestamp and customData is its json encoding in bytes, so every field is length-delimited.
+     * Whether an object holds additional properties is taken from its model class, generated before this runs,
+     * as jsonschema2pojo decides it from its own configuration as well as from the schema.
+     */
+    private static void updateModelObjects(SchemaData schemaData, JsonNode rootNode, File modelDir) throws IOException {
+        Map<String, SchemaData.ModelObject> modelObjects = new LinkedHashMap<>();
+        Map<String, String> jsonKeys = new TreeMap<>();
+        schemaData.setRootFields(getModelFields(schemaData.getEventClassName(), rootNode.get("properties"), modelObjects, jsonKeys));
+        Set<String> nestedClassNames = modelObjects.values().stream()
+                .flatMap(modelObject -> modelObject.getFields().stream())
+                .map(field -> field.getProto().getType())
+                .filter(modelObjects::containsKey)
+                .collect(Collectors.toSet());
+        List<SchemaData.ModelObject> objects = new ArrayList<>();
+        for (SchemaData.ModelObject modelObject : modelObjects.values()) {
+            objects.add(new SchemaData.ModelObject(modelObject.getClassName(), modelObject.getFields(),
+                    nestedClassNames.contains(modelObject.getClassName()),
+                    hasAdditionalProperties(new File(modelDir, modelObject.getClassName() + ".java"))));
+        }
+        schemaData.setModelObjects(objects);
+        for (SchemaData.ContentObject contentObject : schemaData.getContentObjects()) {
+            objects.stream().filter(object -> object.getClassName().equals(contentObject.getCapitalizedObjectName()))
+                    .findFirst().ifPresent(object -> contentObject.setAdditionalProperties(object.isAdditionalProperties()));
+        }
+        List<SchemaData.JsonKey> keys = new ArrayList<>();
+        jsonKeys.forEach((constantName, jsonName) -> keys.add(new SchemaData.JsonKey(constantName, jsonName)));
+        schemaData.setJsonKeys(keys);
+    }
+
+    /**
+     * @return true, If the model class has a JsonAnySetter, which jsonschema2pojo adds for additional properties
+     */
+    private static boolean hasAdditionalProperties(File modelFile) throws IOException {
+        return modelFile.isFile()
+                && new String(Files.readAllBytes(modelFile.toPath()), StandardCharsets.UTF_8).contains("@JsonAnySetter");
+    }
+
+    private static List<SchemaData.ModelField> getModelFields(String ownerClassName, JsonNode propertiesNode,
+                                                              Map<String, SchemaData.ModelObject> modelObjects,
+                                                              Map<String, String> jsonKeys) {
+        List<SchemaData.ModelField> modelFields = new ArrayList<>();
+        if (propertiesNode == null) {
+            return modelFields;
+        }
+        Iterator<Map.Entry<String, JsonNode>> properties = propertiesNode.fields();
+        int fieldNumber = 0;
+        while (properties.hasNext()) {
+            Map.Entry<String, JsonNode> property = properties.next();
+            String jsonName = property.getKey();
+            JsonNode propertyNode = property.getValue();
+            String capitalizedName = StringUtils.capitalize(jsonName);
+            String constantName = getConstantName(jsonName);
+            jsonKeys.put(constantName, jsonName);
+            String type = propertyNode.has("type") ? propertyNode.get("type").asText() : null;
+            String writeMethod;
+            String readCall;
+            String protoType;
+            String protoKind;
+            String protoReadCall;
+            fieldNumber++;
+            if ("object".equals(type)) {
+                if (!modelObjects.containsKey(capitalizedName)) {
+                    modelObjects.put(capitalizedName, null);
+                    modelObjects.put(capitalizedName, new SchemaData.ModelObject(capitalizedName,
+                            getModelFields(capitalizedName, propertyNode.get("properties"), modelObjects, jsonKeys), false, false));
+                }
+                writeMethod = "write" + capitalizedName;
+                readCall = "read" + capitalizedName + "(parser, context)";
+                protoType = capitalizedName;
+                protoKind = null;
+                protoReadCall = "read" + capitalizedName + "(input)";
+            } else if (propertyNode.has("enum")) {
+                writeMethod = "CDEventJson.writeEnum";
+                readCall = "CDEventJson.readEnum(parser, " + ownerClassName + "." + capitalizedName + "::fromValue)";
+                protoType = "string";
+                protoKind = "Enum";
+                protoReadCall = "ProtobufFields.readEnum(input, " + ownerClassName + "." + capitalizedName + "::fromValue)";
+            } else if ("string".equals(type) && propertyNode.has("format")
+                    && propertyNode.get("format").asText().equals("date-time")) {
+                writeMethod = "CDEventJson.writeDate";
+                readCall = "CDEventJson.readDate(parser, context)";
+                protoType = "google.protobuf.Timestamp";
+                protoKind = "Date";
+                protoReadCall = "ProtobufFields.readDate(input)";
+            } else if ("string".equals(type)) {
+                writeMethod = "CDEventJson.writeString";
+                readCall = "CDEventJson.readString(parser)";
+                protoType = "string";
+                protoKind = "String";
+                protoReadCall = "ProtobufFields.readString(input)";
+            } else if (type == null && propertyNode.has("oneOf")) {
+                writeMethod = "CDEventJson.writeAny";
+                readCall = "CDEventJson.readAny(parser, context)";
+                protoType = "bytes";
+                protoKind = "Any";
+                protoReadCall = "ProtobufFields.readAny(input)";
+            } else if (type == null) {
+                writeMethod = "CDEventJson.writeUri";
+                readCall = "CDEventJson.readUri(parser)";
+                protoType = "string";
+                protoKind = "Uri";
+                protoReadCall = "ProtobufFields.readUri(input)";
+            } else {
+                throw new IllegalStateException("Unsupported type " + type + " of property " + jsonName);
+            }
+            SchemaData.ProtoField protoField = new SchemaData.ProtoField(fieldNumber, constantName.toLowerCase(), protoType,
+                    "WireFormat.WIRETYPE_LENGTH_DELIMITED",
+                    protoKind == null ? "size" + capitalizedName : "ProtobufFields.size" + protoKind,
+                    protoKind == null ? "write" + capitalizedName : "ProtobufFields.write" + protoKind, protoReadCall);
+            modelFields.add(new SchemaData.ModelField(jsonName, capitalizedName, constantName, writeMethod, readCall, protoField));
+        }
+        return modelFields;
+    }
+
+    /**
+     * Compiles the schema into the checks of the generated validator. Every object schema gets a validate method
+     * for a json tree and one for its model class, which check each keyword of the properties the same way as the
+     * JsonSchema does. Model values that always satisfy their keywords, such as enums and dates, are not checked.
+     * Keywords that the validator template does not support fail the generation, so that a schema change cannot
+     * silently weaken validation. Additional properties that a model class holds in a map are checked against
+     * the schema as well, since the codecs write them.
+     */
+    private static void updateValidatorObjects(SchemaData schemaData, JsonNode rootNode) {
+        List<SchemaData.ValidatorObject> validatorObjects = new ArrayList<>();
+        List<String> constants = new ArrayList<>();
+        addValidatorObject(schemaData.getEventClassName(), "$", "validateEvent", rootNode, validatorObjects, constants);
+        for (SchemaData.ValidatorObject validatorObject : validatorObjects) {
+            schemaData.getModelObjects().stream().filter(object -> object.getClassName().equals(validatorObject.getClassName()))
+                    .findFirst().ifPresent(object -> validatorObject.setAdditionalProperties(object.isAdditionalProperties()));
+        }
+        schemaData.setValidatorObjects(validatorObjects);
+        schemaData.setValidatorConstants(constants);
+    }
+
+    private static void addValidatorObject(String className, String path, String methodName, JsonNode objectNode,
+                                           List<SchemaData.ValidatorObject> validatorObjects, List<String> constants) {
+        checkKeywords(objectNode, path, "type", "properties", "required", "additionalProperties");
+        List<SchemaData.ValidatorProperty> requiredProperties = new ArrayList<>();
+        List<SchemaData.ValidatorProperty> properties = new ArrayList<>();
+        SchemaData.ValidatorObject validatorObject = new SchemaData.ValidatorObject(methodName, path, className,
+                objectNode.has("additionalProperties") && !objectNode.get("additionalProperties").asBoolean(true),
+                requiredProperties, properties);
+        validatorObjects.add(validatorObject);
+        if (objectNode.has("required")) {
+            for (JsonNode requiredNode : objectNode.get("required")) {
+                String jsonName = requiredNode.asText();
+                requiredProperties.add(new SchemaData.ValidatorProperty(jsonName, StringUtils.capitalize(jsonName), null, null));
+            }
+        }
+        if (!objectNode.has("properties")) {
+            return;
+        }
+        Iterator<Map.Entry<String, JsonNode>> propertyNodes = objectNode.get("properties").fields();
+        while (propertyNodes.hasNext()) {
+            Map.Entry<String, JsonNode> property = propertyNodes.next();
+            String jsonName = property.getKey();
+            JsonNode propertyNode = property.getValue();
+            String capitalizedName = StringUtils.capitalize(jsonName);
+            String propertyPath = path + "." + jsonName;
+            String pathLiteral = "\"" + propertyPath + "\"";
+            String getter = "value.get" + capitalizedName + "()";
+            String constantPrefix = getConstantName(propertyPath.substring(2).replace('.', '_'));
+            List<String> nodeChecks = new ArrayList<>();
+            List<String> modelChecks = new ArrayList<>();
+            String type = propertyNode.has("type") ? propertyNode.get("type").asText() : null;
+            if (type != null) {
+                nodeChecks.add("SchemaChecks.type(value, " + getNodeType(type, propertyPath) + ", " + pathLiteral + ", errors);");
+            }
+            if ("object".equals(type)) {
+                String objectMethodName = "validate" + Arrays.stream(propertyPath.substring(2).split("\\."))
+                        .map(StringUtils::capitalize).collect(Collectors.joining());
+                nodeChecks.add(objectMethodName + "(value, errors);");
+                modelChecks.add(objectMethodName + "(" + getter + ", errors);");
+                addValidatorObject(capitalizedName, propertyPath, objectMethodName, propertyNode, validatorObjects, constants);
+            } else {
+                checkKeywords(propertyNode, propertyPath, "type", "minLength", "enum", "format", "oneOf");
+                boolean enumModel = propertyNode.has("enum");
+                boolean dateModel = "string".equals(type) && propertyNode.has("format")
+                        && propertyNode.get("format").asText().equals("date-time");
+                if (propertyNode.has("minLength")) {
+                    int minLength = propertyNode.get("minLength").asInt();
+                    nodeChecks.add("SchemaChecks.minLength(value, " + minLength + ", " + pathLiteral + ", errors);");
+                    if ("string".equals(type) && !enumModel && !dateModel) {
+                        modelChecks.add("SchemaChecks.minLength(" + getter + ", " + minLength + ", " + pathLiteral + ", errors);");
+                    }
+                }
+                if (enumModel) {
+                    List<String> values = new ArrayList<>();
+                    for (JsonNode valueNode : propertyNode.get("enum")) {
+                        if (!valueNode.isTextual()) {
+                            throw new IllegalStateException("Unsupported enum value " + valueNode + " of property " + propertyPath);
+                        }
+                        values.add("\"" + valueNode.asText() + "\"");
+                    }
+                    String constantName = constantPrefix + "_VALUES";
+                    constants.add("private static final String[] " + constantName + " = {" + String.join(", ", values) + "};");
+                    nodeChecks.add("SchemaChecks.enumValue(value, " + constantName + ", " + pathLiteral + ", errors);");
+                }
+                // format is an annotation in JsonSchema 2020-12, so date-time strings are not checked,
+                // as with the JsonSchema validation of SchemaRegistry
+                if (propertyNode.has("format") && !dateModel) {
+                    throw new IllegalStateException("Unsupported format " + propertyNode.get("format") + " of property " + propertyPath);
+                }
+                if (propertyNode.has("oneOf")) {
+                    List<String> nodeTypes = new ArrayList<>();
+                    for (JsonNode branchNode : propertyNode.get("oneOf")) {
+                        checkKeywords(branchNode, propertyPath, "type");
+                        nodeTypes.add(getNodeType(branchNode.get("type").asText(), propertyPath));
+                    }
+                    String constantName = constantPrefix + "_TYPES";
+                    constants.add("private static final JsonNodeType[] " + constantName + " = {" + String.join(", ", nodeTypes) + "};");
+                    nodeChecks.add("SchemaChecks.oneOfType(value.getNodeType(), " + constantName + ", " + pathLiteral + ", errors);");
+                    modelChecks.add("SchemaChecks.oneOfType(SchemaChecks.nodeType(" + getter + "), " + constantName + ", " + pathLiteral + ", errors);");
+                }
+            }
+            properties.add(new SchemaData.ValidatorProperty(jsonName, capitalizedName, nodeChecks, modelChecks));
+        }
+    }
+
+    private static void checkKeywords(JsonNode schemaNode, String path, String... supportedKeywords) {
+        List<String> supported = Arrays.asList(supportedKeywords);
+        Iterator<String> keywords = schemaNode.fieldNames();
+        while (keywords.hasNext()) {
+            String keyword = keywords.next();
+            if (!supported.contains(keyword) && !ANNOTATION_KEYWORDS.contains(keyword)) {
+                throw new IllegalStateException("Unsupported JsonSchema keyword " + keyword + " of " + path);
+            }
+        }
+    }
+
+    private static String getNodeType(String type, String path) {
+        switch (type) {
+            case "object":
+                return "JsonNodeType.OBJECT";
+            case "string":
+                return "JsonNodeType.STRING";
+            default:
+                throw new IllegalStateException("Unsupported type " + type + " of " + path);
+        }
+    }
+
+    private static String getConstantName(String jsonName) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < jsonName.length(); i++) {
+            char currentChar = jsonName.charAt(i);
+            if (i > 0 && Character.isUpperCase(currentChar) && Character.isLowerCase(jsonName.charAt(i - 1))) {
+                sb.append('_');
+            }
+            sb.append(Character.toUpperCase(currentChar));
+        }
+        return sb.toString();
+    }
+
     private static String getFieldsDataType(String fieldName) {
         if (fieldName.equalsIgnoreCase("url")) {
             return "URI";
@@ -20,6 +20,13 @@ public class SchemaData {
     private List<ContentObjectField> contentObjectFields;
     private List<ContentObject> contentObjects;
 
+    private List<ModelField> rootFields;
+    private List<ModelObject> modelObjects;
+    private List<JsonKey> jsonKeys;
+
+    private List<ValidatorObject> validatorObjects;
+    private List<String> validatorConstants;
+
     /**
      * Default constructor.
      */
@@ -180,6 +187,83 @@ public class SchemaData {
         this.contentObjects = contentObjects;
     }
 
+    /**
+     * @return the class name of the CDEvent generated for an event
+     */
+    public String getEventClassName() {
+        return capitalizedSubject + capitalizedPredicate + "CDEvent";
+    }
+
+    /**
+     * @return the fields of the event root object, in schema order
+     */
+    public List<ModelField> getRootFields() {
+        return rootFields;
+    }
+
+    /**
+     * @param rootFields
+     */
+    public void setRootFields(List<ModelField> rootFields) {
+        this.rootFields = rootFields;
+    }
+
+    /**
+     * @return the nested model objects of an event, such as context, subject and content
+     */
+    public List<ModelObject> getModelObjects() {
+        return modelObjects;
+    }
+
+    /**
+     * @param modelObjects
+     */
+    public void setModelObjects(List<ModelObject> modelObjects) {
+        this.modelObjects = modelObjects;
+    }
+
+    /**
+     * @return the distinct Json field names of an event
+     */
+    public List<JsonKey> getJsonKeys() {
+        return jsonKeys;
+    }
+
+    /**
+     * @param jsonKeys
+     */
+    public void setJsonKeys(List<JsonKey> jsonKeys) {
+        this.jsonKeys = jsonKeys;
+    }
+
+    /**
+     * @return the object schemas of an event, each validated by its own generated method
+     */
+    public List<ValidatorObject> getValidatorObjects() {
+        return validatorObjects;
+    }
+
+    /**
+     * @param validatorObjects
+     */
+    public void setValidatorObjects(List<ValidatorObject> validatorObjects) {
+        this.validatorObjects = validatorObjects;
+    }
+
+    /**
+     * @return the constant declarations used by the generated validator, such as enum values
+     */
+    public List<String> getValidatorConstants() {
+        return validatorConstants;
+    }
+
+    /**
+     * @param validatorConstants
+     */
+    public void setValidatorConstants(List<String> validatorConstants) {
+        this.validatorConstants = validatorConstants;
+    }
+
     public static class ContentField {
         private String fieldName;
         private String capitalizedFieldName;
@@ -334,6 +418,7 @@ public class SchemaData {
 
     public static class ContentObject {
         private String capitalizedObjectName;
+        private boolean additionalProperties;
 
         /**
          * @return capitalizedObjectName
@@ -349,6 +434,20 @@ public class SchemaData {
             this.capitalizedObjectName = capitalizedObjectName;
         }
 
+        /**
+         * @return true, If the content object holds additional properties in a map
+         */
+        public boolean isAdditionalProperties() {
+            return additionalProperties;
+        }
+
+        /**
+         * @param additionalProperties
+         */
+        public void setAdditionalProperties(boolean additionalProperties) {
+            this.additionalProperties = additionalProperties;
+        }
+
         /**
          * @param capitalizedObjectName
          */
@@ -356,4 +455,367 @@ public class SchemaData {
             this.capitalizedObjectName = capitalizedObjectName;
         }
     }
+
+    public static class ModelField {
+        private final String jsonName;
+        private final String capitalizedName;
+        private final String constantName;
+        private final String writeMethod;
+        private final String readCall;
+        private final ProtoField proto;
+
+        /**
+         * @param jsonName
+         * @param capitalizedName
+         * @param constantName
+         * @param writeMethod
+         * @param readCall
+         * @param proto
+         */
+        public ModelField(String jsonName, String capitalizedName, String constantName, String writeMethod, String readCall,
+                          ProtoField proto) {
+            this.jsonName = jsonName;
+            this.capitalizedName = capitalizedName;
+            this.constantName = constantName;
+            this.writeMethod = writeMethod;
+            this.readCall = readCall;
+            this.proto = proto;
+        }
+
+        /**
+         * @return the Json name of a model field
+         */
+        public String getJsonName() {
+            return jsonName;
+        }
+
+        /**
+         * @return the Capitalized name of a model field, as used by its getter and setter
+         */
+        public String getCapitalizedName() {
+            return capitalizedName;
+        }
+
+        /**
+         * @return the name of the constant holding the serialized Json name
+         */
+        public String getConstantName() {
+            return constantName;
+        }
+
+        /**
+         * @return the method writing the field value
+         */
+        public String getWriteMethod() {
+            return writeMethod;
+        }
+
+        /**
+         * @return the expression reading the field value
+         */
+        public String getReadCall() {
+            return readCall;
+        }
+
+        /**
+         * @return the protobuf message field of the model field
+         */
+        public ProtoField getProto() {
+            return proto;
+        }
+    }
+
+    public static class ProtoField {
+        private final int fieldNumber;
+        private final String name;
+        private final String type;
+        private final String wireType;
+        private final String sizeMethod;
+        private final String writeMethod;
+        private final String readCall;
+
+        /**
+         * @param fieldNumber
+         * @param name
+         * @param type
+         * @param wireType
+         * @param sizeMethod
+         * @param writeMethod
+         * @param readCall
+         */
+        public ProtoField(int fieldNumber, String name, String type, String wireType, String sizeMethod,
+                          String writeMethod, String readCall) {
+            this.fieldNumber = fieldNumber;
+            this.name = name;
+            this.type = type;
+            this.wireType = wireType;
+            this.sizeMethod = sizeMethod;
+            this.writeMethod = writeMethod;
+            this.readCall = readCall;
+        }
+
+        /**
+         * @return the field number, the position of the property in the schema
+         */
+        public int getFieldNumber() {
+            return fieldNumber;
+        }
+
+        /**
+         * @return the snake case field name
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * @return the protobuf type of the field
+         */
+        public String getType() {
+            return type;
+        }
+
+        /**
+         * @return the WireFormat constant of the wire type the field is encoded with
+         */
+        public String getWireType() {
+            return wireType;
+        }
+
+        /**
+         * @return the method computing the encoded size of the field value
+         */
+        public String getSizeMethod() {
+            return sizeMethod;
+        }
+
+        /**
+         * @return the method writing the field value
+         */
+        public String getWriteMethod() {
+            return writeMethod;
+        }
+
+        /**
+         * @return the expression reading the field value
+         */
+        public String getReadCall() {
+            return readCall;
+        }
+    }
+
+    public static class ModelObject {
+        private final String className;
+        private final List<ModelField> fields;
+        private final boolean nested;
+        private final boolean additionalProperties;
+
+        /**
+         * @param className
+         * @param fields
+         * @param nested
+         * @param additionalProperties
+         */
+        public ModelObject(String className, List<ModelField> fields, boolean nested, boolean additionalProperties) {
+            this.className = className;
+            this.fields = fields;
+            this.nested = nested;
+            this.additionalProperties = additionalProperties;
+        }
+
+        /**
+         * @return the class name of a model object
+         */
+        public String getClassName() {
+            return className;
+        }
+
+        /**
+         * @return the fields of a model object, in schema order
+         */
+        public List<ModelField> getFields() {
+            return fields;
+        }
+
+        /**
+         * @return true, If the model object is a field of another model object rather than of the event
+         */
+        public boolean isNested() {
+            return nested;
+        }
+
+        /**
+         * @return true, If the schema allows additional properties, which the model object holds in a map
+         */
+        public boolean isAdditionalProperties() {
+            return additionalProperties;
+        }
+    }
+
+    public static class JsonKey {
+        private final String constantName;
+        private final String jsonName;
+
+        /**
+         * @param constantName
+         * @param jsonName
+         */
+        public JsonKey(String constantName, String jsonName) {
+            this.constantName = constantName;
+            this.jsonName = jsonName;
+        }
+
+        /**
+         * @return the name of the constant holding the serialized Json name
+         */
+        public String getConstantName() {
+            return constantName;
+        }
+
+        /**
+         * @return the Json name
+         */
+        public String getJsonName() {
+            return jsonName;
+        }
+    }
+
+    public static class ValidatorObject {
+        private final String methodName;
+        private final String path;
+        private final String className;
+        private final boolean closed;
+        private boolean additionalProperties;
+        private final List<ValidatorProperty> requiredProperties;
+        private final List<ValidatorProperty> properties;
+
+        /**
+         * @param methodName
+         * @param path
+         * @param className
+         * @param closed
+         * @param requiredProperties
+         * @param properties
+         */
+        public ValidatorObject(String methodName, String path, String className, boolean closed,
+                               List<ValidatorProperty> requiredProperties, List<ValidatorProperty> properties) {
+            this.methodName = methodName;
+            this.path = path;
+            this.className = className;
+            this.closed = closed;
+            this.requiredProperties = requiredProperties;
+            this.properties = properties;
+        }
+
+        /**
+         * @return the name of the validate method of the object, e.g. validateSubjectContent
+         */
+        public String getMethodName() {
+            return methodName;
+        }
+
+        /**
+         * @return the json path of the object, e.g. $.subject.content
+         */
+        public String getPath() {
+            return path;
+        }
+
+        /**
+         * @return true, If the object is the event itself
+         */
+        public boolean isRoot() {
+            return "$".equals(path);
+        }
+
+        /**
+         * @return the model class bound to the object
+         */
+        public String getClassName() {
+            return className;
+        }
+
+        /**
+         * @return true, If the object does not allow additional properties
+         */
+        public boolean isClosed() {
+            return closed;
+        }
+
+        /**
+         * @return true, If the model class holds additional properties in a map
+         */
+        public boolean isAdditionalProperties() {
+            return additionalProperties;
+        }
+
+        /**
+         * @param additionalProperties
+         */
+        public void setAdditionalProperties(boolean additionalProperties) {
+            this.additionalProperties = additionalProperties;
+        }
+
+        /**
+         * @return the required properties of the object
+         */
+        public List<ValidatorProperty> getRequiredProperties() {
+            return requiredProperties;
+        }
+
+        /**
+         * @return the properties of the object, in schema order
+         */
+        public List<ValidatorProperty> getProperties() {
+            return properties;
+        }
+    }
+
+    public static class ValidatorProperty {
+        private final String jsonName;
+        private final String capitalizedName;
+        private final List<String> nodeChecks;
+        private final List<String> modelChecks;
+
+        /**
+         * @param jsonName
+         * @param capitalizedName
+         * @param nodeChecks
+         * @param modelChecks
+         */
+        public ValidatorProperty(String jsonName, String capitalizedName, List<String> nodeChecks, List<String> modelChecks) {
+            this.jsonName = jsonName;
+            this.capitalizedName = capitalizedName;
+            this.nodeChecks = nodeChecks;
+            this.modelChecks = modelChecks;
+        }
+
+        /**
+         * @return the json name of the property
+         */
+        public String getJsonName() {
+            return jsonName;
+        }
+
+        /**
+         * @return the capitalized name of the property, as used by the model getter
+         */
+        public String getCapitalizedName() {
+            return capitalizedName;
+        }
+
+        /**
+         * @return the statements validating the property value of a json tree
+         */
+        public List<String> getNodeChecks() {
+            return nodeChecks;
+        }
+
+        /**
+         * @return the statements validating the property value of a model object
+         */
+        public List<String> getModelChecks() {
+            return modelChecks;
+        }
+    }
 }
@@ -0,0 +1,336 @@
+package dev.cdevents.http;
+
+import dev.cdevents.emitter.CDEventTransport;
+import dev.cdevents.format.CDEventFormat;
+import io.cloudevents.CloudEvent;
+import io.cloudevents.CloudEventData;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * {@link CDEventTransport} sending CloudEvents over HTTP with the JDK {@link HttpClient}.
+ * The client keeps connections alive and reuses them across batches, and with HTTP/2 the
+ * requests of a batch sent in {@link HttpTransportMode#BINARY} or {@link HttpTransportMode#STRUCTURED}
+ * mode are multiplexed over a single connection. Request bodies can be gzip compressed.
+ */
+public final class HttpCDEventTransport implements CDEventTransport {
+
+    /**
+     * Content type of a CloudEvents json batch.
+     */
+    public static final String BATCH_CONTENT_TYPE = "application/cloudevents-batch+json";
+
+    private static final String CONTENT_TYPE = "Content-Type";
+    private static final String CONTENT_ENCODING = "Content-Encoding";
+    private static final String GZIP = "gzip";
+    private static final String HEADER_PREFIX = "ce-";
+    private static final char[] HEX_DIGITS = "0123456789ABCDEF".toCharArray();
+    private static final int PERCENT_ENCODED_LENGTH = 3;
+    private static final int BYTE_MASK = 0xFF;
+    private static final int HEX_DIGIT_BITS = 4;
+    private static final int HEX_DIGIT_MASK = 0xF;
+
+    private final HttpClient httpClient;
+    private final URI uri;
+    private final HttpTransportMode mode;
+    private final boolean gzip;
+    private final Duration requestTimeout;
+    private final Map<String, String> headers;
+    private final CDEventFormat eventFormat = new CDEventFormat();
+
+    private HttpCDEventTransport(Builder builder) {
+        this.httpClient = builder.httpClient != null ? builder.httpClient : HttpClient.newBuilder()
+                .version(builder.httpVersion)
+                .connectTimeout(builder.connectTimeout)
+                .build();
+        this.uri = builder.uri;
+        this.mode = builder.mode;
+        this.gzip = builder.gzip;
+        this.requestTimeout = builder.requestTimeout;
+        this.headers = new LinkedHashMap<>(builder.headers);
+    }
+
+    /**
+     * @param uri the endpoint to send CloudEvents to
+     * @return a builder of a transport sending to the uri
+     */
+    public static Builder builder(URI uri) {
+        return new Builder(uri);
+    }
+
+    @Override
+    public void send(List<CloudEvent> cloudEvents) throws IOException {
+        if (mode == HttpTransportMode.BATCH) {
+            checkResponse(send(newRequest(BATCH_CONTENT_TYPE), batchBody(cloudEvents)));
+            return;
+        }
+        List<CompletableFuture<HttpResponse<Void>>> responses = new ArrayList<>(cloudEvents.size());
+        for (CloudEvent cloudEvent : cloudEvents) {
+            responses.add(sendAsync(cloudEvent));
+        }
+        for (CompletableFuture<HttpResponse<Void>> response : responses) {
+            try {
+                checkResponse(response.get());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted while sending CloudEvents to " + uri, e);
+            } catch (ExecutionException e) {
+                throw new IOException("Exception occurred while sending CloudEvents to " + uri, e.getCause());
+            }
+        }
+    }
+
+    private CompletableFuture<HttpResponse<Void>> sendAsync(CloudEvent cloudEvent) throws IOException {
+        HttpRequest.Builder request;
+        byte[] body;
+        if (mode == HttpTransportMode.STRUCTURED) {
+            request = newRequest(CDEventFormat.CONTENT_TYPE);
+            body = eventFormat.serialize(cloudEvent);
+        } else {
+            request = newRequest(cloudEvent.getDataContentType());
+            addBinaryHeaders(request, cloudEvent);
+            CloudEventData data = cloudEvent.getData();
+            body = data != null ? data.toBytes() : new byte[0];
+        }
+        return httpClient.sendAsync(withBody(request, body).build(), HttpResponse.BodyHandlers.discarding());
+    }
+
+    private HttpResponse<Void> send(HttpRequest.Builder request, byte[] body) throws IOException {
+        try {
+            return httpClient.send(withBody(request, body).build(), HttpResponse.BodyHandlers.discarding());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while sending CloudEvents to " + uri, e);
+        }
+    }
+
+    private HttpRequest.Builder newRequest(String contentType) {
+        HttpRequest.Builder request = HttpRequest.newBuilder(uri).timeout(requestTimeout);
+        headers.forEach(request::header);
+        if (contentType != null) {
+            request.header(CONTENT_TYPE, contentType);
+        }
+        return request;
+    }
+
+    private HttpRequest.Builder withBody(HttpRequest.Builder request, byte[] body) throws IOException {
+        if (gzip) {
+            request.header(CONTENT_ENCODING, GZIP);
+            return request.POST(HttpRequest.BodyPublishers.ofByteArray(gzip(body)));
+        }
+        return request.POST(HttpRequest.BodyPublishers.ofByteArray(body));
+    }
+
+    private byte[] batchBody(List<CloudEvent> cloudEvents) {
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        body.write('[');
+        for (int i = 0; i < cloudEvents.size(); i++) {
+            if (i > 0) {
+                body.write(',');
+            }
+            eventFormat.serialize(cloudEvents.get(i), body);
+        }
+        body.write(']');
+        return body.toByteArray();
+    }
+
+    private static void addBinaryHeaders(HttpRequest.Builder request, CloudEvent cloudEvent) {
+        addHeader(request, "specversion", cloudEvent.getSpecVersion().toString());
+        addHeader(request, "id", cloudEvent.getId());
+        addHeader(request, "source", cloudEvent.getSource().toString());
+        addHeader(request, "type", cloudEvent.getType());
+        if (cloudEvent.getDataSchema() != null) {
+            addHeader(request, "dataschema", cloudEvent.getDataSchema().toString());
+        }
+        if (cloudEvent.getTime() != null) {
+            addHeader(request, "time", DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(cloudEvent.getTime()));
+        }
+        if (cloudEvent.getSubject() != null) {
+            addHeader(request, "subject", cloudEvent.getSubject());
+        }
+        for (String extensionName : cloudEvent.getExtensionNames()) {
+            Object value = cloudEvent.getExtension(extensionName);
+            if (value instanceof byte[]) {
+                addHeader(request, extensionName, Base64.getEncoder().encodeToString((byte[]) value));
+            } else if (value instanceof OffsetDateTime) {
+                addHeader(request, extensionName, DateTimeFormatter.ISO_OFFSET_DATE_TIME.format((OffsetDateTime) value));
+            } else {
+                addHeader(request, extensionName, String.valueOf(value));
+            }
+        }
+    }
+
+    private static void addHeader(HttpRequest.Builder request, String attributeName, String value) {
+        request.header(HEADER_PREFIX + attributeName, encodeHeaderValue(value));
+    }
+
+    /**
+     * Percent-encodes the UTF-8 bytes of space, double-quote, percent and the characters outside printable ASCII,
+     * as the CloudEvents HTTP binding requires for header values.
+     */
+    static String encodeHeaderValue(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            if (mustBeEncoded(value.charAt(i))) {
+                byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+                StringBuilder encoded = new StringBuilder(bytes.length * PERCENT_ENCODED_LENGTH);
+                for (byte b : bytes) {
+                    int c = b & BYTE_MASK;
+                    if (mustBeEncoded(c)) {
+                        encoded.append('%').append(HEX_DIGITS[c >>> HEX_DIGIT_BITS]).append(HEX_DIGITS[c & HEX_DIGIT_MASK]);
+                    } else {
+                        encoded.append((char) c);
+                    }
+                }
+                return encoded.toString();
+            }
+        }
+        return value;
+    }
+
+    private static boolean mustBeEncoded(int c) {
+        return c <= ' ' || c > '~' || c == '"' || c == '%';
+    }
+
+    private static byte[] gzip(byte[] body) throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(body.length / 2 + 64);
+        try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(compressed)) {
+            gzipOutputStream.write(body);
+        }
+        return compressed.toByteArray();
+    }
+
+    private void checkResponse(HttpResponse<Void> response) throws IOException {
+        int status = response.statusCode();
+        if (status < 200 || status >= 300) {
+            throw new IOException("Sending CloudEvents to " + uri + " failed with HTTP status " + status);
+        }
+    }
+
+    /**
+     * Builder of a {@link HttpCDEventTransport}, created with {@link HttpCDEventTransport#builder(URI)}.
+     */
+    public static final class Builder {
+
+        private final URI uri;
+        private HttpTransportMode mode = HttpTransportMode.BATCH;
+        private HttpClient.Version httpVersion = HttpClient.Version.HTTP_2;
+        private boolean gzip;
+        private Duration connectTimeout = Duration.ofSeconds(10);
+        private Duration requestTimeout = Duration.ofSeconds(30);
+        private final Map<String, String> headers = new LinkedHashMap<>();
+        private HttpClient httpClient;
+
+        private Builder(URI uri) {
+            if (uri == null) {
+                throw new IllegalArgumentException("URI must not be null");
+            }
+            this.uri = uri;
+        }
+
+        /**
+         * @param transportMode how CloudEvents are encoded, defaults to {@link HttpTransportMode#BATCH}
+         * @return this builder
+         */
+        public Builder mode(HttpTransportMode transportMode) {
+            if (transportMode == null) {
+                throw new IllegalArgumentException("Transport mode must not be null");
+            }
+            this.mode = transportMode;
+            return this;
+        }
+
+        /**
+         * @param version preferred HTTP version, defaults to HTTP/2 with fallback to HTTP/1.1
+         * @return this builder
+         */
+        public Builder httpVersion(HttpClient.Version version) {
+            if (version == null) {
+                throw new IllegalArgumentException("HTTP version must not be null");
+            }
+            this.httpVersion = version;
+            return this;
+        }
+
+        /**
+         * @param compress true, to gzip compress request bodies
+         * @return this builder
+         */
+        public Builder gzip(boolean compress) {
+            this.gzip = compress;
+            return this;
+        }
+
+        /**
+         * @param timeout connect timeout, defaults to 10 seconds
+         * @return this builder
+         */
+        public Builder connectTimeout(Duration timeout) {
+            if (timeout == null || timeout.isNegative() || timeout.isZero()) {
+                throw new IllegalArgumentException("Connect timeout must be positive, got " + timeout);
+            }
+            this.connectTimeout = timeout;
+            return this;
+        }
+
+        /**
+         * @param timeout timeout of each request, defaults to 30 seconds
+         * @return this builder
+         */
+        public Builder requestTimeout(Duration timeout) {
+            if (timeout == null || timeout.isNegative() || timeout.isZero()) {
+                throw new IllegalArgumentException("Request timeout must be positive, got " + timeout);
+            }
+            this.requestTimeout = timeout;
+            return this;
+        }
+
+        /**
+         * @param name header name
+         * @param value header value
+         * @return this builder
+         */
+        public Builder header(String name, String value) {
+            if (name == null || value == null) {
+                throw new IllegalArgumentException("Header name and value must not be null");
+            }
+            this.headers.put(name, value);
+            return this;
+        }
+
+        /**
+         * @param client client to send requests with, instead of one created from this builder
+         * @return this builder
+         */
+        public Builder httpClient(HttpClient client) {
+            if (client == null) {
+                throw new IllegalArgumentException("HTTP client must not be null");
+            }
+            this.httpClient = client;
+            return this;
+        }
+
+        /**
+         * @return the transport
+         */
+        public HttpCDEventTransport build() {
+            return new HttpCDEventTransport(this);
+        }
+    }
+}
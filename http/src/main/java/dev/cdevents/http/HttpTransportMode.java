@@ -0,0 +1,16 @@
+package dev.cdevents.http;
+
+public enum HttpTransportMode {
+    /**
+     * One request per event, CloudEvent attributes as ce- headers and the event data as body.
+     */
+    BINARY,
+    /**
+     * One request per event, the whole CloudEvent as an application/cloudevents+json body.
+     */
+    STRUCTURED,
+    /**
+     * One request per batch, the CloudEvents as an application/cloudevents-batch+json array.
+     */
+    BATCH
+}
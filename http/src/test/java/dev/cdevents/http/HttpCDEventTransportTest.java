@@ -0,0 +1,162 @@
+package dev.cdevents.http;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpServer;
+import dev.cdevents.CDEvents;
+import dev.cdevents.events.PipelinerunStartedCDEvent;
+import io.cloudevents.CloudEvent;
+import io.cloudevents.core.builder.CloudEventBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class HttpCDEventTransportTest {
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final List<Headers> requestHeaders = Collections.synchronizedList(new ArrayList<>());
+    private final List<byte[]> requestBodies = Collections.synchronizedList(new ArrayList<>());
+    private volatile int responseStatus = 202;
+    private HttpServer server;
+    private URI uri;
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/events", exchange -> {
+            byte[] body;
+            try (InputStream inputStream = exchange.getRequestBody()) {
+                body = inputStream.readAllBytes();
+            }
+            requestHeaders.add(exchange.getRequestHeaders());
+            requestBodies.add(body);
+            exchange.sendResponseHeaders(responseStatus, -1);
+            exchange.close();
+        });
+        server.start();
+        uri = URI.create("http://localhost:" + server.getAddress().getPort() + "/events");
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.stop(0);
+    }
+
+    @Test
+    void batchIsSentAsOneCloudEventsBatchRequest() throws IOException {
+        HttpCDEventTransport transport = HttpCDEventTransport.builder(uri).build();
+        List<CloudEvent> cloudEvents = Arrays.asList(pipelineRunStartedCloudEvent(), pipelineRunStartedCloudEvent());
+
+        transport.send(cloudEvents);
+
+        assertThat(requestBodies).hasSize(1);
+        assertThat(requestHeaders.get(0).getFirst("Content-Type")).isEqualTo(HttpCDEventTransport.BATCH_CONTENT_TYPE);
+        JsonNode batch = objectMapper.readTree(requestBodies.get(0));
+        assertThat(batch.isArray()).isTrue();
+        assertThat(batch).hasSize(2);
+        assertThat(batch.get(0).get("id").asText()).isEqualTo(cloudEvents.get(0).getId());
+        assertThat(batch.get(1).get("data").get("context").get("type").asText()).isEqualTo(cloudEvents.get(1).getType());
+    }
+
+    @Test
+    void eventsAreSentOnePerRequestInStructuredMode() throws IOException {
+        HttpCDEventTransport transport = HttpCDEventTransport.builder(uri).mode(HttpTransportMode.STRUCTURED).build();
+
+        transport.send(Arrays.asList(pipelineRunStartedCloudEvent(), pipelineRunStartedCloudEvent()));
+
+        assertThat(requestBodies).hasSize(2);
+        assertThat(requestHeaders.get(0).getFirst("Content-Type")).isEqualTo("application/cloudevents+json");
+        assertThat(objectMapper.readTree(requestBodies.get(0)).get("type").asText()).startsWith("dev.cdevents.pipelinerun.started.");
+    }
+
+    @Test
+    void eventAttributesAreSentAsHeadersInBinaryMode() throws IOException {
+        HttpCDEventTransport transport = HttpCDEventTransport.builder(uri).mode(HttpTransportMode.BINARY).build();
+        CloudEvent cloudEvent = pipelineRunStartedCloudEvent();
+
+        transport.send(Collections.singletonList(cloudEvent));
+
+        Headers headers = requestHeaders.get(0);
+        assertThat(headers.getFirst("ce-id")).isEqualTo(cloudEvent.getId());
+        assertThat(headers.getFirst("ce-type")).isEqualTo(cloudEvent.getType());
+        assertThat(headers.getFirst("ce-source")).isEqualTo(cloudEvent.getSource().toString());
+        assertThat(headers.getFirst("Content-Type")).isEqualTo("application/json");
+        assertThat(requestBodies.get(0)).isEqualTo(cloudEvent.getData().toBytes());
+    }
+
+    @Test
+    void headerValuesArePercentEncodedInBinaryMode() throws IOException {
+        HttpCDEventTransport transport = HttpCDEventTransport.builder(uri).mode(HttpTransportMode.BINARY).build();
+        CloudEvent cloudEvent = CloudEventBuilder.v1(pipelineRunStartedCloudEvent())
+                .withSubject("run \"\u00fc\" 100%")
+                .withDataSchema(URI.create("https://cdevents.dev/0.3.0/schema/pipeline-run-started-event"))
+                .build();
+
+        transport.send(Collections.singletonList(cloudEvent));
+
+        Headers headers = requestHeaders.get(0);
+        assertThat(headers.getFirst("ce-subject")).isEqualTo("run%20%22%C3%BC%22%20100%25");
+        assertThat(headers.getFirst("ce-dataschema")).isEqualTo(cloudEvent.getDataSchema().toString());
+    }
+
+    @Test
+    void nullBuilderValuesAreRejected() {
+        HttpCDEventTransport.Builder builder = HttpCDEventTransport.builder(uri);
+
+        assertThrows(IllegalArgumentException.class, () -> builder.mode(null));
+        assertThrows(IllegalArgumentException.class, () -> builder.httpVersion(null));
+        assertThrows(IllegalArgumentException.class, () -> builder.connectTimeout(null));
+        assertThrows(IllegalArgumentException.class, () -> builder.requestTimeout(Duration.ZERO));
+        assertThrows(IllegalArgumentException.class, () -> builder.header("X-Team", null));
+        assertThrows(IllegalArgumentException.class, () -> builder.httpClient(null));
+    }
+
+    @Test
+    void bodyIsGzipCompressedWhenEnabled() throws IOException {
+        HttpCDEventTransport transport = HttpCDEventTransport.builder(uri).gzip(true).build();
+
+        transport.send(Collections.singletonList(pipelineRunStartedCloudEvent()));
+
+        assertThat(requestHeaders.get(0).getFirst("Content-Encoding")).isEqualTo("gzip");
+        try (InputStream inputStream = new GZIPInputStream(new ByteArrayInputStream(requestBodies.get(0)))) {
+            assertThat(objectMapper.readTree(inputStream)).hasSize(1);
+        }
+    }
+
+    @Test
+    void errorStatusFailsTheBatch() {
+        responseStatus = 503;
+        HttpCDEventTransport transport = HttpCDEventTransport.builder(uri).build();
+
+        IOException exception = assertThrows(IOException.class,
+                () -> transport.send(Collections.singletonList(pipelineRunStartedCloudEvent())));
+
+        assertThat(exception.getMessage()).endsWith("failed with HTTP status 503");
+    }
+
+    private static CloudEvent pipelineRunStartedCloudEvent() {
+        PipelinerunStartedCDEvent cdEvent = new PipelinerunStartedCDEvent();
+        cdEvent.setSource(URI.create("http://dev.cdevents"));
+        cdEvent.setSubjectId("/dev/pipeline/run/subject");
+        cdEvent.setSubjectPipelineName("test-pipeline-started");
+        cdEvent.setSubjectUrl("http://dev/pipeline/url");
+        return CDEvents.cdEventAsCloudEvent(cdEvent);
+    }
+}
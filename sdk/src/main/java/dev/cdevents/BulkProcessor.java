@@ -0,0 +1,105 @@
+package dev.cdevents;
+
+import dev.cdevents.exception.CDEventsException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Processes a batch of items in chunks on an executor, keeping the results in input order.
+ * Every chunk writes its results into its own range of a shared array, so no results are merged
+ * or sorted afterwards. A batch of a single chunk runs on the calling thread.
+ */
+final class BulkProcessor {
+
+    /**
+     * Smallest number of items handed to the executor at once, so that validating or converting a chunk
+     * outweighs scheduling it.
+     */
+    private static final int MIN_CHUNK_SIZE = 64;
+
+    /**
+     * Chunks per thread of the executor, so that threads finishing early pick up remaining chunks.
+     */
+    private static final int CHUNKS_PER_THREAD = 4;
+
+    private BulkProcessor() {
+    }
+
+    /**
+     * Processes an item of a batch.
+     * @param <T> type of the items
+     * @param <R> type of the results
+     */
+    interface ItemProcessor<T, R> {
+        R process(int index, T item);
+    }
+
+    /**
+     * @param items the batch, in input order
+     * @param itemProcessor processes an item, reporting its failure in the result instead of throwing
+     * @param executor runs the chunks of the batch
+     * @return the results of the items, in input order
+     */
+    static <T, R> List<R> process(Collection<? extends T> items, ItemProcessor<? super T, R> itemProcessor,
+                                  Executor executor) {
+        if (items == null) {
+            throw new IllegalArgumentException("Items must not be null");
+        }
+        if (executor == null) {
+            throw new IllegalArgumentException("Executor must not be null");
+        }
+        List<? extends T> itemList = items instanceof List && items instanceof RandomAccess
+                ? (List<? extends T>) items : new ArrayList<>(items);
+        int size = itemList.size();
+        Object[] results = new Object[size];
+        int chunkSize = chunkSize(size, parallelism(executor));
+        if (chunkSize >= size) {
+            processChunk(itemList, 0, size, itemProcessor, results);
+        } else {
+            List<CompletableFuture<Void>> chunks = new ArrayList<>(size / chunkSize + 1);
+            try {
+                for (int from = 0; from < size; from += chunkSize) {
+                    int chunkFrom = from;
+                    int chunkTo = Math.min(from + chunkSize, size);
+                    chunks.add(CompletableFuture.runAsync(
+                            () -> processChunk(itemList, chunkFrom, chunkTo, itemProcessor, results), executor));
+                }
+                CompletableFuture.allOf(chunks.toArray(new CompletableFuture<?>[0])).join();
+            } catch (RejectedExecutionException | CompletionException e) {
+                chunks.forEach(chunk -> chunk.cancel(false));
+                throw new CDEventsException("Exception occurred while processing CDEvents in bulk ", e);
+            }
+        }
+        @SuppressWarnings("unchecked")
+        List<R> resultList = (List<R>) Arrays.asList(results);
+        return resultList;
+    }
+
+    private static <T, R> void processChunk(List<? extends T> items, int from, int to,
+                                            ItemProcessor<? super T, R> itemProcessor, Object[] results) {
+        for (int i = from; i < to; i++) {
+            results[i] = itemProcessor.process(i, items.get(i));
+        }
+    }
+
+    private static int parallelism(Executor executor) {
+        if (executor instanceof ForkJoinPool) {
+            return ((ForkJoinPool) executor).getParallelism();
+        }
+        return Runtime.getRuntime().availableProcessors();
+    }
+
+    static int chunkSize(int size, int parallelism) {
+        int chunks = Math.max(1, parallelism) * CHUNKS_PER_THREAD;
+        return Math.max(MIN_CHUNK_SIZE, (size + chunks - 1) / chunks);
+    }
+}
@@ -0,0 +1,64 @@
+package dev.cdevents;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The result of one CDEvent of a bulk call such as {@link CDEvents#validateAll(java.util.Collection)}.
+ * Bulk calls return one result per input CDEvent, in input order, and report a failed CDEvent
+ * through its errors instead of throwing.
+ * @param <T> type of the value produced for a CDEvent
+ */
+public final class BulkResult<T> {
+
+    private final int index;
+    private final T value;
+    private final List<String> errors;
+
+    private BulkResult(int index, T value, List<String> errors) {
+        this.index = index;
+        this.value = value;
+        this.errors = errors;
+    }
+
+    static <T> BulkResult<T> success(int index, T value) {
+        return new BulkResult<>(index, value, Collections.emptyList());
+    }
+
+    static <T> BulkResult<T> failure(int index, List<String> errors) {
+        return new BulkResult<>(index, null, Collections.unmodifiableList(errors));
+    }
+
+    /**
+     * @return position of the CDEvent in the input collection
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * @return true, if the CDEvent was processed without errors
+     */
+    public boolean isSuccess() {
+        return errors.isEmpty();
+    }
+
+    /**
+     * @return the value produced for the CDEvent, null if it failed
+     */
+    public T getValue() {
+        return value;
+    }
+
+    /**
+     * @return the errors of the CDEvent, empty if it succeeded
+     */
+    public List<String> getErrors() {
+        return errors;
+    }
+
+    @Override
+    public String toString() {
+        return isSuccess() ? "BulkResult[" + index + "]" : "BulkResult[" + index + "] " + errors;
+    }
+}
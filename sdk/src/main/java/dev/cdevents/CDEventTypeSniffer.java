@@ -0,0 +1,57 @@
+package dev.cdevents;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import dev.cdevents.constants.CDEventConstants;
+import dev.cdevents.constants.CDEventTypeResolver;
+import dev.cdevents.exception.CDEventsException;
+
+import java.io.IOException;
+
+/**
+ * Reads the {@code context.type} of a CDEvent Json with a streaming parser,
+ * without building a tree or binding the event.
+ * Parsing stops as soon as the type is found. Fields before {@code context}, such as a large
+ * {@code subject}, are skipped without being materialized.
+ */
+final class CDEventTypeSniffer {
+
+    private CDEventTypeSniffer() {
+    }
+
+    /**
+     * Reads the CDEvent type from the parser, closing the parser when done.
+     * @param parser parser positioned before the root of a cdEventJson
+     * @return the CDEvent type of the cdEventJson
+     */
+    static CDEventConstants.CDEventTypes sniff(JsonParser parser) {
+        try (JsonParser jsonParser = parser) {
+            return CDEventTypeResolver.resolve(findContextType(jsonParser));
+        } catch (IOException e) {
+            throw new CDEventsException("Exception occurred while reading CDEvent Json for eventType ", e);
+        }
+    }
+
+    private static String findContextType(JsonParser parser) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new CDEventsException("Unable to find context and type in CDEvent Json");
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            if ("context".equals(fieldName) && value == JsonToken.START_OBJECT) {
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String contextField = parser.getCurrentName();
+                    JsonToken contextValue = parser.nextToken();
+                    if ("type".equals(contextField) && contextValue.isScalarValue()) {
+                        return parser.getText();
+                    }
+                    parser.skipChildren();
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+        throw new CDEventsException("Unable to find context and type in CDEvent Json");
+    }
+}
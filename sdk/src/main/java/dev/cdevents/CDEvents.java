@@ -1,36 +1,52 @@
 package dev.cdevents;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.node.ObjectNode;
-import com.networknt.schema.JsonSchema;
-import com.networknt.schema.JsonSchemaFactory;
-import com.networknt.schema.SpecVersion;
-import com.networknt.schema.ValidationMessage;
-import dev.cdevents.config.CustomObjectMapper;
+import com.fasterxml.jackson.databind.node.MissingNode;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+import dev.cdevents.config.EventClock;
+import dev.cdevents.config.EventIds;
+import dev.cdevents.config.PayloadTracer;
 import dev.cdevents.constants.CDEventConstants;
+import dev.cdevents.constants.CDEventTypeResolver;
 import dev.cdevents.exception.CDEventsException;
 import dev.cdevents.models.CDEvent;
+import dev.cdevents.serialization.CDEventCodec;
+import dev.cdevents.serialization.CDEventEncoding;
+import dev.cdevents.validation.CDEventValidators;
+import dev.cdevents.validation.ValidationPolicy;
 import io.cloudevents.CloudEvent;
+import io.cloudevents.CloudEventData;
+import io.cloudevents.core.data.BytesCloudEventData;
+import io.cloudevents.core.data.PojoCloudEventData;
 import io.cloudevents.core.v03.CloudEventBuilder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.net.URI;
 import java.net.URISyntaxException;
-import java.nio.charset.StandardCharsets;
+import java.nio.ByteBuffer;
+import java.time.Instant;
 import java.time.OffsetDateTime;
-import java.util.Arrays;
-import java.util.Set;
-import java.util.UUID;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 
 public final class CDEvents {
 
     private CDEvents() {
     }
 
-    private static ObjectMapper objectMapper = new CustomObjectMapper().customConfiguration();
     private static Logger log = LoggerFactory.getLogger(CDEvents.class);
 
     /**
@@ -39,33 +55,212 @@ public final class CDEvents {
      */
     public static String cdEventAsJson(CDEvent cdEvent) {
         try {
-            return objectMapper.writeValueAsString(cdEvent);
+            return CDEventCodec.getDefault().writer(cdEvent).writeValueAsString(cdEvent);
+        } catch (JsonProcessingException e) {
+            log.error("Error while mapping cdEvent as Json {}", e.getMessage());
+            throw new CDEventsException("Error while mapping cdEvent as Json {}", e);
+        }
+    }
+
+    private static byte[] cdEventAsJsonBytes(CDEvent cdEvent) {
+        try {
+            return CDEventCodec.getDefault().writer(cdEvent).writeValueAsBytes(cdEvent);
         } catch (JsonProcessingException e) {
             log.error("Error while mapping cdEvent as Json {}", e.getMessage());
             throw new CDEventsException("Error while mapping cdEvent as Json {}", e);
         }
     }
 
+    /**
+     * @param cdEvent
+     * @param encoding
+     * @return the cdEvent encoded in the encoding
+     */
+    public static byte[] cdEventAsBytes(CDEvent cdEvent, CDEventEncoding encoding) {
+        try {
+            return encoding.codec().writer(cdEvent).writeValueAsBytes(cdEvent);
+        } catch (JsonProcessingException e) {
+            log.error("Error while mapping cdEvent as {} {}", encoding, e.getMessage());
+            throw new CDEventsException("Error while mapping cdEvent as " + encoding + " ", e);
+        }
+    }
+
+    /**
+     * Writes the json of a cdEvent to the outputStream, without an intermediate String or byte[] copy.
+     * The outputStream is not closed.
+     * @param cdEvent
+     * @param outputStream
+     */
+    public static void cdEventAsJson(CDEvent cdEvent, OutputStream outputStream) {
+        try {
+            CDEventCodec.getDefault().writer(cdEvent).writeValue(outputStream, cdEvent);
+        } catch (IOException e) {
+            log.error("Error while writing cdEvent as Json {}", e.getMessage());
+            throw new CDEventsException("Error while writing cdEvent as Json ", e);
+        }
+    }
+
     /**
      * Creates a CloudEvent from the cdEvent.
      * @param cdEvent
      * @return CloudEvent
      */
     public static CloudEvent cdEventAsCloudEvent(CDEvent cdEvent) {
-        if (!validateCDEvent(cdEvent)) {
+        return cdEventAsCloudEvent(cdEvent, CDEventConstants.CloudEventDataMode.BYTES);
+    }
+
+    /**
+     * Creates a CloudEvent from the cdEvent.
+     * With {@link CDEventConstants.CloudEventDataMode#POJO} the cdEvent is attached as a {@link PojoCloudEventData}
+     * and serialized only when the CloudEvent data bytes are first requested.
+     * @param cdEvent
+     * @param dataMode how the cdEvent is attached as CloudEvent data
+     * @return CloudEvent
+     */
+    public static CloudEvent cdEventAsCloudEvent(CDEvent cdEvent, CDEventConstants.CloudEventDataMode dataMode) {
+        return cdEventAsCloudEvent(cdEvent, dataMode, ValidationPolicy.FULL);
+    }
+
+    /**
+     * Creates a CloudEvent from the cdEvent, validating it as far as the validationPolicy asks for.
+     * @param cdEvent
+     * @param dataMode how the cdEvent is attached as CloudEvent data
+     * @param validationPolicy how the cdEvent is validated, e.g. {@link ValidationPolicy#OFF} for trusted producers
+     * @return CloudEvent
+     */
+    public static CloudEvent cdEventAsCloudEvent(CDEvent cdEvent, CDEventConstants.CloudEventDataMode dataMode,
+                                                 ValidationPolicy validationPolicy) {
+        if (!validateCDEvent(cdEvent, validationPolicy)) {
             log.error("CDEvent validation failed against schema URL - {}", cdEvent.schemaURL());
             throw new CDEventsException("CDEvent validation failed against schema URL - " + cdEvent.schemaURL());
         }
-        String cdEventJson = cdEventAsJson(cdEvent);
-        log.info("CDEvent with type {} as json - {}", cdEvent.currentCDEventType(), cdEventJson);
+        return buildCloudEvent(cdEvent, dataMode);
+    }
+
+    /**
+     * Creates a CloudEvent from the cdEvent with its data in the encoding, e.g. {@link CDEventEncoding#CBOR}
+     * for a compact binary payload. The CloudEvent datacontenttype is the content type of the encoding.
+     * @param cdEvent
+     * @param encoding how the cdEvent is encoded as CloudEvent data
+     * @param validationPolicy how the cdEvent is validated
+     * @return CloudEvent
+     */
+    public static CloudEvent cdEventAsCloudEvent(CDEvent cdEvent, CDEventEncoding encoding,
+                                                 ValidationPolicy validationPolicy) {
+        if (encoding == CDEventEncoding.JSON) {
+            return cdEventAsCloudEvent(cdEvent, CDEventConstants.CloudEventDataMode.BYTES, validationPolicy);
+        }
+        if (!validateCDEvent(cdEvent, validationPolicy)) {
+            log.error("CDEvent validation failed against schema URL - {}", cdEvent.schemaURL());
+            throw new CDEventsException("CDEvent validation failed against schema URL - " + cdEvent.schemaURL());
+        }
+        return buildCloudEvent(cdEvent, BytesCloudEventData.wrap(cdEventAsBytes(cdEvent, encoding)),
+                encoding.getContentType());
+    }
+
+    /**
+     * Validates the cdEvents against their Schema URLs, in chunks on the common {@link ForkJoinPool}.
+     * @param cdEvents
+     * @return a result per cdEvent in input order, with the validation errors of the invalid ones
+     */
+    public static List<BulkResult<CDEvent>> validateAll(Collection<? extends CDEvent> cdEvents) {
+        return validateAll(cdEvents, ValidationPolicy.FULL, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Validates the cdEvents as far as the validationPolicy asks for, in chunks on the executor.
+     * The shared compiled validators are used by all threads.
+     * @param cdEvents
+     * @param validationPolicy how every cdEvent is validated
+     * @param executor runs the chunks of the batch, e.g. a {@link ForkJoinPool}
+     * @return a result per cdEvent in input order, with the validation errors of the invalid ones
+     */
+    public static List<BulkResult<CDEvent>> validateAll(Collection<? extends CDEvent> cdEvents,
+                                                        ValidationPolicy validationPolicy, Executor executor) {
+        return BulkProcessor.process(cdEvents, (index, cdEvent) -> {
+            List<String> errors = bulkValidate(cdEvent, validationPolicy);
+            return errors.isEmpty() ? BulkResult.success(index, cdEvent) : BulkResult.<CDEvent>failure(index, errors);
+        }, executor);
+    }
+
+    /**
+     * Creates CloudEvents from the cdEvents, in chunks on the common {@link ForkJoinPool}.
+     * @param cdEvents
+     * @return a result per cdEvent in input order, with its CloudEvent or the errors it failed with
+     */
+    public static List<BulkResult<CloudEvent>> cdEventsAsCloudEvents(Collection<? extends CDEvent> cdEvents) {
+        return cdEventsAsCloudEvents(cdEvents, CDEventConstants.CloudEventDataMode.BYTES, ValidationPolicy.FULL,
+                ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates CloudEvents from the cdEvents, validating them as far as the validationPolicy asks for,
+     * in chunks on the executor. An invalid cdEvent fails its own result instead of the batch.
+     * @param cdEvents
+     * @param dataMode how every cdEvent is attached as CloudEvent data
+     * @param validationPolicy how every cdEvent is validated
+     * @param executor runs the chunks of the batch, e.g. a {@link ForkJoinPool}
+     * @return a result per cdEvent in input order, with its CloudEvent or the errors it failed with
+     */
+    public static List<BulkResult<CloudEvent>> cdEventsAsCloudEvents(Collection<? extends CDEvent> cdEvents,
+                                                                    CDEventConstants.CloudEventDataMode dataMode,
+                                                                    ValidationPolicy validationPolicy,
+                                                                    Executor executor) {
+        return BulkProcessor.process(cdEvents, (index, cdEvent) -> {
+            List<String> errors = bulkValidate(cdEvent, validationPolicy);
+            if (!errors.isEmpty()) {
+                return BulkResult.<CloudEvent>failure(index, errors);
+            }
+            try {
+                return BulkResult.success(index, buildCloudEvent(cdEvent, dataMode));
+            } catch (RuntimeException e) {
+                return BulkResult.<CloudEvent>failure(index, Collections.singletonList(bulkError(e)));
+            }
+        }, executor);
+    }
+
+    private static List<String> bulkValidate(CDEvent cdEvent, ValidationPolicy validationPolicy) {
+        if (cdEvent == null) {
+            return Collections.singletonList("CDEvent must not be null");
+        }
+        try {
+            return CDEventValidators.validate(cdEvent, validationPolicy);
+        } catch (RuntimeException e) {
+            return Collections.singletonList(bulkError(e));
+        }
+    }
+
+    private static String bulkError(RuntimeException e) {
+        Throwable cause = e.getCause();
+        return cause != null ? e.getMessage() + cause.getMessage() : String.valueOf(e.getMessage());
+    }
+
+    private static CloudEvent buildCloudEvent(CDEvent cdEvent, CDEventConstants.CloudEventDataMode dataMode) {
+        CloudEventData cdEventData;
+        if (dataMode == CDEventConstants.CloudEventDataMode.POJO) {
+            cdEventData = PojoCloudEventData.wrap(cdEvent, CDEventCodec.getDefault().writer(cdEvent)::writeValueAsBytes);
+            if (PayloadTracer.shouldTrace()) {
+                PayloadTracer.trace(cdEvent.currentCDEventType(), cdEventData.toBytes());
+            }
+        } else {
+            byte[] cdEventJson = cdEventAsJsonBytes(cdEvent);
+            if (PayloadTracer.shouldTrace()) {
+                PayloadTracer.trace(cdEvent.currentCDEventType(), cdEventJson);
+            }
+            cdEventData = BytesCloudEventData.wrap(cdEventJson);
+        }
+        return buildCloudEvent(cdEvent, cdEventData, CDEventEncoding.JSON.getContentType());
+    }
+
+    private static CloudEvent buildCloudEvent(CDEvent cdEvent, CloudEventData cdEventData, String dataContentType) {
         try {
             CloudEvent ceToSend = new CloudEventBuilder()
-                    .withId(UUID.randomUUID().toString())
+                    .withId(EventIds.nextId())
                     .withSource(new URI(cdEvent.eventSource()))
                     .withType(cdEvent.currentCDEventType())
-                    .withDataContentType("application/json")
-                    .withData(cdEventJson.getBytes(StandardCharsets.UTF_8))
-                    .withTime(OffsetDateTime.now())
+                    .withDataContentType(dataContentType)
+                    .withData(cdEventData)
+                    .withTime(cloudEventTime(cdEvent))
                     .build();
             return ceToSend;
         } catch (URISyntaxException e) {
@@ -73,16 +268,34 @@ public final class CDEvents {
         }
     }
 
+    /**
+     * The CloudEvent time is the timestamp of the cdEvent context, so that both carry the same instant
+     * and the clock is read only once per event. It is truncated to seconds, as the context timestamp
+     * is written with second precision.
+     */
+    private static OffsetDateTime cloudEventTime(CDEvent cdEvent) {
+        Date timestamp = cdEvent.eventTimestamp();
+        Instant instant = timestamp != null ? timestamp.toInstant() : EventClock.getClock().instant();
+        return OffsetDateTime.ofInstant(instant.truncatedTo(ChronoUnit.SECONDS), ZoneOffset.UTC);
+    }
+
     /**
      * Validates the cdEvent against the Schema URL.
      * @param cdEvent
      * @return valid cdEvent
      */
     public static boolean validateCDEvent(CDEvent cdEvent) {
-        Set<ValidationMessage> errors = getJsonSchemaValidationMessages(cdEvent);
+        return validateCDEvent(cdEvent, ValidationPolicy.FULL);
+    }
+
+    private static boolean validateCDEvent(CDEvent cdEvent, ValidationPolicy validationPolicy) {
+        List<String> errors = CDEventValidators.validate(cdEvent, validationPolicy);
 
         if (!errors.isEmpty()) {
-            log.error("CDEvent validation failed with errors {}", errors);
+            log.debug("CDEvent validation failed with {} errors", errors.size());
+            if (PayloadTracer.shouldTrace()) {
+                PayloadTracer.traceMessage("CDEvent validation failed with errors", errors);
+            }
             return false;
         }
         return true;
@@ -90,20 +303,229 @@ public final class CDEvents {
 
     /**
      * Creates cdEvent from cdEventJson string and validates against schema.
+     * The json is parsed only once, the resulting tree is validated and then bound to the CDEvent class.
      * @param cdEventJson
      * @return CDEvent, needs type casting to specific CDEvent class
      */
     public static CDEvent cdEventFromJson(String cdEventJson) {
-        if (!validateCDEventJson(cdEventJson)) {
-            throw new CDEventsException("CDEvent Json validation failed against schema");
+        return cdEventFromJson(cdEventJson, ValidationPolicy.FULL);
+    }
+
+    /**
+     * Creates cdEvent from cdEventJson string and validates against schema as far as the validationPolicy asks for.
+     * @param cdEventJson
+     * @param validationPolicy how the cdEvent is validated
+     * @return CDEvent, needs type casting to specific CDEvent class
+     */
+    public static CDEvent cdEventFromJson(String cdEventJson, ValidationPolicy validationPolicy) {
+        return cdEventFromJsonNode(readJsonTree(cdEventJson), validationPolicy);
+    }
+
+    /**
+     * Creates cdEvent from UTF-8 encoded cdEventJson bytes and validates against schema.
+     * @param cdEventJson
+     * @return CDEvent, needs type casting to specific CDEvent class
+     */
+    public static CDEvent cdEventFromJson(byte[] cdEventJson) {
+        return cdEventFromJson(cdEventJson, ValidationPolicy.FULL);
+    }
+
+    /**
+     * Creates cdEvent from UTF-8 encoded cdEventJson bytes and validates against schema as far as
+     * the validationPolicy asks for.
+     * @param cdEventJson
+     * @param validationPolicy how the cdEvent is validated
+     * @return CDEvent, needs type casting to specific CDEvent class
+     */
+    public static CDEvent cdEventFromJson(byte[] cdEventJson, ValidationPolicy validationPolicy) {
+        return cdEventFromJsonNode(readJsonTree(cdEventJson, 0, cdEventJson.length), validationPolicy);
+    }
+
+    /**
+     * Creates cdEvent from bytes in the encoding and validates against schema.
+     * @param cdEventBytes
+     * @param encoding the encoding of the bytes, e.g. resolved with {@link CDEventEncoding#fromContentType(String)}
+     * @return CDEvent, needs type casting to specific CDEvent class
+     */
+    public static CDEvent cdEventFromBytes(byte[] cdEventBytes, CDEventEncoding encoding) {
+        return cdEventFromBytes(cdEventBytes, encoding, ValidationPolicy.FULL);
+    }
+
+    /**
+     * Creates cdEvent from bytes in the encoding and validates against schema as far as the validationPolicy asks for.
+     * @param cdEventBytes
+     * @param encoding the encoding of the bytes, e.g. resolved with {@link CDEventEncoding#fromContentType(String)}
+     * @param validationPolicy how the cdEvent is validated
+     * @return CDEvent, needs type casting to specific CDEvent class
+     */
+    public static CDEvent cdEventFromBytes(byte[] cdEventBytes, CDEventEncoding encoding,
+                                           ValidationPolicy validationPolicy) {
+        if (encoding == CDEventEncoding.JSON) {
+            return cdEventFromJson(cdEventBytes, validationPolicy);
         }
-        String eventType = getUnVersionedEventTypeFromJson(cdEventJson);
-        CDEventConstants.CDEventTypes cdEventType = getCDEventTypeEnum(eventType);
         try {
-            CDEvent cdEvent = (CDEvent) new ObjectMapper().readValue(cdEventJson, cdEventType.getEventClass());
+            return cdEventFromJsonNode(encoding.codec().getObjectMapper().readTree(cdEventBytes), validationPolicy);
+        } catch (IOException e) {
+            throw new CDEventsException("Exception occurred while reading CDEvent " + encoding + " for eventType ", e);
+        }
+    }
+
+    /**
+     * Creates cdEvent from the remaining bytes of the cdEventJson buffer and validates against schema.
+     * The position of the buffer is not modified.
+     * @param cdEventJson
+     * @return CDEvent, needs type casting to specific CDEvent class
+     */
+    public static CDEvent cdEventFromJson(ByteBuffer cdEventJson) {
+        return cdEventFromJson(cdEventJson, ValidationPolicy.FULL);
+    }
+
+    /**
+     * Creates cdEvent from the remaining bytes of the cdEventJson buffer and validates against schema
+     * as far as the validationPolicy asks for. The position of the buffer is not modified.
+     * @param cdEventJson
+     * @param validationPolicy how the cdEvent is validated
+     * @return CDEvent, needs type casting to specific CDEvent class
+     */
+    public static CDEvent cdEventFromJson(ByteBuffer cdEventJson, ValidationPolicy validationPolicy) {
+        if (cdEventJson.hasArray()) {
+            return cdEventFromJsonNode(readJsonTree(cdEventJson.array(),
+                    cdEventJson.arrayOffset() + cdEventJson.position(), cdEventJson.remaining()), validationPolicy);
+        }
+        return cdEventFromJson(new ByteBufferBackedInputStream(cdEventJson.duplicate()), validationPolicy);
+    }
+
+    /**
+     * Creates cdEvent from the cdEventJson stream and validates against schema.
+     * The stream is read up to the end of the json, and is not closed.
+     * @param cdEventJson
+     * @return CDEvent, needs type casting to specific CDEvent class
+     */
+    public static CDEvent cdEventFromJson(InputStream cdEventJson) {
+        return cdEventFromJson(cdEventJson, ValidationPolicy.FULL);
+    }
+
+    /**
+     * Creates cdEvent from the cdEventJson stream and validates against schema as far as the validationPolicy asks for.
+     * The stream is read up to the end of the json, and is not closed.
+     * @param cdEventJson
+     * @param validationPolicy how the cdEvent is validated
+     * @return CDEvent, needs type casting to specific CDEvent class
+     */
+    public static CDEvent cdEventFromJson(InputStream cdEventJson, ValidationPolicy validationPolicy) {
+        try (JsonParser parser = objectMapper().getFactory().createParser(cdEventJson)) {
+            parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+            JsonNode cdEventNode = objectMapper().readTree(parser);
+            return cdEventFromJsonNode(cdEventNode != null ? cdEventNode : MissingNode.getInstance(), validationPolicy);
+        } catch (IOException e) {
+            throw new CDEventsException("Exception occurred while reading CDEvent Json for eventType ", e);
+        }
+    }
+
+    /**
+     * Creates cdEvent from an already parsed cdEventJson tree and validates against schema.
+     * @param cdEventNode
+     * @return CDEvent, needs type casting to specific CDEvent class
+     */
+    public static CDEvent cdEventFromJson(JsonNode cdEventNode) {
+        return cdEventFromJsonNode(cdEventNode, ValidationPolicy.FULL);
+    }
+
+    /**
+     * Creates cdEvent from an already parsed cdEventJson tree and validates against schema as far as
+     * the validationPolicy asks for.
+     * @param cdEventNode
+     * @param validationPolicy how the cdEvent is validated
+     * @return CDEvent, needs type casting to specific CDEvent class
+     */
+    public static CDEvent cdEventFromJson(JsonNode cdEventNode, ValidationPolicy validationPolicy) {
+        return cdEventFromJsonNode(cdEventNode, validationPolicy);
+    }
+
+    /**
+     * Creates cdEvent from the data of a CloudEvent and validates against schema.
+     * Data created with {@link CDEventConstants.CloudEventDataMode#POJO} already holds a cdEvent,
+     * which is validated as a model and returned without decoding.
+     * @param cloudEventData
+     * @return CDEvent, needs type casting to specific CDEvent class
+     */
+    public static CDEvent cdEventFromJson(CloudEventData cloudEventData) {
+        return cdEventFromJson(cloudEventData, ValidationPolicy.FULL);
+    }
+
+    /**
+     * Creates cdEvent from the data of a CloudEvent and validates against schema as far as the validationPolicy
+     * asks for. Data created with {@link CDEventConstants.CloudEventDataMode#POJO} already holds a cdEvent,
+     * which is validated as a model and returned without decoding.
+     * @param cloudEventData
+     * @param validationPolicy how the cdEvent is validated
+     * @return CDEvent, needs type casting to specific CDEvent class
+     */
+    public static CDEvent cdEventFromJson(CloudEventData cloudEventData, ValidationPolicy validationPolicy) {
+        if (cloudEventData instanceof PojoCloudEventData
+                && ((PojoCloudEventData<?>) cloudEventData).getValue() instanceof CDEvent) {
+            CDEvent cdEvent = (CDEvent) ((PojoCloudEventData<?>) cloudEventData).getValue();
+            if (!validateCDEvent(cdEvent, validationPolicy)) {
+                throw new CDEventsException("CDEvent validation failed against schema URL - " + cdEvent.schemaURL());
+            }
             return cdEvent;
-        } catch (JsonProcessingException e) {
-            log.error("Exception occurred while creating CDEvent from json {}", cdEventJson);
+        }
+        return cdEventFromJson(cloudEventData.toBytes(), validationPolicy);
+    }
+
+    /**
+     * Reads only the context type of the cdEventJson, without validating or binding the event.
+     * Parsing stops as soon as the context type has been read, which lets routers and filters
+     * drop or route events by type cheaply.
+     * @param cdEventJson
+     * @return CDEvent type of the cdEventJson
+     */
+    public static CDEventConstants.CDEventTypes cdEventTypeFromJson(String cdEventJson) {
+        try {
+            return CDEventTypeSniffer.sniff(objectMapper().getFactory().createParser(cdEventJson));
+        } catch (IOException e) {
+            throw new CDEventsException("Exception occurred while reading CDEvent Json for eventType ", e);
+        }
+    }
+
+    /**
+     * Reads only the context type of the UTF-8 encoded cdEventJson bytes, without validating or binding the event.
+     * @param cdEventJson
+     * @return CDEvent type of the cdEventJson
+     */
+    public static CDEventConstants.CDEventTypes cdEventTypeFromJson(byte[] cdEventJson) {
+        try {
+            return CDEventTypeSniffer.sniff(objectMapper().getFactory().createParser(cdEventJson));
+        } catch (IOException e) {
+            throw new CDEventsException("Exception occurred while reading CDEvent Json for eventType ", e);
+        }
+    }
+
+    /**
+     * Reads only the context type from the cdEventJson stream, without validating or binding the event.
+     * The stream is read up to the context type and is not closed.
+     * @param cdEventJson
+     * @return CDEvent type of the cdEventJson
+     */
+    public static CDEventConstants.CDEventTypes cdEventTypeFromJson(InputStream cdEventJson) {
+        try {
+            JsonParser parser = objectMapper().getFactory().createParser(cdEventJson);
+            parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+            return CDEventTypeSniffer.sniff(parser);
+        } catch (IOException e) {
+            throw new CDEventsException("Exception occurred while reading CDEvent Json for eventType ", e);
+        }
+    }
+
+    private static CDEvent cdEventFromJsonNode(JsonNode cdEventNode, ValidationPolicy validationPolicy) {
+        CDEventConstants.CDEventTypes cdEventType = getCDEventTypeFromJson(cdEventNode);
+        if (!validateCDEventJsonNode(cdEventNode, cdEventType, validationPolicy)) {
+            throw new CDEventsException("CDEvent Json validation failed against schema");
+        }
+        try {
+            return CDEventCodec.getDefault().reader(cdEventType).readValue(cdEventNode);
+        } catch (IOException e) {
+            log.error("Exception occurred while creating CDEvent of type {} from json", cdEventType.getEventType());
             throw new CDEventsException("Exception occurred while creating CDEvent from json ", e);
         }
     }
@@ -114,65 +536,51 @@ public final class CDEvents {
      * @return true, If cdEventJson is valid
      */
     public static boolean validateCDEventJson(String cdEventJson) {
-        String eventType = getUnVersionedEventTypeFromJson(cdEventJson);
-        CDEventConstants.CDEventTypes cdEventType = getCDEventTypeEnum(eventType);
-        try {
-            CDEvent cdEvent = (CDEvent) new ObjectMapper().readValue(cdEventJson, cdEventType.getEventClass());
-            Set<ValidationMessage> errors = getJsonSchemaValidationMessages(cdEvent);
+        JsonNode cdEventNode = readJsonTree(cdEventJson);
+        CDEventConstants.CDEventTypes cdEventType = getCDEventTypeFromJson(cdEventNode);
+        return validateCDEventJsonNode(cdEventNode, cdEventType, ValidationPolicy.FULL);
+    }
 
-            if (!errors.isEmpty()) {
-                log.error("CDEvent Json validation failed against schema URL {}", cdEvent.schemaURL());
-                log.error("CDEvent Json validation failed with errors {}", errors);
-                return false;
+    private static boolean validateCDEventJsonNode(JsonNode cdEventNode, CDEventConstants.CDEventTypes cdEventType,
+                                                   ValidationPolicy validationPolicy) {
+        List<String> errors = CDEventValidators.validate(cdEventNode, cdEventType, validationPolicy);
+        if (!errors.isEmpty()) {
+            log.debug("CDEvent Json validation failed against schema for type {} with {} errors",
+                    cdEventType.getEventType(), errors.size());
+            if (PayloadTracer.shouldTrace()) {
+                PayloadTracer.traceMessage("CDEvent Json validation failed with errors", errors);
             }
-        } catch (JsonProcessingException e) {
-            throw new CDEventsException("Exception occurred while validating CDEvent json with schema file ", e);
+            return false;
         }
         return true;
     }
 
-    private static Set<ValidationMessage> getJsonSchemaValidationMessages(CDEvent cdEvent) {
-        JsonSchemaFactory factory = JsonSchemaFactory.getInstance(SpecVersion.VersionFlag.V202012);
-        JsonSchema jsonSchema = factory.getSchema(cdEvent.eventSchema());
-
-        JsonNode jsonNode = objectMapper.convertValue(cdEvent, ObjectNode.class);
-        Set<ValidationMessage> errors = jsonSchema.validate(jsonNode);
-        return errors;
-    }
-
-    private static CDEventConstants.CDEventTypes getCDEventTypeEnum(String eventType) {
-        return Arrays.stream(CDEventConstants.CDEventTypes.values())
-                .filter(type -> eventType.equals(type.getEventType()))
-                .findFirst()
-                .orElseThrow(
-                () -> {
-                    log.error("Invalid CDEvent type found {} from cdEventJson", eventType);
-                    return new CDEventsException("Invalid CDEvent type found from cdEventJson");
-                }
-        );
+    private static JsonNode readJsonTree(String cdEventJson) {
+        try {
+            return objectMapper().readTree(cdEventJson);
+        } catch (JsonProcessingException e) {
+            throw new CDEventsException("Exception occurred while reading CDEvent Json for eventType ", e);
+        }
     }
 
-    private static String getUnVersionedEventTypeFromJson(String cdEventJson) {
-        String unVersionedEventType = "";
+    private static JsonNode readJsonTree(byte[] cdEventJson, int offset, int length) {
         try {
-            JsonNode rootNode = objectMapper.readTree(cdEventJson);
-            if (rootNode.get("context") != null && rootNode.get("context").get("type") != null) {
-                String versionedEventType = rootNode.get("context").get("type").asText();
-                if (versionedEventType.startsWith(CDEventConstants.EVENT_PREFIX)) {
-                    String[] type = versionedEventType.split("\\.");
-                    String subject = type[CDEventConstants.EVENT_SUBJECT_INDEX];
-                    String predicate = type[CDEventConstants.EVENT_PREDICATE_INDEX];
-                    unVersionedEventType = CDEventConstants.EVENT_PREFIX + subject + "." + predicate + ".";
-                } else {
-                    throw new CDEventsException("Invalid CDEvent type found in CDEvent Json " + versionedEventType);
-                }
-            } else {
-                throw new CDEventsException("Unable to find context and type in CDEvent Json");
-            }
-            return unVersionedEventType;
-        } catch (JsonProcessingException e) {
+            return objectMapper().readTree(cdEventJson, offset, length);
+        } catch (IOException e) {
             throw new CDEventsException("Exception occurred while reading CDEvent Json for eventType ", e);
         }
+    }
 
+    private static ObjectMapper objectMapper() {
+        return CDEventCodec.getDefault().getObjectMapper();
+    }
+
+    private static CDEventConstants.CDEventTypes getCDEventTypeFromJson(JsonNode rootNode) {
+        JsonNode contextNode = rootNode.get("context");
+        JsonNode typeNode = contextNode != null ? contextNode.get("type") : null;
+        if (typeNode == null) {
+            throw new CDEventsException("Unable to find context and type in CDEvent Json");
+        }
+        return CDEventTypeResolver.resolve(typeNode.asText());
     }
 }
@@ -1,15 +1,33 @@
 package dev.cdevents.config;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.module.SimpleModule;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import dev.cdevents.serialization.CDEventsModule;
 
-import java.text.SimpleDateFormat;
+import java.util.Date;
 
 public class CustomObjectMapper extends ObjectMapper {
 
+    /**
+     * Creates a mapper reading and writing json.
+     */
+    public CustomObjectMapper() {
+        super();
+    }
+
+    /**
+     * Creates a mapper reading and writing the format of the jsonFactory, e.g. CBOR or Smile.
+     * @param jsonFactory factory of the parsers and generators of the format
+     */
+    public CustomObjectMapper(JsonFactory jsonFactory) {
+        super(jsonFactory);
+    }
+
     /**
      * @return customized ObjectMapper
      */
@@ -19,7 +37,8 @@ public class CustomObjectMapper extends ObjectMapper {
                 .enable(DeserializationFeature.READ_ENUMS_USING_TO_STRING)
                 .configure(SerializationFeature.FAIL_ON_EMPTY_BEANS, false)
                 .setSerializationInclusion(JsonInclude.Include.NON_NULL)
-                .setDateFormat(new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss'Z'"))
-                .registerModule(new JavaTimeModule());
+                .registerModule(new JavaTimeModule())
+                .registerModule(new SimpleModule().addSerializer(Date.class, new TimestampSerializer()))
+                .registerModule(new CDEventsModule());
     }
 }
@@ -0,0 +1,41 @@
+package dev.cdevents.config;
+
+import java.time.Clock;
+import java.util.Date;
+
+/**
+ * Holds the {@link Clock} used for the timestamps of new CDEvents.
+ * Defaults to the system UTC clock. A fixed or offset clock can be set,
+ * e.g. for reproducible events in tests.
+ */
+public final class EventClock {
+
+    private static volatile Clock clock = Clock.systemUTC();
+
+    private EventClock() {
+    }
+
+    /**
+     * @return the current clock
+     */
+    public static Clock getClock() {
+        return clock;
+    }
+
+    /**
+     * @param eventClock the clock to use for new events
+     */
+    public static void setClock(Clock eventClock) {
+        if (eventClock == null) {
+            throw new IllegalArgumentException("Clock must not be null");
+        }
+        clock = eventClock;
+    }
+
+    /**
+     * @return the current time of the clock, as an event timestamp
+     */
+    public static Date now() {
+        return new Date(clock.millis());
+    }
+}
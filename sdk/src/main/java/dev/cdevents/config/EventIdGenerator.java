@@ -0,0 +1,15 @@
+package dev.cdevents.config;
+
+/**
+ * Strategy for generating the ids of CDEvents and the CloudEvents created from them.
+ * Implementations must be safe for concurrent use. A custom implementation can be
+ * selected with {@link EventIds#setGenerator(EventIdGenerator)}, or by setting the
+ * {@value EventIds#GENERATOR_PROPERTY} system property to its class name.
+ */
+public interface EventIdGenerator {
+
+    /**
+     * @return a new unique event id
+     */
+    String nextId();
+}
@@ -0,0 +1,101 @@
+package dev.cdevents.config;
+
+import dev.cdevents.exception.CDEventsException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.UUID;
+
+/**
+ * Holds the {@link EventIdGenerator} used for the ids of new CDEvents and CloudEvents.
+ * The initial generator is selected with the {@value #GENERATOR_PROPERTY} system property,
+ * one of {@value #RANDOM}, {@value #TIME_ORDERED}, {@value #SECURE_RANDOM}
+ * or the class name of an {@link EventIdGenerator} with a public no-arg constructor.
+ * Defaults to {@value #RANDOM}, also when the property names no generator that can be created.
+ */
+public final class EventIds {
+
+    /**
+     * System property selecting the initial generator.
+     */
+    public static final String GENERATOR_PROPERTY = "cdevents.id.generator";
+
+    /**
+     * Random UUIDs from a thread local random, see {@link RandomEventIdGenerator}.
+     */
+    public static final String RANDOM = "random";
+
+    /**
+     * Time-ordered UUIDs, see {@link TimeOrderedEventIdGenerator}.
+     */
+    public static final String TIME_ORDERED = "time-ordered";
+
+    /**
+     * Random UUIDs from {@link UUID#randomUUID()}.
+     */
+    public static final String SECURE_RANDOM = "secure-random";
+
+    private static final Logger log = LoggerFactory.getLogger(EventIds.class);
+
+    private static volatile EventIdGenerator generator = parseGenerator(System.getProperty(GENERATOR_PROPERTY));
+
+    private EventIds() {
+    }
+
+    /**
+     * @return a new event id from the current generator
+     */
+    public static String nextId() {
+        return generator.nextId();
+    }
+
+    /**
+     * @return the current generator
+     */
+    public static EventIdGenerator getGenerator() {
+        return generator;
+    }
+
+    /**
+     * @param eventIdGenerator the generator to use for new events
+     */
+    public static void setGenerator(EventIdGenerator eventIdGenerator) {
+        if (eventIdGenerator == null) {
+            throw new IllegalArgumentException("EventIdGenerator must not be null");
+        }
+        generator = eventIdGenerator;
+    }
+
+    /**
+     * @param name one of the built-in generator names or an {@link EventIdGenerator} class name
+     * @return the generator
+     */
+    public static EventIdGenerator fromName(String name) {
+        switch (name) {
+            case RANDOM:
+                return new RandomEventIdGenerator();
+            case TIME_ORDERED:
+                return new TimeOrderedEventIdGenerator();
+            case SECURE_RANDOM:
+                return () -> UUID.randomUUID().toString();
+            default:
+                try {
+                    return (EventIdGenerator) Class.forName(name).getDeclaredConstructor().newInstance();
+                } catch (ReflectiveOperationException | ClassCastException e) {
+                    throw new CDEventsException("Unable to create EventIdGenerator " + name, e);
+                }
+        }
+    }
+
+    static EventIdGenerator parseGenerator(String name) {
+        if (name == null) {
+            return new RandomEventIdGenerator();
+        }
+        try {
+            return fromName(name.trim());
+        } catch (CDEventsException | LinkageError e) {
+            log.warn("Ignoring {}={}, falling back to the {} generator: {}", GENERATOR_PROPERTY, name, RANDOM, e.toString());
+            return new RandomEventIdGenerator();
+        }
+    }
+}
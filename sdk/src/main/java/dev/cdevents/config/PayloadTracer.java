@@ -0,0 +1,166 @@
+package dev.cdevents.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Opt-in tracing of CDEvent payloads.
+ * Payloads are logged at DEBUG level to the {@value #LOGGER_NAME} logger, only when a sample rate
+ * greater than zero is configured and that logger has DEBUG enabled. Logged payloads are truncated
+ * to a maximum length. Callers are expected to guard with {@link #shouldTrace()}, so that no
+ * serialization or string work happens when tracing is disabled.
+ * The initial settings are read from the {@value #SAMPLE_RATE_PROPERTY} and {@value #MAX_LENGTH_PROPERTY}
+ * system properties. Invalid values are logged as a warning and leave tracing disabled, or the maximum length
+ * at its default.
+ */
+public final class PayloadTracer {
+
+    /**
+     * Name of the logger payloads are traced to.
+     */
+    public static final String LOGGER_NAME = "dev.cdevents.payload";
+
+    /**
+     * System property with the initial sample rate, between 0.0 (disabled) and 1.0 (every event).
+     */
+    public static final String SAMPLE_RATE_PROPERTY = "cdevents.payload.trace.sampleRate";
+
+    /**
+     * System property with the initial maximum length of a traced payload.
+     */
+    public static final String MAX_LENGTH_PROPERTY = "cdevents.payload.trace.maxLength";
+
+    /**
+     * Default maximum length of a traced payload.
+     */
+    public static final int DEFAULT_MAX_LENGTH = 1024;
+
+    private static final Logger log = LoggerFactory.getLogger(LOGGER_NAME);
+
+    private static volatile double sampleRate = parseSampleRate(System.getProperty(SAMPLE_RATE_PROPERTY));
+
+    private static volatile int maxLength = parseMaxLength(System.getProperty(MAX_LENGTH_PROPERTY));
+
+    private PayloadTracer() {
+    }
+
+    /**
+     * Enables payload tracing.
+     * @param rate fraction of payloads to trace, between 0.0 (disabled) and 1.0 (every event)
+     * @param length maximum number of characters of a traced payload
+     */
+    public static void configure(double rate, int length) {
+        if (!(rate >= 0 && rate <= 1)) {
+            throw new IllegalArgumentException("Payload trace sample rate must be between 0 and 1, got " + rate);
+        }
+        if (length < 0) {
+            throw new IllegalArgumentException("Payload trace max length must not be negative, got " + length);
+        }
+        sampleRate = rate;
+        maxLength = length;
+    }
+
+    /**
+     * Disables payload tracing.
+     */
+    public static void disable() {
+        sampleRate = 0;
+    }
+
+    /**
+     * @return true, If the next payload should be traced
+     */
+    public static boolean shouldTrace() {
+        double rate = sampleRate;
+        if (rate <= 0 || !log.isDebugEnabled()) {
+            return false;
+        }
+        return rate >= 1 || ThreadLocalRandom.current().nextDouble() < rate;
+    }
+
+    /**
+     * Traces a UTF-8 encoded json payload, decoding at most the configured maximum length.
+     * @param eventType type of the traced CDEvent
+     * @param payload json bytes of the CDEvent
+     */
+    public static void trace(String eventType, byte[] payload) {
+        int length = maxLength;
+        if (payload.length <= length) {
+            log.debug("CDEvent with type {} as json - {}", eventType, new String(payload, StandardCharsets.UTF_8));
+        } else {
+            int end = utf8Boundary(payload, length);
+            log.debug("CDEvent with type {} as json - {}... ({} of {} bytes)", eventType,
+                    new String(payload, 0, end, StandardCharsets.UTF_8), end, payload.length);
+        }
+    }
+
+    /**
+     * Traces a message, truncated to the configured maximum length.
+     * @param message the message to trace
+     * @param detail detail to append to the message
+     */
+    public static void traceMessage(String message, Object detail) {
+        log.debug("{} {}", message, truncate(String.valueOf(detail), maxLength));
+    }
+
+    /**
+     * @param value the string to truncate
+     * @param length maximum number of characters to keep
+     * @return the value, truncated to length characters
+     */
+    public static String truncate(String value, int length) {
+        if (value.length() <= length) {
+            return value;
+        }
+        // do not split a surrogate pair
+        int end = length > 0 && Character.isHighSurrogate(value.charAt(length - 1)) ? length - 1 : length;
+        return value.substring(0, end) + "... (" + end + " of " + value.length() + " chars)";
+    }
+
+    /**
+     * @return the largest length of at most maxLength bytes that ends on a UTF-8 character boundary
+     */
+    static int utf8Boundary(byte[] payload, int maxLength) {
+        int end = maxLength;
+        // the byte at end is not kept, and a continuation byte there means its character starts before end
+        while (end > 0 && (payload[end] & 0xC0) == 0x80) {
+            end--;
+        }
+        return end;
+    }
+
+    static double parseSampleRate(String value) {
+        if (value == null) {
+            return 0;
+        }
+        try {
+            double rate = Double.parseDouble(value.trim());
+            if (rate >= 0 && rate <= 1) {
+                return rate;
+            }
+        } catch (NumberFormatException e) {
+            // logged below
+        }
+        log.warn("Ignoring {}={}, the payload trace sample rate must be between 0 and 1", SAMPLE_RATE_PROPERTY, value);
+        return 0;
+    }
+
+    static int parseMaxLength(String value) {
+        if (value == null) {
+            return DEFAULT_MAX_LENGTH;
+        }
+        try {
+            int length = Integer.parseInt(value.trim());
+            if (length >= 0) {
+                return length;
+            }
+        } catch (NumberFormatException e) {
+            // logged below
+        }
+        log.warn("Ignoring {}={}, the payload trace max length must be a non-negative integer", MAX_LENGTH_PROPERTY, value);
+        return DEFAULT_MAX_LENGTH;
+    }
+}
@@ -0,0 +1,25 @@
+package dev.cdevents.config;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Generates random (version 4) UUIDs from {@link ThreadLocalRandom}.
+ * Unlike {@link UUID#randomUUID()} it does not contend on a shared SecureRandom,
+ * the ids are unique but not cryptographically unpredictable.
+ */
+public final class RandomEventIdGenerator implements EventIdGenerator {
+
+    private static final long VERSION_MASK = 0xFFFFFFFFFFFF0FFFL;
+    private static final long VERSION_4 = 0x0000000000004000L;
+    private static final long VARIANT_MASK = 0x3FFFFFFFFFFFFFFFL;
+    private static final long VARIANT_IETF = 0x8000000000000000L;
+
+    @Override
+    public String nextId() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long mostSigBits = (random.nextLong() & VERSION_MASK) | VERSION_4;
+        long leastSigBits = (random.nextLong() & VARIANT_MASK) | VARIANT_IETF;
+        return new UUID(mostSigBits, leastSigBits).toString();
+    }
+}
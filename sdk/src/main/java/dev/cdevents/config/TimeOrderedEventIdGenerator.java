@@ -0,0 +1,27 @@
+package dev.cdevents.config;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Generates time-ordered (version 7) UUIDs, as defined by RFC 9562.
+ * The first 48 bits hold the Unix epoch milliseconds and the remaining bits are random
+ * from {@link ThreadLocalRandom}, so ids sort by creation time and keep index inserts
+ * in event stores mostly sequential.
+ */
+public final class TimeOrderedEventIdGenerator implements EventIdGenerator {
+
+    private static final int TIMESTAMP_SHIFT = 16;
+    private static final long VERSION_7 = 0x7000L;
+    private static final long RAND_A_MASK = 0x0FFFL;
+    private static final long VARIANT_MASK = 0x3FFFFFFFFFFFFFFFL;
+    private static final long VARIANT_IETF = 0x8000000000000000L;
+
+    @Override
+    public String nextId() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long mostSigBits = (System.currentTimeMillis() << TIMESTAMP_SHIFT) | VERSION_7 | (random.nextLong() & RAND_A_MASK);
+        long leastSigBits = (random.nextLong() & VARIANT_MASK) | VARIANT_IETF;
+        return new UUID(mostSigBits, leastSigBits).toString();
+    }
+}
@@ -0,0 +1,27 @@
+package dev.cdevents.config;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.util.Date;
+
+/**
+ * Serializes {@link Date} values as event timestamps through {@link Timestamps},
+ * instead of a per-use copy of a SimpleDateFormat.
+ */
+public class TimestampSerializer extends StdSerializer<Date> {
+
+    /**
+     * Creates the serializer.
+     */
+    public TimestampSerializer() {
+        super(Date.class);
+    }
+
+    @Override
+    public void serialize(Date value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeString(Timestamps.format(value.getTime()));
+    }
+}
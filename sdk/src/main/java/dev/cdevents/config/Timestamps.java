@@ -0,0 +1,117 @@
+package dev.cdevents.config;
+
+import java.time.Instant;
+
+/**
+ * Thread-safe formatting of event timestamps as UTC ISO-8601 date-times with second precision,
+ * e.g. 2023-03-20T14:27:05Z.
+ * The last formatted second is cached, so events created within the same second
+ * share a single formatted String.
+ */
+public final class Timestamps {
+
+    private static final long MILLIS_PER_SECOND = 1000L;
+    private static final long SECONDS_PER_DAY = 86400L;
+    private static final int SECONDS_PER_HOUR = 3600;
+    private static final int SECONDS_PER_MINUTE = 60;
+    private static final int FORMATTED_LENGTH = 20;
+    private static final int YEAR_DIGITS = 4;
+    private static final int MAX_YEAR = 9999;
+    private static final int DECIMAL_RADIX = 10;
+
+    // civil_from_days of http://howardhinnant.github.io/date_algorithms.html, with years starting on March 1st
+    private static final long DAYS_FROM_0000_03_01_TO_EPOCH = 719468L;
+    private static final long DAYS_PER_ERA = 146097L;
+    private static final long YEARS_PER_ERA = 400L;
+    private static final long DAYS_PER_YEAR = 365L;
+    private static final long YEARS_PER_LEAP_YEAR = 4L;
+    private static final long YEARS_PER_CENTURY = 100L;
+    private static final long DAYS_PER_4_YEARS = YEARS_PER_LEAP_YEAR * DAYS_PER_YEAR + 1;
+    private static final long DAYS_PER_CENTURY = YEARS_PER_CENTURY * DAYS_PER_YEAR + YEARS_PER_CENTURY / YEARS_PER_LEAP_YEAR - 1;
+    // the 5 months from March to July, like those from August to December, have 153 days
+    private static final long DAYS_PER_5_MONTHS = 153L;
+    private static final long MONTHS_PER_153_DAYS = 5L;
+    private static final int MARCH = 3;
+    private static final int FEBRUARY = 2;
+    private static final int MONTHS_PER_YEAR = 12;
+
+    private static volatile Formatted last = new Formatted(Long.MIN_VALUE, null);
+
+    private Timestamps() {
+    }
+
+    /**
+     * @param epochMillis milliseconds since the epoch
+     * @return the timestamp formatted as yyyy-MM-dd'T'HH:mm:ss'Z' in UTC
+     */
+    public static String format(long epochMillis) {
+        long epochSecond = Math.floorDiv(epochMillis, MILLIS_PER_SECOND);
+        Formatted cached = last;
+        if (cached.epochSecond == epochSecond) {
+            return cached.value;
+        }
+        String value = formatEpochSecond(epochSecond);
+        last = new Formatted(epochSecond, value);
+        return value;
+    }
+
+    private static String formatEpochSecond(long epochSecond) {
+        long epochDay = Math.floorDiv(epochSecond, SECONDS_PER_DAY);
+        int secondOfDay = (int) Math.floorMod(epochSecond, SECONDS_PER_DAY);
+
+        // civil date from days since 1970-01-01, proleptic Gregorian calendar
+        long days = epochDay + DAYS_FROM_0000_03_01_TO_EPOCH;
+        long era = Math.floorDiv(days, DAYS_PER_ERA);
+        long dayOfEra = days - era * DAYS_PER_ERA;
+        long yearOfEra = (dayOfEra - dayOfEra / (DAYS_PER_4_YEARS - 1) + dayOfEra / DAYS_PER_CENTURY
+                - dayOfEra / (DAYS_PER_ERA - 1)) / DAYS_PER_YEAR;
+        long dayOfYear = dayOfEra - (DAYS_PER_YEAR * yearOfEra + yearOfEra / YEARS_PER_LEAP_YEAR - yearOfEra / YEARS_PER_CENTURY);
+        long monthOfYear = (MONTHS_PER_153_DAYS * dayOfYear + 2) / DAYS_PER_5_MONTHS;
+        int day = (int) (dayOfYear - (DAYS_PER_5_MONTHS * monthOfYear + 2) / MONTHS_PER_153_DAYS + 1);
+        int month = (int) monthOfYear + MARCH;
+        if (month > MONTHS_PER_YEAR) {
+            month -= MONTHS_PER_YEAR;
+        }
+        long year = yearOfEra + era * YEARS_PER_ERA + (month <= FEBRUARY ? 1 : 0);
+        if (year < 0 || year > MAX_YEAR) {
+            return Instant.ofEpochSecond(epochSecond).toString();
+        }
+
+        char[] chars = new char[FORMATTED_LENGTH];
+        int position = writeDigits(chars, 0, (int) year, YEAR_DIGITS);
+        chars[position++] = '-';
+        position = writeDigits(chars, position, month, 2);
+        chars[position++] = '-';
+        position = writeDigits(chars, position, day, 2);
+        chars[position++] = 'T';
+        position = writeDigits(chars, position, secondOfDay / SECONDS_PER_HOUR, 2);
+        chars[position++] = ':';
+        position = writeDigits(chars, position, secondOfDay % SECONDS_PER_HOUR / SECONDS_PER_MINUTE, 2);
+        chars[position++] = ':';
+        position = writeDigits(chars, position, secondOfDay % SECONDS_PER_MINUTE, 2);
+        chars[position] = 'Z';
+        return new String(chars);
+    }
+
+    /**
+     * @return the offset right after the digits
+     */
+    private static int writeDigits(char[] chars, int offset, int value, int width) {
+        int remaining = value;
+        for (int i = offset + width - 1; i >= offset; i--) {
+            chars[i] = (char) ('0' + remaining % DECIMAL_RADIX);
+            remaining /= DECIMAL_RADIX;
+        }
+        return offset + width;
+    }
+
+    private static final class Formatted {
+        private final long epochSecond;
+        private final String value;
+
+        Formatted(long epochSecond, String value) {
+            this.epochSecond = epochSecond;
+            this.value = value;
+        }
+    }
+}
@@ -75,6 +75,18 @@ public final class CDEventConstants {
         }
     }
 
+    public enum CloudEventDataMode {
+        /**
+         * The cdEvent is serialized eagerly and attached to the CloudEvent as json bytes.
+         */
+        BYTES,
+        /**
+         * The cdEvent is attached to the CloudEvent as a PojoCloudEventData,
+         * serialized only when a consumer first asks for the data bytes.
+         */
+        POJO
+    }
+
     public enum CDEventTypes {
 
         /* PipelineRun events */
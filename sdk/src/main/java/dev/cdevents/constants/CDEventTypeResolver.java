@@ -0,0 +1,93 @@
+package dev.cdevents.constants;
+
+import dev.cdevents.exception.CDEventsException;
+import dev.cdevents.models.CDEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Resolves the versioned {@code context.type} of a CDEvent, e.g. dev.cdevents.pipelinerun.started.0.1.1,
+ * to its {@link CDEventConstants.CDEventTypes}.
+ * The versioned type of every event is precomputed, so that resolving a type the SDK generates
+ * is a single map lookup that neither allocates nor runs a regex. Other versions of a known
+ * event type are resolved by comparing the unversioned prefix in place.
+ */
+public final class CDEventTypeResolver {
+
+    private static final Logger log = LoggerFactory.getLogger(CDEventTypeResolver.class);
+
+    private static final CDEventConstants.CDEventTypes[] TYPES = CDEventConstants.CDEventTypes.values();
+
+    private static final Map<String, CDEventConstants.CDEventTypes> TYPES_BY_VERSIONED_TYPE = new HashMap<>();
+
+    private static final String[] VERSIONED_TYPES = new String[TYPES.length];
+
+    static {
+        for (CDEventConstants.CDEventTypes type : TYPES) {
+            String versionedType = newEvent(type).currentCDEventType();
+            VERSIONED_TYPES[type.ordinal()] = versionedType;
+            TYPES_BY_VERSIONED_TYPE.put(versionedType, type);
+        }
+    }
+
+    private CDEventTypeResolver() {
+    }
+
+    /**
+     * @param contextType the versioned context type of a CDEvent
+     * @return the CDEvent type
+     * @throws CDEventsException if the context type is not a known CDEvent type
+     */
+    public static CDEventConstants.CDEventTypes resolve(String contextType) {
+        CDEventConstants.CDEventTypes type = TYPES_BY_VERSIONED_TYPE.get(contextType);
+        if (type != null) {
+            return type;
+        }
+        if (!contextType.startsWith(CDEventConstants.EVENT_PREFIX)) {
+            throw new CDEventsException("Invalid CDEvent type found in CDEvent Json " + contextType);
+        }
+        int unVersionedLength = unVersionedLength(contextType);
+        for (CDEventConstants.CDEventTypes candidate : TYPES) {
+            String eventType = candidate.getEventType();
+            if (eventType.length() == unVersionedLength && contextType.startsWith(eventType)) {
+                return candidate;
+            }
+        }
+        log.error("Invalid CDEvent type found {} from cdEventJson", contextType);
+        throw new CDEventsException("Invalid CDEvent type found from cdEventJson");
+    }
+
+    /**
+     * @param eventType the CDEvent type
+     * @return the versioned context type generated for the event type, e.g. dev.cdevents.pipelinerun.started.0.1.1
+     */
+    public static String versionedType(CDEventConstants.CDEventTypes eventType) {
+        return VERSIONED_TYPES[eventType.ordinal()];
+    }
+
+    /**
+     * @return length of dev.cdevents.subject.predicate. including the trailing dot, or -1 if there is no version
+     */
+    private static int unVersionedLength(String contextType) {
+        int index = CDEventConstants.EVENT_PREFIX.length();
+        for (int dots = CDEventConstants.EVENT_SUBJECT_INDEX; dots <= CDEventConstants.EVENT_PREDICATE_INDEX; dots++) {
+            index = contextType.indexOf('.', index);
+            if (index < 0) {
+                return -1;
+            }
+            index++;
+        }
+        return index;
+    }
+
+    private static CDEvent newEvent(CDEventConstants.CDEventTypes type) {
+        try {
+            return (CDEvent) type.getEventClass().getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new CDEventsException("Exception while creating CDEvent of type " + type.getEventType(), e);
+        }
+    }
+}
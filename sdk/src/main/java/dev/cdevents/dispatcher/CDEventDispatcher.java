@@ -0,0 +1,346 @@
+package dev.cdevents.dispatcher;
+
+import dev.cdevents.CDEvents;
+import dev.cdevents.constants.CDEventConstants;
+import dev.cdevents.constants.CDEventTypeResolver;
+import dev.cdevents.exception.CDEventsException;
+import dev.cdevents.models.CDEvent;
+import dev.cdevents.serialization.CDEventEncoding;
+import dev.cdevents.validation.ValidationPolicy;
+import io.cloudevents.CloudEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Routes incoming CDEvents to the handlers registered for their type.
+ * Each event is decoded and validated once, whatever the number of handlers, and events of a type
+ * without handlers are dropped after reading only their context type. Handlers are looked up in an
+ * array indexed by the {@link CDEventConstants.CDEventTypes} ordinal, built once by the {@link Builder}.
+ * Without an executor, handlers run on the dispatching thread in registration order. With an executor,
+ * every handler runs on it, and the events with the same subject id are handled one at a time and in
+ * dispatch order by each handler. Events without a subject id share a single lane.
+ */
+public final class CDEventDispatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(CDEventDispatcher.class);
+
+    private static final CDEventConstants.CDEventTypes[] TYPES = CDEventConstants.CDEventTypes.values();
+
+    private static final String WILDCARD = "*";
+
+    private static final int MAX_TASKS_PER_RUN = 64;
+
+    private final Registration[][] registrationsByType = new Registration[TYPES.length][];
+    private final Executor executor;
+    private final ValidationPolicy validationPolicy;
+    private final AtomicLong handledCount = new AtomicLong();
+    private final AtomicLong unhandledCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+
+    private CDEventDispatcher(Builder builder) {
+        this.executor = builder.executor;
+        this.validationPolicy = builder.validationPolicy;
+        List<List<Registration>> registrations = new ArrayList<>(TYPES.length);
+        for (int i = 0; i < TYPES.length; i++) {
+            registrations.add(new ArrayList<>());
+        }
+        for (Entry entry : builder.entries) {
+            Registration registration = new Registration(entry.handler, executor != null ? builder.orderingLanes : 0);
+            for (CDEventConstants.CDEventTypes type : entry.types) {
+                registrations.get(type.ordinal()).add(registration);
+            }
+        }
+        for (int i = 0; i < TYPES.length; i++) {
+            registrationsByType[i] = registrations.get(i).toArray(new Registration[0]);
+        }
+    }
+
+    /**
+     * @return a builder of a dispatcher
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Decodes the UTF-8 encoded cdEventJson and routes the CDEvent to its handlers.
+     * @param cdEventJson the CDEvent json
+     * @return true, If the CDEvent has handlers
+     * @throws CDEventsException if the cdEventJson has handlers and is not a valid CDEvent
+     */
+    public boolean dispatch(byte[] cdEventJson) {
+        Registration[] registrations = registrationsByType[CDEvents.cdEventTypeFromJson(cdEventJson).ordinal()];
+        if (registrations.length == 0) {
+            unhandledCount.incrementAndGet();
+            return false;
+        }
+        route(CDEvents.cdEventFromJson(cdEventJson, validationPolicy), registrations);
+        return true;
+    }
+
+    /**
+     * Routes the CDEvent carried by the cloudEvent to its handlers. The CDEvent type is taken from the
+     * CloudEvent type, so that the data is decoded only for events with handlers. The data is decoded
+     * in the {@link CDEventEncoding} of the CloudEvent datacontenttype.
+     * @param cloudEvent the CloudEvent
+     * @return true, If the CDEvent has handlers
+     * @throws CDEventsException if the cloudEvent has handlers and does not carry a valid CDEvent
+     * in one of the {@link CDEventEncoding}s
+     */
+    public boolean dispatch(CloudEvent cloudEvent) {
+        Registration[] registrations = registrationsByType[CDEventTypeResolver.resolve(cloudEvent.getType()).ordinal()];
+        if (registrations.length == 0) {
+            unhandledCount.incrementAndGet();
+            return false;
+        }
+        if (cloudEvent.getData() == null) {
+            throw new CDEventsException("CloudEvent " + cloudEvent.getId() + " does not carry CDEvent data");
+        }
+        CDEventEncoding encoding = CDEventEncoding.fromContentType(cloudEvent.getDataContentType());
+        route(encoding == CDEventEncoding.JSON
+                ? CDEvents.cdEventFromJson(cloudEvent.getData(), validationPolicy)
+                : CDEvents.cdEventFromBytes(cloudEvent.getData().toBytes(), encoding, validationPolicy), registrations);
+        return true;
+    }
+
+    /**
+     * Routes an already decoded CDEvent to its handlers.
+     * @param cdEvent the CDEvent
+     * @return true, If the CDEvent has handlers
+     */
+    public boolean dispatch(CDEvent cdEvent) {
+        Registration[] registrations = registrationsByType[CDEventTypeResolver.resolve(cdEvent.currentCDEventType()).ordinal()];
+        if (registrations.length == 0) {
+            unhandledCount.incrementAndGet();
+            return false;
+        }
+        route(cdEvent, registrations);
+        return true;
+    }
+
+    /**
+     * @return number of handler invocations that completed
+     */
+    public long getHandledCount() {
+        return handledCount.get();
+    }
+
+    /**
+     * @return number of events dispatched without handlers
+     */
+    public long getUnhandledCount() {
+        return unhandledCount.get();
+    }
+
+    /**
+     * @return number of handler invocations that threw an exception
+     */
+    public long getFailedCount() {
+        return failedCount.get();
+    }
+
+    private void route(CDEvent cdEvent, Registration[] registrations) {
+        if (executor == null) {
+            for (Registration registration : registrations) {
+                handle(registration.handler, cdEvent);
+            }
+            return;
+        }
+        String subjectId = cdEvent.eventSubjectId();
+        // events without a subject id, e.g. of CDEvent classes implemented outside the SDK, go to the first lane
+        int hash = subjectId != null ? spread(subjectId.hashCode()) : 0;
+        for (Registration registration : registrations) {
+            registration.lanes[hash & (registration.lanes.length - 1)].execute(() -> handle(registration.handler, cdEvent));
+        }
+    }
+
+    private void handle(CDEventHandler<CDEvent> handler, CDEvent cdEvent) {
+        try {
+            handler.handle(cdEvent);
+            handledCount.incrementAndGet();
+        } catch (Exception e) {
+            failedCount.incrementAndGet();
+            log.error("CDEvent handler failed for event type {} {}", cdEvent.currentCDEventType(), e.getMessage());
+        }
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    private final class Registration {
+        private final CDEventHandler<CDEvent> handler;
+        private final SerialLane[] lanes;
+
+        Registration(CDEventHandler<CDEvent> handler, int laneCount) {
+            this.handler = handler;
+            this.lanes = new SerialLane[laneCount];
+            for (int i = 0; i < laneCount; i++) {
+                lanes[i] = new SerialLane();
+            }
+        }
+    }
+
+    /**
+     * Runs its tasks on the executor one at a time in submission order. A lane yields the executor
+     * thread after {@link #MAX_TASKS_PER_RUN} tasks, so that a busy subject does not starve the others.
+     */
+    private final class SerialLane implements Runnable {
+        private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger pending = new AtomicInteger();
+
+        void execute(Runnable task) {
+            tasks.offer(task);
+            if (pending.getAndIncrement() == 0) {
+                executor.execute(this);
+            }
+        }
+
+        @Override
+        public void run() {
+            for (int i = 0; i < MAX_TASKS_PER_RUN; i++) {
+                tasks.poll().run();
+                if (pending.decrementAndGet() == 0) {
+                    return;
+                }
+            }
+            executor.execute(this);
+        }
+    }
+
+    private static final class Entry {
+        private final CDEventHandler<CDEvent> handler;
+        private final EnumSet<CDEventConstants.CDEventTypes> types;
+
+        Entry(CDEventHandler<CDEvent> handler, EnumSet<CDEventConstants.CDEventTypes> types) {
+            this.handler = handler;
+            this.types = types;
+        }
+    }
+
+    public static final class Builder {
+
+        private final List<Entry> entries = new ArrayList<>();
+        private Executor executor;
+        private int orderingLanes = 16;
+        private ValidationPolicy validationPolicy = ValidationPolicy.FULL;
+
+        private Builder() {
+        }
+
+        /**
+         * Registers a handler for one CDEvent type.
+         * @param eventType the CDEvent type
+         * @param handler the handler
+         * @return this builder
+         */
+        public Builder on(CDEventConstants.CDEventTypes eventType, CDEventHandler<CDEvent> handler) {
+            return register(EnumSet.of(eventType), handler);
+        }
+
+        /**
+         * Registers a handler for the CDEvents of a class, e.g. {@code PipelinerunStartedCDEvent.class}.
+         * @param eventClass the CDEvent class
+         * @param handler the handler
+         * @param <T> the CDEvent class
+         * @return this builder
+         */
+        @SuppressWarnings("unchecked")
+        public <T extends CDEvent> Builder on(Class<T> eventClass, CDEventHandler<? super T> handler) {
+            for (CDEventConstants.CDEventTypes type : TYPES) {
+                if (type.getEventClass() == eventClass) {
+                    return register(EnumSet.of(type), (CDEventHandler<CDEvent>) handler);
+                }
+            }
+            throw new IllegalArgumentException("Not a CDEvent class " + eventClass);
+        }
+
+        /**
+         * Registers a handler for the CDEvent types matching a subject and predicate pattern, e.g.
+         * {@code pipelinerun.*}, {@code *.finished}, {@code pipelinerun.started} or {@code *}.
+         * The same handler instance is registered once for all matching types, so events of different
+         * types about the same subject are handled in order.
+         * @param typePattern the subject and predicate pattern
+         * @param handler the handler
+         * @return this builder
+         */
+        public Builder on(String typePattern, CDEventHandler<CDEvent> handler) {
+            String pattern = typePattern.startsWith(CDEventConstants.EVENT_PREFIX)
+                    ? typePattern.substring(CDEventConstants.EVENT_PREFIX.length()) : typePattern;
+            int dot = pattern.indexOf('.');
+            String subject = dot < 0 ? pattern : pattern.substring(0, dot);
+            String predicate = dot < 0 ? WILDCARD : pattern.substring(dot + 1);
+            EnumSet<CDEventConstants.CDEventTypes> types = EnumSet.noneOf(CDEventConstants.CDEventTypes.class);
+            for (CDEventConstants.CDEventTypes type : TYPES) {
+                String[] parts = type.getEventType().substring(CDEventConstants.EVENT_PREFIX.length()).split("\\.");
+                if ((WILDCARD.equals(subject) || subject.equals(parts[0]))
+                        && (WILDCARD.equals(predicate) || predicate.equals(parts[1]))) {
+                    types.add(type);
+                }
+            }
+            if (types.isEmpty()) {
+                throw new IllegalArgumentException("No CDEvent type matches " + typePattern);
+            }
+            return register(types, handler);
+        }
+
+        /**
+         * @param handlerExecutor executor to run handlers on, handlers run on the dispatching thread by default.
+         *                        The executor must not reject tasks.
+         * @return this builder
+         */
+        public Builder executor(Executor handlerExecutor) {
+            this.executor = handlerExecutor;
+            return this;
+        }
+
+        /**
+         * @param lanes number of ordered lanes per handler that subject ids are spread over when an executor
+         *              is used, rounded up to a power of two, defaults to 16
+         * @return this builder
+         */
+        public Builder orderingLanes(int lanes) {
+            if (lanes < 1 || lanes > 1 << 16) {
+                throw new IllegalArgumentException("Ordering lanes must be between 1 and 65536, got " + lanes);
+            }
+            this.orderingLanes = lanes == 1 ? 1 : Integer.highestOneBit(lanes - 1) << 1;
+            return this;
+        }
+
+        /**
+         * @param policy how dispatched CDEvent json is validated, defaults to {@link ValidationPolicy#FULL}
+         * @return this builder
+         */
+        public Builder validationPolicy(ValidationPolicy policy) {
+            if (policy == null) {
+                throw new IllegalArgumentException("Validation policy must not be null");
+            }
+            this.validationPolicy = policy;
+            return this;
+        }
+
+        /**
+         * @return the dispatcher
+         */
+        public CDEventDispatcher build() {
+            return new CDEventDispatcher(this);
+        }
+
+        private Builder register(EnumSet<CDEventConstants.CDEventTypes> types, CDEventHandler<CDEvent> handler) {
+            if (handler == null) {
+                throw new IllegalArgumentException("Handler must not be null");
+            }
+            entries.add(new Entry(handler, types));
+            return this;
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package dev.cdevents.dispatcher;
+
+import dev.cdevents.models.CDEvent;
+
+/**
+ * Handles the CDEvents a {@link CDEventDispatcher} routes to it.
+ * @param <T> the CDEvent class handled
+ */
+@FunctionalInterface
+public interface CDEventHandler<T extends CDEvent> {
+
+    /**
+     * Handles a decoded and validated CDEvent.
+     * @param cdEvent the CDEvent
+     * @throws Exception if handling failed, the exception is logged and counted by the dispatcher
+     */
+    void handle(T cdEvent) throws Exception;
+}
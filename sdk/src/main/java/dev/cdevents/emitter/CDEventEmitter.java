@@ -0,0 +1,473 @@
+package dev.cdevents.emitter;
+
+import dev.cdevents.CDEvents;
+import dev.cdevents.constants.CDEventConstants;
+import dev.cdevents.exception.CDEventsException;
+import dev.cdevents.models.CDEvent;
+import dev.cdevents.validation.ValidationPolicy;
+import io.cloudevents.CloudEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Emits CDEvents asynchronously through a {@link CDEventTransport}.
+ * Emitted events are converted to CloudEvents and written to json on the calling thread, so that
+ * validation errors are reported to the caller and an emitted CDEvent can be reused, and are then
+ * queued in a bounded lock-free queue. A single background
+ * drainer thread groups queued events into batches of at most {@code maxBatchSize} events, sending
+ * a batch when it is full or when its oldest event has waited {@code maxBatchDelay}.
+ * When the queue is full, the {@link OverflowPolicy} decides whether to block, drop the oldest
+ * queued event or reject the new one. Batches the transport fails to send are logged and counted,
+ * not retried.
+ * With a {@link CDEventOutbox}, every event is appended to the outbox before it is queued and is
+ * acknowledged once its batch is sent. Failed batches are then retried every {@code retryDelay} until
+ * they are sent or the emitter is closed, and events left in the outbox are queued again when the
+ * next emitter is built on it. An outbox cannot be combined with {@link OverflowPolicy#DROP_OLDEST}, as a dropped
+ * event would be acknowledged with the batch sent after it.
+ */
+public final class CDEventEmitter implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(CDEventEmitter.class);
+
+    private static final long BLOCK_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+
+    private static final long NO_OFFSET = -1L;
+
+    private final CDEventTransport transport;
+    private final int capacity;
+    private final int maxBatchSize;
+    private final long maxBatchDelayNanos;
+    private final long closeTimeoutMillis;
+    private final OverflowPolicy overflowPolicy;
+    private final CDEventOutbox outbox;
+    private final long retryDelayNanos;
+    private final ValidationPolicy validationPolicy;
+    private final CDEventConstants.CloudEventDataMode dataMode;
+
+    private final Queue<Pending> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queueSize = new AtomicInteger();
+    private final AtomicLong sentCount = new AtomicLong();
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+    private final Thread drainer;
+    private volatile boolean closed;
+
+    private CDEventEmitter(Builder builder) {
+        this.transport = builder.transport;
+        this.capacity = builder.capacity;
+        this.maxBatchSize = builder.maxBatchSize;
+        this.maxBatchDelayNanos = builder.maxBatchDelay.toNanos();
+        this.closeTimeoutMillis = builder.closeTimeout.toMillis();
+        this.overflowPolicy = builder.overflowPolicy;
+        this.outbox = builder.outbox;
+        this.retryDelayNanos = builder.retryDelay.toNanos();
+        this.validationPolicy = builder.validationPolicy;
+        this.dataMode = builder.dataMode;
+        this.drainer = new Thread(this::drain, builder.threadName);
+        this.drainer.setDaemon(true);
+        this.drainer.start();
+        if (outbox != null) {
+            requeueUndelivered();
+        }
+    }
+
+    /**
+     * @param transport the transport to send batches with
+     * @return a builder of an emitter sending through the transport
+     */
+    public static Builder builder(CDEventTransport transport) {
+        return new Builder(transport);
+    }
+
+    /**
+     * Validates the cdEvent with the validation policy of the emitter, converts it to a CloudEvent and queues it for sending.
+     * @param cdEvent the CDEvent to emit
+     * @throws CDEventsException if the cdEvent is invalid, the emitter is closed,
+     * or the queue is full with {@link OverflowPolicy#FAIL}
+     */
+    public void emit(CDEvent cdEvent) {
+        emit(CDEvents.cdEventAsCloudEvent(cdEvent, dataMode, validationPolicy));
+    }
+
+    /**
+     * Queues a CloudEvent for sending.
+     * @param cloudEvent the CloudEvent to emit
+     * @throws CDEventsException if the emitter is closed, the queue is full with {@link OverflowPolicy#FAIL},
+     * or the thread is interrupted while waiting for room with {@link OverflowPolicy#BLOCK}
+     */
+    public void emit(CloudEvent cloudEvent) {
+        if (closed) {
+            throw new CDEventsException("CDEvent emitter is closed");
+        }
+        reserve(overflowPolicy);
+        // the drainer stops once closed with nothing reserved, so an event reserved after close() is not queued
+        if (closed) {
+            queueSize.decrementAndGet();
+            throw new CDEventsException("CDEvent emitter is closed");
+        }
+        if (outbox != null) {
+            // append and offer together, so that queue order matches outbox order
+            synchronized (outbox) {
+                queue.offer(new Pending(cloudEvent, outbox.append(cloudEvent)));
+            }
+        } else {
+            queue.offer(new Pending(cloudEvent, NO_OFFSET));
+        }
+        if (queueSize.get() >= maxBatchSize) {
+            LockSupport.unpark(drainer);
+        }
+    }
+
+    /**
+     * @return number of events currently queued
+     */
+    public int getQueueSize() {
+        return queueSize.get();
+    }
+
+    /**
+     * @return number of events sent by the transport
+     */
+    public long getSentCount() {
+        return sentCount.get();
+    }
+
+    /**
+     * @return number of events dropped with {@link OverflowPolicy#DROP_OLDEST}
+     */
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    /**
+     * @return number of events in batches the transport failed to send
+     */
+    public long getFailedCount() {
+        return failedCount.get();
+    }
+
+    /**
+     * Stops accepting events, sends the queued events and closes the transport and the outbox.
+     * Waits at most the configured close timeout for the queued events to be sent.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        LockSupport.unpark(drainer);
+        try {
+            drainer.join(closeTimeoutMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (drainer.isAlive()) {
+            log.warn("CDEvent emitter closed with {} events not sent", queueSize.get());
+        }
+        try {
+            transport.close();
+        } finally {
+            // a drainer still sending fails to acknowledge its batch, which is then replayed by the next emitter
+            if (outbox != null) {
+                outbox.close();
+            }
+        }
+    }
+
+    private void requeueUndelivered() {
+        List<Pending> undelivered = new ArrayList<>();
+        outbox.replay((cloudEvent, offset) -> undelivered.add(new Pending(cloudEvent, offset)));
+        if (!undelivered.isEmpty()) {
+            log.info("Sending {} CloudEvents left undelivered in outbox", undelivered.size());
+        }
+        for (Pending pending : undelivered) {
+            reserve(OverflowPolicy.BLOCK);
+            queue.offer(pending);
+        }
+        LockSupport.unpark(drainer);
+    }
+
+    private void reserve(OverflowPolicy policy) {
+        while (true) {
+            int size = queueSize.get();
+            if (size < capacity) {
+                if (queueSize.compareAndSet(size, size + 1)) {
+                    return;
+                }
+                continue;
+            }
+            switch (policy) {
+                case FAIL:
+                    throw new CDEventsException("CDEvent emitter queue is full");
+                case DROP_OLDEST:
+                    if (queue.poll() != null) {
+                        queueSize.decrementAndGet();
+                        droppedCount.incrementAndGet();
+                    } else {
+                        Thread.yield();
+                    }
+                    break;
+                default:
+                    if (closed) {
+                        throw new CDEventsException("CDEvent emitter is closed");
+                    }
+                    if (Thread.interrupted()) {
+                        Thread.currentThread().interrupt();
+                        throw new CDEventsException("Interrupted while waiting for room in the CDEvent emitter queue");
+                    }
+                    LockSupport.unpark(drainer);
+                    LockSupport.parkNanos(this, BLOCK_PARK_NANOS);
+                    break;
+            }
+        }
+    }
+
+    private void drain() {
+        List<CloudEvent> batch = new ArrayList<>(maxBatchSize);
+        long batchOffset = NO_OFFSET;
+        long batchDeadline = 0;
+        while (true) {
+            Pending pending = queue.poll();
+            if (pending != null) {
+                queueSize.decrementAndGet();
+                if (batch.isEmpty()) {
+                    batchDeadline = System.nanoTime() + maxBatchDelayNanos;
+                }
+                batch.add(pending.cloudEvent);
+                batchOffset = pending.offset;
+                if (batch.size() >= maxBatchSize) {
+                    if (!send(batch, batchOffset)) {
+                        return;
+                    }
+                    batch = new ArrayList<>(maxBatchSize);
+                }
+                continue;
+            }
+            if (!batch.isEmpty() && (closed || System.nanoTime() - batchDeadline >= 0)) {
+                if (!send(batch, batchOffset)) {
+                    return;
+                }
+                batch = new ArrayList<>(maxBatchSize);
+                continue;
+            }
+            if (closed) {
+                if (queueSize.get() == 0) {
+                    return;
+                }
+                // an event is reserved but not yet offered
+                Thread.yield();
+                continue;
+            }
+            if (outbox != null) {
+                outbox.syncIfDue();
+            }
+            LockSupport.parkNanos(this, batch.isEmpty() ? maxBatchDelayNanos : batchDeadline - System.nanoTime());
+        }
+    }
+
+    /**
+     * @return false, If the batch could not be sent and the events left in the outbox must not be acknowledged
+     */
+    private boolean send(List<CloudEvent> batch, long batchOffset) {
+        while (true) {
+            try {
+                transport.send(batch);
+                sentCount.addAndGet(batch.size());
+                if (outbox != null) {
+                    outbox.acknowledge(batchOffset);
+                }
+                return true;
+            } catch (Exception e) {
+                log.error("Failed to send batch of {} CloudEvents {}", batch.size(), e.getMessage());
+                if (outbox == null) {
+                    failedCount.addAndGet(batch.size());
+                    return true;
+                }
+                if (closed) {
+                    failedCount.addAndGet(batch.size() + queueSize.get());
+                    return false;
+                }
+                LockSupport.parkNanos(this, retryDelayNanos);
+            }
+        }
+    }
+
+    private static final class Pending {
+        private final CloudEvent cloudEvent;
+        private final long offset;
+
+        Pending(CloudEvent cloudEvent, long offset) {
+            this.cloudEvent = cloudEvent;
+            this.offset = offset;
+        }
+    }
+
+    /**
+     * Builder of a {@link CDEventEmitter}, created with {@link CDEventEmitter#builder(CDEventTransport)}.
+     */
+    public static final class Builder {
+
+        private final CDEventTransport transport;
+        private int capacity = 10000;
+        private int maxBatchSize = 100;
+        private Duration maxBatchDelay = Duration.ofMillis(100);
+        private Duration closeTimeout = Duration.ofSeconds(30);
+        private OverflowPolicy overflowPolicy = OverflowPolicy.BLOCK;
+        private String threadName = "cdevents-emitter";
+        private CDEventOutbox outbox;
+        private Duration retryDelay = Duration.ofSeconds(1);
+        private ValidationPolicy validationPolicy = ValidationPolicy.FULL;
+        private CDEventConstants.CloudEventDataMode dataMode = CDEventConstants.CloudEventDataMode.BYTES;
+
+        private Builder(CDEventTransport transport) {
+            if (transport == null) {
+                throw new IllegalArgumentException("CDEventTransport must not be null");
+            }
+            this.transport = transport;
+        }
+
+        /**
+         * @param queueCapacity maximum number of queued events, defaults to 10000
+         * @return this builder
+         */
+        public Builder capacity(int queueCapacity) {
+            if (queueCapacity <= 0) {
+                throw new IllegalArgumentException("Capacity must be positive, got " + queueCapacity);
+            }
+            this.capacity = queueCapacity;
+            return this;
+        }
+
+        /**
+         * @param batchSize maximum number of events in a batch, defaults to 100
+         * @return this builder
+         */
+        public Builder maxBatchSize(int batchSize) {
+            if (batchSize <= 0) {
+                throw new IllegalArgumentException("Max batch size must be positive, got " + batchSize);
+            }
+            this.maxBatchSize = batchSize;
+            return this;
+        }
+
+        /**
+         * @param batchDelay maximum time the oldest event of a batch waits before the batch is sent,
+         * defaults to 100 milliseconds
+         * @return this builder
+         */
+        public Builder maxBatchDelay(Duration batchDelay) {
+            if (batchDelay == null || batchDelay.isNegative() || batchDelay.isZero()) {
+                throw new IllegalArgumentException("Max batch delay must be positive, got " + batchDelay);
+            }
+            this.maxBatchDelay = batchDelay;
+            return this;
+        }
+
+        /**
+         * @param timeout maximum time {@link CDEventEmitter#close()} waits for queued events to be sent,
+         * zero waits without limit, defaults to 30 seconds
+         * @return this builder
+         */
+        public Builder closeTimeout(Duration timeout) {
+            if (timeout == null || timeout.isNegative()) {
+                throw new IllegalArgumentException("Close timeout must not be negative, got " + timeout);
+            }
+            this.closeTimeout = timeout;
+            return this;
+        }
+
+        /**
+         * @param policy what to do when the queue is full, defaults to {@link OverflowPolicy#BLOCK}
+         * @return this builder
+         */
+        public Builder overflowPolicy(OverflowPolicy policy) {
+            if (policy == null) {
+                throw new IllegalArgumentException("Overflow policy must not be null");
+            }
+            this.overflowPolicy = policy;
+            return this;
+        }
+
+        /**
+         * @param name name of the drainer thread, defaults to cdevents-emitter
+         * @return this builder
+         */
+        public Builder threadName(String name) {
+            this.threadName = name;
+            return this;
+        }
+
+        /**
+         * @param eventOutbox outbox to persist events to before they are queued, none by default
+         * @return this builder
+         */
+        public Builder outbox(CDEventOutbox eventOutbox) {
+            this.outbox = eventOutbox;
+            return this;
+        }
+
+        /**
+         * @param delay time between attempts to send a failed batch when an outbox is used, defaults to 1 second
+         * @return this builder
+         */
+        public Builder retryDelay(Duration delay) {
+            if (delay == null || delay.isNegative()) {
+                throw new IllegalArgumentException("Retry delay must not be negative, got " + delay);
+            }
+            this.retryDelay = delay;
+            return this;
+        }
+
+        /**
+         * @param policy how emitted CDEvents are validated, defaults to {@link ValidationPolicy#FULL}
+         * @return this builder
+         */
+        public Builder validationPolicy(ValidationPolicy policy) {
+            if (policy == null) {
+                throw new IllegalArgumentException("Validation policy must not be null");
+            }
+            this.validationPolicy = policy;
+            return this;
+        }
+
+        /**
+         * With {@link CDEventConstants.CloudEventDataMode#BYTES}, the default, emitted CDEvents are written to json
+         * on the calling thread, so that a CDEvent can be {@link CDEvent#reset() reset} and filled again as soon as
+         * it is emitted. With {@link CDEventConstants.CloudEventDataMode#POJO}, CDEvents are written when their
+         * batch is sent, which saves a copy of the json, but an emitted CDEvent must then not be modified.
+         * @param mode how emitted CDEvents are attached as CloudEvent data
+         * @return this builder
+         */
+        public Builder dataMode(CDEventConstants.CloudEventDataMode mode) {
+            if (mode == null) {
+                throw new IllegalArgumentException("Data mode must not be null");
+            }
+            this.dataMode = mode;
+            return this;
+        }
+
+        /**
+         * Creates the emitter and starts its drainer thread.
+         * With an outbox, the events left undelivered in it are queued first.
+         * @return the emitter
+         * @throws IllegalArgumentException if an outbox is combined with {@link OverflowPolicy#DROP_OLDEST}
+         */
+        public CDEventEmitter build() {
+            if (outbox != null && overflowPolicy == OverflowPolicy.DROP_OLDEST) {
+                throw new IllegalArgumentException("Overflow policy DROP_OLDEST cannot be used with an outbox");
+            }
+            return new CDEventEmitter(this);
+        }
+    }
+}
@@ -0,0 +1,400 @@
+package dev.cdevents.emitter;
+
+import dev.cdevents.exception.CDEventsException;
+import io.cloudevents.CloudEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.ObjLongConsumer;
+import java.util.zip.CRC32;
+
+/**
+ * Durable, append-only outbox of CloudEvents waiting for delivery.
+ * Events are appended to segment files in a directory, each record framed with its length and CRC32,
+ * and are forced to disk in batches: after {@code fsyncBatchSize} records, or once {@code fsyncInterval}
+ * has passed since the last fsync. Delivered events are acknowledged by their offset, which is kept in
+ * a checkpoint file; fully acknowledged segments are deleted. On open, a record torn by a crash is
+ * truncated and {@link #replay(ObjLongConsumer)} returns every record after the checkpoint, so delivery
+ * is at least once. Offsets are positions in the log across all segments, the offset of a record is
+ * the position right after it.
+ */
+public final class CDEventOutbox implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(CDEventOutbox.class);
+
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final String CHECKPOINT_FILE = "checkpoint";
+    private static final int HEADER_SIZE = 8;
+
+    private final Path directory;
+    private final long segmentSize;
+    private final int fsyncBatchSize;
+    private final long fsyncIntervalNanos;
+
+    private final List<Long> segmentStarts = new ArrayList<>();
+    private final ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+    private final CRC32 crc = new CRC32();
+    private final FileChannel checkpointChannel;
+    private final ByteBuffer checkpointBuffer = ByteBuffer.allocate(Long.BYTES);
+    private FileChannel activeChannel;
+    private long activeStart;
+    private long endOffset;
+    private long checkpoint;
+    private int unsyncedRecords;
+    private long lastSyncNanos = System.nanoTime();
+    private boolean closed;
+
+    private CDEventOutbox(Builder builder) throws IOException {
+        this.directory = builder.directory;
+        this.segmentSize = builder.segmentSize;
+        this.fsyncBatchSize = builder.fsyncBatchSize;
+        this.fsyncIntervalNanos = builder.fsyncInterval.toNanos();
+        Files.createDirectories(directory);
+        this.checkpointChannel = FileChannel.open(directory.resolve(CHECKPOINT_FILE),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        this.checkpoint = readCheckpoint();
+        openSegments();
+    }
+
+    /**
+     * @param directory directory of the outbox segment files, created if missing
+     * @return a builder of an outbox in the directory
+     */
+    public static Builder builder(Path directory) {
+        return new Builder(directory);
+    }
+
+    /**
+     * Appends a CloudEvent to the outbox. The record is forced to disk with the next fsync batch.
+     * @param cloudEvent the CloudEvent to append
+     * @return offset of the record, to acknowledge once the CloudEvent is delivered
+     */
+    public synchronized long append(CloudEvent cloudEvent) {
+        checkOpen();
+        try {
+            byte[] payload = OutboxRecords.encode(cloudEvent);
+            int recordSize = HEADER_SIZE + payload.length;
+            if (endOffset > activeStart && endOffset - activeStart + recordSize > segmentSize) {
+                rollSegment();
+            }
+            crc.reset();
+            crc.update(payload, 0, payload.length);
+            header.clear();
+            header.putInt(payload.length).putInt((int) crc.getValue()).flip();
+            ByteBuffer[] record = {header, ByteBuffer.wrap(payload)};
+            while (record[1].hasRemaining()) {
+                activeChannel.write(record);
+            }
+            endOffset += recordSize;
+            unsyncedRecords++;
+            syncIfDue();
+            return endOffset;
+        } catch (IOException e) {
+            throw new CDEventsException("Exception occurred while appending CloudEvent to outbox ", e);
+        }
+    }
+
+    /**
+     * Forces the appended records to disk if the fsync batch size or interval is reached.
+     */
+    public synchronized void syncIfDue() {
+        if (unsyncedRecords > 0 && (unsyncedRecords >= fsyncBatchSize || System.nanoTime() - lastSyncNanos >= fsyncIntervalNanos)) {
+            sync();
+        }
+    }
+
+    /**
+     * Forces all appended records to disk.
+     */
+    public synchronized void sync() {
+        checkOpen();
+        try {
+            activeChannel.force(false);
+            unsyncedRecords = 0;
+            lastSyncNanos = System.nanoTime();
+        } catch (IOException e) {
+            throw new CDEventsException("Exception occurred while syncing outbox ", e);
+        }
+    }
+
+    /**
+     * Acknowledges the delivery of all records up to and including the record at offset,
+     * and deletes the segments that only hold acknowledged records.
+     * @param offset offset returned by {@link #append(CloudEvent)} or passed to a replay consumer
+     */
+    public synchronized void acknowledge(long offset) {
+        checkOpen();
+        if (offset <= checkpoint) {
+            return;
+        }
+        checkpoint = offset;
+        try {
+            checkpointBuffer.clear();
+            checkpointBuffer.putLong(offset).flip();
+            checkpointChannel.write(checkpointBuffer, 0);
+            while (segmentStarts.size() > 1 && segmentStarts.get(1) <= checkpoint) {
+                Files.deleteIfExists(segmentPath(segmentStarts.remove(0)));
+            }
+        } catch (IOException e) {
+            throw new CDEventsException("Exception occurred while acknowledging outbox offset " + offset, e);
+        }
+    }
+
+    /**
+     * Passes every record after the checkpoint to the consumer, oldest first.
+     * @param consumer receives each undelivered CloudEvent with its offset
+     */
+    public synchronized void replay(ObjLongConsumer<CloudEvent> consumer) {
+        checkOpen();
+        try {
+            for (int i = 0; i < segmentStarts.size(); i++) {
+                long start = segmentStarts.get(i);
+                long end = i + 1 < segmentStarts.size() ? segmentStarts.get(i + 1) : endOffset;
+                if (end > checkpoint) {
+                    replaySegment(start, Math.max(start, checkpoint), end, consumer);
+                }
+            }
+        } catch (IOException e) {
+            throw new CDEventsException("Exception occurred while replaying outbox ", e);
+        }
+    }
+
+    /**
+     * @return offset of the last acknowledged record
+     */
+    public synchronized long getCheckpoint() {
+        return checkpoint;
+    }
+
+    /**
+     * @return offset right after the last appended record
+     */
+    public synchronized long getEndOffset() {
+        return endOffset;
+    }
+
+    /**
+     * Forces the appended records and the checkpoint to disk and closes the segment files.
+     */
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        try {
+            sync();
+            checkpointChannel.force(false);
+            checkpointChannel.close();
+            activeChannel.close();
+        } catch (IOException e) {
+            throw new CDEventsException("Exception occurred while closing outbox ", e);
+        } finally {
+            closed = true;
+        }
+    }
+
+    private void openSegments() throws IOException {
+        try (DirectoryStream<Path> segments = Files.newDirectoryStream(directory, "*" + SEGMENT_SUFFIX)) {
+            for (Path segment : segments) {
+                String fileName = segment.getFileName().toString();
+                segmentStarts.add(Long.parseLong(fileName.substring(0, fileName.length() - SEGMENT_SUFFIX.length())));
+            }
+        }
+        segmentStarts.sort(null);
+        if (segmentStarts.isEmpty()) {
+            segmentStarts.add(checkpoint);
+        }
+        activeStart = segmentStarts.get(segmentStarts.size() - 1);
+        activeChannel = FileChannel.open(segmentPath(activeStart),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        long validSize = validSize(activeChannel);
+        if (validSize < activeChannel.size()) {
+            log.warn("Truncating torn outbox record in segment {} at {}", segmentPath(activeStart), validSize);
+            activeChannel.truncate(validSize);
+        }
+        activeChannel.position(validSize);
+        endOffset = activeStart + validSize;
+    }
+
+    private void rollSegment() throws IOException {
+        activeChannel.force(false);
+        activeChannel.close();
+        unsyncedRecords = 0;
+        lastSyncNanos = System.nanoTime();
+        activeStart = endOffset;
+        segmentStarts.add(activeStart);
+        activeChannel = FileChannel.open(segmentPath(activeStart),
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+    }
+
+    private void replaySegment(long start, long from, long end, ObjLongConsumer<CloudEvent> consumer) throws IOException {
+        try (FileChannel channel = FileChannel.open(segmentPath(start), StandardOpenOption.READ)) {
+            MappedByteBuffer segment = channel.map(FileChannel.MapMode.READ_ONLY, 0, end - start);
+            segment.position((int) (from - start));
+            while (segment.remaining() >= HEADER_SIZE) {
+                int length = segment.getInt();
+                segment.getInt();
+                ByteBuffer payload = segment.slice();
+                payload.limit(length);
+                segment.position(segment.position() + length);
+                consumer.accept(OutboxRecords.decode(new ByteBufferInputStream(payload)), start + segment.position());
+            }
+        }
+    }
+
+    /**
+     * @return size of the leading records of the segment with a non-empty, complete payload and a matching CRC32,
+     * a zero-filled tail left by a crash is not a record as the CRC32 of an empty payload is zero
+     */
+    private long validSize(FileChannel channel) throws IOException {
+        long size = channel.size();
+        if (size == 0) {
+            return 0;
+        }
+        MappedByteBuffer segment = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        CRC32 checksum = new CRC32();
+        while (segment.remaining() >= HEADER_SIZE) {
+            int recordStart = segment.position();
+            int length = segment.getInt();
+            int expectedCrc = segment.getInt();
+            if (length <= 0 || length > segment.remaining()) {
+                return recordStart;
+            }
+            ByteBuffer payload = segment.slice();
+            payload.limit(length);
+            checksum.reset();
+            checksum.update(payload);
+            if ((int) checksum.getValue() != expectedCrc) {
+                return recordStart;
+            }
+            segment.position(recordStart + HEADER_SIZE + length);
+        }
+        return segment.position();
+    }
+
+    private long readCheckpoint() throws IOException {
+        if (checkpointChannel.size() < Long.BYTES) {
+            return 0;
+        }
+        checkpointBuffer.clear();
+        while (checkpointBuffer.hasRemaining()) {
+            if (checkpointChannel.read(checkpointBuffer, checkpointBuffer.position()) < 0) {
+                break;
+            }
+        }
+        checkpointBuffer.flip();
+        return checkpointBuffer.getLong();
+    }
+
+    private Path segmentPath(long start) {
+        return directory.resolve(String.format("%020d%s", start, SEGMENT_SUFFIX));
+    }
+
+    private void checkOpen() {
+        if (closed) {
+            throw new CDEventsException("CDEvent outbox is closed");
+        }
+    }
+
+    private static final class ByteBufferInputStream extends InputStream {
+        private final ByteBuffer buffer;
+
+        ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int read = Math.min(length, buffer.remaining());
+            buffer.get(bytes, offset, read);
+            return read;
+        }
+    }
+
+    /**
+     * Builder of a {@link CDEventOutbox}, created with {@link CDEventOutbox#builder(Path)}.
+     */
+    public static final class Builder {
+
+        private final Path directory;
+        private long segmentSize = 64L * 1024 * 1024;
+        private int fsyncBatchSize = 100;
+        private Duration fsyncInterval = Duration.ofMillis(100);
+
+        private Builder(Path directory) {
+            if (directory == null) {
+                throw new IllegalArgumentException("Outbox directory must not be null");
+            }
+            this.directory = directory;
+        }
+
+        /**
+         * @param size size in bytes after which a new segment file is started, defaults to 64 MiB
+         * @return this builder
+         */
+        public Builder segmentSize(long size) {
+            if (size <= HEADER_SIZE || size > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Segment size must be between " + HEADER_SIZE + " and 2 GiB, got " + size);
+            }
+            this.segmentSize = size;
+            return this;
+        }
+
+        /**
+         * @param batchSize number of appended records after which they are forced to disk, defaults to 100
+         * @return this builder
+         */
+        public Builder fsyncBatchSize(int batchSize) {
+            if (batchSize <= 0) {
+                throw new IllegalArgumentException("Fsync batch size must be positive, got " + batchSize);
+            }
+            this.fsyncBatchSize = batchSize;
+            return this;
+        }
+
+        /**
+         * @param interval maximum time appended records wait before being forced to disk,
+         * checked on append and by the emitter drainer, defaults to 100 milliseconds
+         * @return this builder
+         */
+        public Builder fsyncInterval(Duration interval) {
+            if (interval == null || interval.isNegative()) {
+                throw new IllegalArgumentException("Fsync interval must not be negative, got " + interval);
+            }
+            this.fsyncInterval = interval;
+            return this;
+        }
+
+        /**
+         * Opens the outbox, recovering the segments already in the directory.
+         * @return the outbox
+         */
+        public CDEventOutbox build() {
+            try {
+                return new CDEventOutbox(this);
+            } catch (IOException e) {
+                throw new CDEventsException("Exception occurred while opening outbox in " + directory, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package dev.cdevents.emitter;
+
+import io.cloudevents.CloudEvent;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Sends batches of CloudEvents created from CDEvents to their destination.
+ * A transport is called from the single drainer thread of a {@link CDEventEmitter},
+ * so implementations do not need to be thread-safe.
+ */
+public interface CDEventTransport extends AutoCloseable {
+
+    /**
+     * Sends a batch of CloudEvents.
+     * @param cloudEvents the batch, not empty and not retained by the emitter after the call
+     * @throws IOException if the batch could not be sent
+     */
+    void send(List<CloudEvent> cloudEvents) throws IOException;
+
+    /**
+     * Releases the resources of the transport, called when the emitter is closed.
+     */
+    @Override
+    default void close() {
+    }
+}
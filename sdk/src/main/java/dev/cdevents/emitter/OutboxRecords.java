@@ -0,0 +1,161 @@
+package dev.cdevents.emitter;
+
+import io.cloudevents.CloudEvent;
+import io.cloudevents.CloudEventData;
+import io.cloudevents.SpecVersion;
+import io.cloudevents.core.builder.CloudEventBuilder;
+import io.cloudevents.core.data.BytesCloudEventData;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.time.OffsetDateTime;
+import java.util.Set;
+
+/**
+ * Encodes CloudEvents as outbox records: the CloudEvent attributes as modified UTF-8 strings, the
+ * extensions as a type tag and value each, followed by the data bytes, which for CDEvents are the event json.
+ */
+final class OutboxRecords {
+
+    private static final int NO_DATA = -1;
+
+    private static final byte STRING_EXTENSION = 'S';
+    private static final byte BOOLEAN_EXTENSION = 'B';
+    private static final byte INTEGER_EXTENSION = 'I';
+    private static final byte URI_EXTENSION = 'U';
+    private static final byte TIME_EXTENSION = 'T';
+    private static final byte BINARY_EXTENSION = 'X';
+    private static final int INITIAL_SIZE = 1024;
+
+    private OutboxRecords() {
+    }
+
+    static byte[] encode(CloudEvent cloudEvent) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(INITIAL_SIZE);
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeUTF(cloudEvent.getSpecVersion().toString());
+        out.writeUTF(cloudEvent.getId());
+        out.writeUTF(cloudEvent.getSource().toString());
+        out.writeUTF(cloudEvent.getType());
+        writeOptional(out, cloudEvent.getDataContentType());
+        writeOptional(out, cloudEvent.getDataSchema() != null ? cloudEvent.getDataSchema().toString() : null);
+        writeOptional(out, cloudEvent.getTime() != null ? cloudEvent.getTime().toString() : null);
+        writeOptional(out, cloudEvent.getSubject());
+        Set<String> extensionNames = cloudEvent.getExtensionNames();
+        out.writeShort(extensionNames.size());
+        for (String extensionName : extensionNames) {
+            out.writeUTF(extensionName);
+            writeExtension(out, cloudEvent.getExtension(extensionName));
+        }
+        CloudEventData data = cloudEvent.getData();
+        if (data == null) {
+            out.writeInt(NO_DATA);
+        } else {
+            byte[] dataBytes = data.toBytes();
+            out.writeInt(dataBytes.length);
+            out.write(dataBytes);
+        }
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    static CloudEvent decode(InputStream inputStream) throws IOException {
+        DataInputStream in = new DataInputStream(inputStream);
+        CloudEventBuilder builder = CloudEventBuilder.fromSpecVersion(SpecVersion.parse(in.readUTF()))
+                .withId(in.readUTF())
+                .withSource(URI.create(in.readUTF()))
+                .withType(in.readUTF());
+        String dataContentType = readOptional(in);
+        String dataSchema = readOptional(in);
+        if (dataSchema != null) {
+            builder.withDataSchema(URI.create(dataSchema));
+        }
+        String time = readOptional(in);
+        if (time != null) {
+            builder.withTime(OffsetDateTime.parse(time));
+        }
+        String subject = readOptional(in);
+        if (subject != null) {
+            builder.withSubject(subject);
+        }
+        int extensions = in.readUnsignedShort();
+        for (int i = 0; i < extensions; i++) {
+            readExtension(in, builder, in.readUTF());
+        }
+        int dataLength = in.readInt();
+        if (dataLength != NO_DATA) {
+            byte[] data = new byte[dataLength];
+            in.readFully(data);
+            builder.withData(dataContentType, BytesCloudEventData.wrap(data));
+        } else if (dataContentType != null) {
+            builder.withDataContentType(dataContentType);
+        }
+        return builder.build();
+    }
+
+    private static void writeExtension(DataOutputStream out, Object value) throws IOException {
+        if (value instanceof Boolean) {
+            out.writeByte(BOOLEAN_EXTENSION);
+            out.writeBoolean((Boolean) value);
+        } else if (value instanceof Integer) {
+            out.writeByte(INTEGER_EXTENSION);
+            out.writeInt((Integer) value);
+        } else if (value instanceof URI) {
+            out.writeByte(URI_EXTENSION);
+            out.writeUTF(value.toString());
+        } else if (value instanceof OffsetDateTime) {
+            out.writeByte(TIME_EXTENSION);
+            out.writeUTF(value.toString());
+        } else if (value instanceof byte[]) {
+            out.writeByte(BINARY_EXTENSION);
+            out.writeInt(((byte[]) value).length);
+            out.write((byte[]) value);
+        } else {
+            out.writeByte(STRING_EXTENSION);
+            out.writeUTF(String.valueOf(value));
+        }
+    }
+
+    private static void readExtension(DataInputStream in, CloudEventBuilder builder, String name) throws IOException {
+        byte type = in.readByte();
+        switch (type) {
+            case BOOLEAN_EXTENSION:
+                builder.withExtension(name, in.readBoolean());
+                break;
+            case INTEGER_EXTENSION:
+                builder.withExtension(name, in.readInt());
+                break;
+            case URI_EXTENSION:
+                builder.withExtension(name, URI.create(in.readUTF()));
+                break;
+            case TIME_EXTENSION:
+                builder.withExtension(name, OffsetDateTime.parse(in.readUTF()));
+                break;
+            case BINARY_EXTENSION:
+                byte[] value = new byte[in.readInt()];
+                in.readFully(value);
+                builder.withExtension(name, value);
+                break;
+            case STRING_EXTENSION:
+                builder.withExtension(name, in.readUTF());
+                break;
+            default:
+                throw new IOException("Unknown type " + type + " of CloudEvent extension " + name);
+        }
+    }
+
+    private static void writeOptional(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readOptional(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+}
@@ -0,0 +1,17 @@
+package dev.cdevents.emitter;
+
+public enum OverflowPolicy {
+    /**
+     * Block the emitting thread until there is room in the queue.
+     */
+    BLOCK,
+    /**
+     * Drop the oldest queued event to make room for the new one.
+     * Not available with a {@link CDEventOutbox}, which must not lose events.
+     */
+    DROP_OLDEST,
+    /**
+     * Reject the new event with a CDEventsException.
+     */
+    FAIL
+}
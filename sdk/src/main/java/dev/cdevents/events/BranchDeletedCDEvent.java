@@ -21,17 +21,20 @@ SPDX-License-Identifier: Apache-2.0
 package dev.cdevents.events;
 
 
+import dev.cdevents.config.EventClock;
+import dev.cdevents.config.EventIds;
 import dev.cdevents.constants.CDEventConstants;
 import dev.cdevents.models.CDEvent;
 import dev.cdevents.models.branch.deleted.*;
 
 import java.net.URI;
 import java.util.Date;
-import java.util.UUID;
 
 
 public class BranchDeletedCDEvent extends Branchdeleted implements CDEvent {
 
+    private static final Context.Type CONTEXT_TYPE = new Context().getType();
+
 
     /**
     * Constructor to init CDEvent and set the Subject for {@link BranchDeletedCDEvent}.
@@ -53,14 +56,46 @@ public class BranchDeletedCDEvent extends Branchdeleted implements CDEvent {
         setCustomData(new Object());
         setCustomDataContentType("application/json");
         Context context = getContext();
-        context.setId(UUID.randomUUID().toString());
-        context.setTimestamp(new Date());
+        context.setId(EventIds.nextId());
+        context.setTimestamp(EventClock.now());
         context.setVersion(CDEventConstants.CDEVENTS_SPEC_VERSION);
         getSubject().setContent(new Content());
         getSubject().getContent().setRepository(new Repository());
         getSubject().setType(Subject.Type.BRANCH);
     }
 
+
+    /**
+    * Resets the CDEvent to the values of a new CDEvent with a new id and timestamp, clearing its context,
+    * subject and content objects in place instead of allocating them again.
+    */
+
+    @Override
+    public void reset() {
+        Context context = getContext();
+        Subject subject = getSubject();
+        if (context == null || subject == null || subject.getContent() == null) {
+            initCDEvent();
+            return;
+        }
+        context.setId(EventIds.nextId());
+        context.setSource(null);
+        context.setType(CONTEXT_TYPE);
+        context.setTimestamp(EventClock.now());
+        context.setVersion(CDEventConstants.CDEVENTS_SPEC_VERSION);
+        subject.setId(null);
+        subject.setSource(null);
+        subject.setType(Subject.Type.BRANCH);
+        Content content = subject.getContent();
+        if (content.getRepository() == null) {
+            content.setRepository(new Repository());
+        }
+        content.getRepository().setId(null);
+        content.getRepository().setSource(null);
+        setCustomData(new Object());
+        setCustomDataContentType("application/json");
+    }
+
     /**
     * @return the event source
     */
@@ -71,6 +106,26 @@ public class BranchDeletedCDEvent extends Branchdeleted implements CDEvent {
     }
 
 
+    /**
+    * @return the event timestamp
+    */
+
+    @Override
+    public Date eventTimestamp() {
+        return getContext().getTimestamp();
+    }
+
+
+    /**
+    * @return the id of the event subject
+    */
+
+    @Override
+    public String eventSubjectId() {
+        return getSubject().getId();
+    }
+
+
     /**
     * @return the current CDEvent type
     */
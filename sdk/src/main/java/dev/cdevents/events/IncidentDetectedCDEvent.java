@@ -21,17 +21,20 @@ SPDX-License-Identifier: Apache-2.0
 package dev.cdevents.events;
 
 
+import dev.cdevents.config.EventClock;
+import dev.cdevents.config.EventIds;
 import dev.cdevents.constants.CDEventConstants;
 import dev.cdevents.models.CDEvent;
 import dev.cdevents.models.incident.detected.*;
 
 import java.net.URI;
 import java.util.Date;
-import java.util.UUID;
 
 
 public class IncidentDetectedCDEvent extends Incidentdetected implements CDEvent {
 
+    private static final Context.Type CONTEXT_TYPE = new Context().getType();
+
 
     /**
     * Constructor to init CDEvent and set the Subject for {@link IncidentDetectedCDEvent}.
@@ -53,8 +56,8 @@ public class IncidentDetectedCDEvent extends Incidentdetected implements CDEvent
         setCustomData(new Object());
         setCustomDataContentType("application/json");
         Context context = getContext();
-        context.setId(UUID.randomUUID().toString());
-        context.setTimestamp(new Date());
+        context.setId(EventIds.nextId());
+        context.setTimestamp(EventClock.now());
         context.setVersion(CDEventConstants.CDEVENTS_SPEC_VERSION);
         getSubject().setContent(new Content());
         getSubject().getContent().setEnvironment(new Environment());
@@ -62,6 +65,45 @@ public class IncidentDetectedCDEvent extends Incidentdetected implements CDEvent
         getSubject().setType(Subject.Type.INCIDENT);
     }
 
+
+    /**
+    * Resets the CDEvent to the values of a new CDEvent with a new id and timestamp, clearing its context,
+    * subject and content objects in place instead of allocating them again.
+    */
+
+    @Override
+    public void reset() {
+        Context context = getContext();
+        Subject subject = getSubject();
+        if (context == null || subject == null || subject.getContent() == null) {
+            initCDEvent();
+            return;
+        }
+        context.setId(EventIds.nextId());
+        context.setSource(null);
+        context.setType(CONTEXT_TYPE);
+        context.setTimestamp(EventClock.now());
+        context.setVersion(CDEventConstants.CDEVENTS_SPEC_VERSION);
+        subject.setId(null);
+        subject.setSource(null);
+        subject.setType(Subject.Type.INCIDENT);
+        Content content = subject.getContent();
+        if (content.getEnvironment() == null) {
+            content.setEnvironment(new Environment());
+        }
+        if (content.getService() == null) {
+            content.setService(new Service());
+        }
+        content.setDescription(null);
+        content.setArtifactId(null);
+        content.getEnvironment().setId(null);
+        content.getEnvironment().setSource(null);
+        content.getService().setId(null);
+        content.getService().setSource(null);
+        setCustomData(new Object());
+        setCustomDataContentType("application/json");
+    }
+
     /**
     * @return the event source
     */
@@ -72,6 +114,26 @@ public class IncidentDetectedCDEvent extends Incidentdetected implements CDEvent
     }
 
 
+    /**
+    * @return the event timestamp
+    */
+
+    @Override
+    public Date eventTimestamp() {
+        return getContext().getTimestamp();
+    }
+
+
+    /**
+    * @return the id of the event subject
+    */
+
+    @Override
+    public String eventSubjectId() {
+        return getSubject().getId();
+    }
+
+
     /**
     * @return the current CDEvent type
     */
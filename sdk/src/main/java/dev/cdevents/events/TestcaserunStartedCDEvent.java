@@ -21,17 +21,20 @@ SPDX-License-Identifier: Apache-2.0
 package dev.cdevents.events;
 
 
+import dev.cdevents.config.EventClock;
+import dev.cdevents.config.EventIds;
 import dev.cdevents.constants.CDEventConstants;
 import dev.cdevents.models.CDEvent;
 import dev.cdevents.models.testcaserun.started.*;
 
 import java.net.URI;
 import java.util.Date;
-import java.util.UUID;
 
 
 public class TestcaserunStartedCDEvent extends Testcaserunstarted implements CDEvent {
 
+    private static final Context.Type CONTEXT_TYPE = new Context().getType();
+
 
     /**
     * Constructor to init CDEvent and set the Subject for {@link TestcaserunStartedCDEvent}.
@@ -53,8 +56,8 @@ public class TestcaserunStartedCDEvent extends Testcaserunstarted implements CDE
         setCustomData(new Object());
         setCustomDataContentType("application/json");
         Context context = getContext();
-        context.setId(UUID.randomUUID().toString());
-        context.setTimestamp(new Date());
+        context.setId(EventIds.nextId());
+        context.setTimestamp(EventClock.now());
         context.setVersion(CDEventConstants.CDEVENTS_SPEC_VERSION);
         getSubject().setContent(new Content());
         getSubject().getContent().setTrigger(new Trigger());
@@ -64,6 +67,57 @@ public class TestcaserunStartedCDEvent extends Testcaserunstarted implements CDE
         getSubject().setType(Subject.Type.TEST_CASE_RUN);
     }
 
+
+    /**
+    * Resets the CDEvent to the values of a new CDEvent with a new id and timestamp, clearing its context,
+    * subject and content objects in place instead of allocating them again.
+    */
+
+    @Override
+    public void reset() {
+        Context context = getContext();
+        Subject subject = getSubject();
+        if (context == null || subject == null || subject.getContent() == null) {
+            initCDEvent();
+            return;
+        }
+        context.setId(EventIds.nextId());
+        context.setSource(null);
+        context.setType(CONTEXT_TYPE);
+        context.setTimestamp(EventClock.now());
+        context.setVersion(CDEventConstants.CDEVENTS_SPEC_VERSION);
+        subject.setId(null);
+        subject.setSource(null);
+        subject.setType(Subject.Type.TEST_CASE_RUN);
+        Content content = subject.getContent();
+        if (content.getTrigger() == null) {
+            content.setTrigger(new Trigger());
+        }
+        if (content.getEnvironment() == null) {
+            content.setEnvironment(new Environment());
+        }
+        if (content.getTestSuiteRun() == null) {
+            content.setTestSuiteRun(new TestSuiteRun());
+        }
+        if (content.getTestCase() == null) {
+            content.setTestCase(new TestCase());
+        }
+        content.getTrigger().setType(null);
+        content.getTrigger().setUri(null);
+        content.getEnvironment().setId(null);
+        content.getEnvironment().setSource(null);
+        content.getTestSuiteRun().setId(null);
+        content.getTestSuiteRun().setSource(null);
+        content.getTestCase().setId(null);
+        content.getTestCase().setVersion(null);
+        content.getTestCase().setName(null);
+        content.getTestCase().setType(null);
+        content.getTestCase().setUri(null);
+        content.getTrigger().getAdditionalProperties().clear();
+        setCustomData(new Object());
+        setCustomDataContentType("application/json");
+    }
+
     /**
     * @return the event source
     */
@@ -74,6 +128,26 @@ public class TestcaserunStartedCDEvent extends Testcaserunstarted implements CDE
     }
 
 
+    /**
+    * @return the event timestamp
+    */
+
+    @Override
+    public Date eventTimestamp() {
+        return getContext().getTimestamp();
+    }
+
+
+    /**
+    * @return the id of the event subject
+    */
+
+    @Override
+    public String eventSubjectId() {
+        return getSubject().getId();
+    }
+
+
     /**
     * @return the current CDEvent type
     */
@@ -0,0 +1,324 @@
+package dev.cdevents.format;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import dev.cdevents.CDEvents;
+import dev.cdevents.constants.CDEventConstants;
+import dev.cdevents.models.CDEvent;
+import dev.cdevents.serialization.CDEventCodec;
+import io.cloudevents.CloudEvent;
+import io.cloudevents.CloudEventData;
+import io.cloudevents.SpecVersion;
+import io.cloudevents.core.builder.CloudEventBuilder;
+import io.cloudevents.core.data.BytesCloudEventData;
+import io.cloudevents.core.data.PojoCloudEventData;
+import io.cloudevents.core.format.EventDeserializationException;
+import io.cloudevents.core.format.EventFormat;
+import io.cloudevents.core.format.EventSerializationException;
+import io.cloudevents.rw.CloudEventDataMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * CloudEvents structured mode json {@link EventFormat} that encodes and decodes CDEvents directly.
+ * A CloudEvent created with {@link CDEventConstants.CloudEventDataMode#POJO} is serialized with its
+ * CDEvent written straight into the output, without first rendering the data to bytes. On
+ * deserialization, the data of a CDEvent type is parsed in the same pass as the attributes,
+ * validated against its schema and attached as a {@link PojoCloudEventData} holding the typed
+ * CDEvent, which {@link CDEvents#cdEventFromJson(CloudEventData)} returns without decoding again.
+ * The format writes standard json, so other CloudEvents json readers can read its output.
+ * CloudEvents of other types are passed through with their data as bytes.
+ * The format is not registered through the {@link java.util.ServiceLoader}, as it would compete with
+ * the json format of cloudevents-json-jackson for the same content type. To resolve it from the
+ * CloudEvents {@code EventFormatProvider}, register it with
+ * {@code EventFormatProvider.getInstance().registerFormat(new CDEventFormat())}.
+ */
+public final class CDEventFormat implements EventFormat {
+
+    /**
+     * Content type of a CloudEvent in structured mode json.
+     */
+    public static final String CONTENT_TYPE = "application/cloudevents+json";
+
+    private static final String SPEC_VERSION = "specversion";
+    private static final String ID = "id";
+    private static final String SOURCE = "source";
+    private static final String TYPE = "type";
+    private static final String DATA_CONTENT_TYPE = "datacontenttype";
+    private static final String DATA_SCHEMA = "dataschema";
+    private static final String SUBJECT = "subject";
+    private static final String TIME = "time";
+    private static final String DATA = "data";
+    private static final String DATA_BASE64 = "data_base64";
+
+    private static final int INITIAL_SIZE = 1024;
+
+    private final CDEventCodec codec;
+
+    /**
+     * Creates the format with the default {@link CDEventCodec}.
+     */
+    public CDEventFormat() {
+        this.codec = null;
+    }
+
+    /**
+     * Creates the format reading and writing CDEvents with the codec.
+     * @param codec the codec
+     */
+    public CDEventFormat(CDEventCodec codec) {
+        if (codec == null) {
+            throw new IllegalArgumentException("CDEventCodec must not be null");
+        }
+        this.codec = codec;
+    }
+
+    @Override
+    public byte[] serialize(CloudEvent cloudEvent) throws EventSerializationException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream(INITIAL_SIZE);
+        serialize(cloudEvent, outputStream);
+        return outputStream.toByteArray();
+    }
+
+    /**
+     * Writes the cloudEvent in structured mode json to the outputStream, which is not closed.
+     * @param cloudEvent the CloudEvent
+     * @param outputStream the stream to write to
+     * @throws EventSerializationException if the cloudEvent could not be written
+     */
+    public void serialize(CloudEvent cloudEvent, OutputStream outputStream) throws EventSerializationException {
+        try (JsonGenerator generator = codec().getObjectMapper().getFactory().createGenerator(outputStream, JsonEncoding.UTF8)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            writeCloudEvent(generator, cloudEvent);
+        } catch (IOException e) {
+            throw new EventSerializationException(e);
+        }
+    }
+
+    @Override
+    public CloudEvent deserialize(byte[] bytes, CloudEventDataMapper<? extends CloudEventData> mapper)
+            throws EventDeserializationException {
+        try (JsonParser parser = codec().getObjectMapper().getFactory().createParser(bytes)) {
+            return readCloudEvent(parser, mapper);
+        } catch (IOException | RuntimeException e) {
+            throw new EventDeserializationException(e);
+        }
+    }
+
+    /**
+     * Reads a CloudEvent in structured mode json from the inputStream, which is not closed.
+     * @param inputStream the stream to read from
+     * @return the CloudEvent, with the typed CDEvent as data for CDEvent types
+     * @throws EventDeserializationException if the json is not a valid CloudEvent or CDEvent
+     */
+    public CloudEvent deserialize(InputStream inputStream) throws EventDeserializationException {
+        try (JsonParser parser = codec().getObjectMapper().getFactory().createParser(inputStream)) {
+            parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+            return readCloudEvent(parser, CloudEventDataMapper.identity());
+        } catch (IOException | RuntimeException e) {
+            throw new EventDeserializationException(e);
+        }
+    }
+
+    @Override
+    public String serializedContentType() {
+        return CONTENT_TYPE;
+    }
+
+    private void writeCloudEvent(JsonGenerator generator, CloudEvent cloudEvent) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField(SPEC_VERSION, cloudEvent.getSpecVersion().toString());
+        generator.writeStringField(ID, cloudEvent.getId());
+        generator.writeStringField(SOURCE, cloudEvent.getSource().toString());
+        generator.writeStringField(TYPE, cloudEvent.getType());
+        if (cloudEvent.getDataContentType() != null) {
+            generator.writeStringField(DATA_CONTENT_TYPE, cloudEvent.getDataContentType());
+        }
+        if (cloudEvent.getDataSchema() != null) {
+            generator.writeStringField(DATA_SCHEMA, cloudEvent.getDataSchema().toString());
+        }
+        if (cloudEvent.getSubject() != null) {
+            generator.writeStringField(SUBJECT, cloudEvent.getSubject());
+        }
+        if (cloudEvent.getTime() != null) {
+            generator.writeStringField(TIME, DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(cloudEvent.getTime()));
+        }
+        for (String extensionName : cloudEvent.getExtensionNames()) {
+            Object value = cloudEvent.getExtension(extensionName);
+            generator.writeFieldName(extensionName);
+            if (value instanceof Boolean) {
+                generator.writeBoolean((Boolean) value);
+            } else if (value instanceof Integer) {
+                generator.writeNumber((Integer) value);
+            } else {
+                generator.writeString(String.valueOf(value));
+            }
+        }
+        CloudEventData data = cloudEvent.getData();
+        if (data instanceof PojoCloudEventData && ((PojoCloudEventData<?>) data).getValue() instanceof CDEvent) {
+            CDEvent cdEvent = (CDEvent) ((PojoCloudEventData<?>) data).getValue();
+            generator.writeFieldName(DATA);
+            codec().writer(cdEvent).writeValue(generator, cdEvent);
+        } else if (data != null && isJson(cloudEvent.getDataContentType())) {
+            generator.writeFieldName(DATA);
+            generator.writeRawValue(new String(data.toBytes(), StandardCharsets.UTF_8));
+        } else if (data != null) {
+            generator.writeFieldName(DATA_BASE64);
+            generator.writeBinary(data.toBytes());
+        }
+        generator.writeEndObject();
+    }
+
+    private CloudEvent readCloudEvent(JsonParser parser, CloudEventDataMapper<? extends CloudEventData> mapper)
+            throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new IOException("CloudEvent json must be an object");
+        }
+        String specVersion = null;
+        String id = null;
+        String source = null;
+        String type = null;
+        String dataContentType = null;
+        String dataSchema = null;
+        String subject = null;
+        String time = null;
+        JsonNode data = null;
+        byte[] dataBase64 = null;
+        Map<String, Object> extensions = new LinkedHashMap<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.getCurrentName();
+            JsonToken token = parser.nextToken();
+            switch (name) {
+                case SPEC_VERSION:
+                    specVersion = parser.getText();
+                    break;
+                case ID:
+                    id = parser.getText();
+                    break;
+                case SOURCE:
+                    source = parser.getText();
+                    break;
+                case TYPE:
+                    type = parser.getText();
+                    break;
+                case DATA_CONTENT_TYPE:
+                    dataContentType = parser.getText();
+                    break;
+                case DATA_SCHEMA:
+                    dataSchema = parser.getText();
+                    break;
+                case SUBJECT:
+                    subject = parser.getText();
+                    break;
+                case TIME:
+                    time = parser.getText();
+                    break;
+                case DATA:
+                    data = token == JsonToken.VALUE_NULL ? null : parser.readValueAsTree();
+                    break;
+                case DATA_BASE64:
+                    dataBase64 = parser.getBinaryValue();
+                    break;
+                default:
+                    readExtension(parser, token, name, extensions);
+            }
+        }
+        if (specVersion == null || id == null || source == null || type == null) {
+            throw new IOException("CloudEvent json must have specversion, id, source and type attributes");
+        }
+        CloudEventBuilder builder = CloudEventBuilder.fromSpecVersion(SpecVersion.parse(specVersion))
+                .withId(id)
+                .withSource(URI.create(source))
+                .withType(type);
+        if (dataSchema != null) {
+            builder.withDataSchema(URI.create(dataSchema));
+        }
+        if (subject != null) {
+            builder.withSubject(subject);
+        }
+        if (time != null) {
+            builder.withTime(OffsetDateTime.parse(time));
+        }
+        for (Map.Entry<String, Object> extension : extensions.entrySet()) {
+            Object value = extension.getValue();
+            if (value instanceof Boolean) {
+                builder.withExtension(extension.getKey(), (Boolean) value);
+            } else if (value instanceof Integer) {
+                builder.withExtension(extension.getKey(), (Integer) value);
+            } else {
+                builder.withExtension(extension.getKey(), (String) value);
+            }
+        }
+        CloudEventData cloudEventData = null;
+        if (data != null) {
+            cloudEventData = dataOf(type, dataContentType, data);
+        } else if (dataBase64 != null) {
+            cloudEventData = BytesCloudEventData.wrap(dataBase64);
+        }
+        if (cloudEventData != null) {
+            builder.withData(dataContentType, mapper.map(cloudEventData));
+        } else if (dataContentType != null) {
+            builder.withDataContentType(dataContentType);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Reads an extension attribute, which is a boolean, an integer or a string. A null value is an absent
+     * attribute, and integers outside the range of a CloudEvents integer are kept as strings.
+     */
+    private static void readExtension(JsonParser parser, JsonToken token, String name, Map<String, Object> extensions)
+            throws IOException {
+        switch (token) {
+            case VALUE_NULL:
+                break;
+            case VALUE_TRUE:
+            case VALUE_FALSE:
+                extensions.put(name, parser.getBooleanValue());
+                break;
+            case VALUE_NUMBER_INT:
+                if (parser.getNumberType() == JsonParser.NumberType.INT) {
+                    extensions.put(name, parser.getIntValue());
+                } else {
+                    extensions.put(name, parser.getText());
+                }
+                break;
+            case START_OBJECT:
+            case START_ARRAY:
+                throw new IOException("CloudEvent extension " + name + " must not be an object or an array");
+            default:
+                extensions.put(name, parser.getText());
+        }
+    }
+
+    private CloudEventData dataOf(String type, String dataContentType, JsonNode data) throws IOException {
+        if (type.startsWith(CDEventConstants.EVENT_PREFIX)) {
+            CDEvent cdEvent = CDEvents.cdEventFromJson(data);
+            return PojoCloudEventData.wrap(cdEvent, codec().writer(cdEvent)::writeValueAsBytes);
+        }
+        if (data.isTextual() && !isJson(dataContentType)) {
+            return BytesCloudEventData.wrap(data.textValue().getBytes(StandardCharsets.UTF_8));
+        }
+        return BytesCloudEventData.wrap(codec().writer().writeValueAsBytes(data));
+    }
+
+    private CDEventCodec codec() {
+        return codec != null ? codec : CDEventCodec.getDefault();
+    }
+
+    private static boolean isJson(String dataContentType) {
+        return dataContentType == null || dataContentType.endsWith("/json") || dataContentType.endsWith("+json");
+    }
+}
@@ -1,5 +1,7 @@
 package dev.cdevents.models;
 
+import java.util.Date;
+
 public interface CDEvent {
 
     /**
@@ -22,9 +24,34 @@ public interface CDEvent {
      */
     void initCDEvent();
 
+    /**
+     * Resets the CDEvent to the values of a new CDEvent, so that the same instance can be filled again
+     * for the next event instead of allocating a new one. The generated CDEvents reuse their context, subject
+     * and content objects. A CDEvent must not be reset while it may still be read, e.g. while it is queued
+     * as the POJO data of a CloudEvent.
+     */
+    default void reset() {
+        initCDEvent();
+    }
+
     /**
      * @return source of the event
      */
     String eventSource();
 
+    /**
+     * @return timestamp of the event, or null if the CDEvent does not expose it, in which case
+     * the CloudEvent time is taken from the {@link dev.cdevents.config.EventClock}
+     */
+    default Date eventTimestamp() {
+        return null;
+    }
+
+    /**
+     * @return id of the event subject, or null if the CDEvent does not expose it
+     */
+    default String eventSubjectId() {
+        return null;
+    }
+
 }
@@ -0,0 +1,207 @@
+// Code generated by dev.cdevents.generator.CDEventsGenerator. DO NOT EDIT.
+
+/*
+Copyright 2023 The CDEvents Authors
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+
+SPDX-License-Identifier: Apache-2.0
+*/
+
+package dev.cdevents.protobuf;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.WireFormat;
+import dev.cdevents.events.ArtifactSignedCDEvent;
+import dev.cdevents.models.artifact.signed.*;
+
+import java.io.IOException;
+
+
+/**
+* Protobuf codec of {@link ArtifactSignedCDEvent}, writing and reading the messages of
+* artifact_signed.proto directly from the model classes.
+*/
+
+final class ArtifactSignedCDEventProtobufCodec extends ProtobufCodec<ArtifactSignedCDEvent> {
+
+    ArtifactSignedCDEventProtobufCodec() {
+        super(ArtifactSignedCDEvent.class);
+    }
+
+    @Override
+    void write(ArtifactSignedCDEvent cdEvent, CodedOutputStream output) throws IOException {
+        writeContext(output, 1, cdEvent.getContext());
+        writeSubject(output, 2, cdEvent.getSubject());
+        ProtobufFields.writeAny(output, 3, cdEvent.getCustomData());
+        ProtobufFields.writeString(output, 4, cdEvent.getCustomDataContentType());
+    }
+
+    @Override
+    ArtifactSignedCDEvent read(CodedInputStream input) throws IOException {
+        ArtifactSignedCDEvent cdEvent = new ArtifactSignedCDEvent();
+        for (int tag = input.readTag(); tag != 0; tag = input.readTag()) {
+            switch (tag) {
+                case (1 << 3) | WireFormat.WIRETYPE_LENGTH_DELIMITED:
+                    cdEvent.setContext(readContext(input));
+                    break;
+                case (2 << 3) | WireFormat.WIRETYPE_LENGTH_DELIMITED:
+                    cdEvent.setSubject(readSubject(input));
+                    break;
+                case (3 << 3) | WireFormat.WIRETYPE_LENGTH_DELIMITED:
+                    cdEvent.setCustomData(ProtobufFields.readAny(input));
+                    break;
+                case (4 << 3) | WireFormat.WIRETYPE_LENGTH_DELIMITED:
+                    cdEvent.setCustomDataContentType(ProtobufFields.readString(input));
+                    break;
+                default:
+                    input.skipField(tag);
+            }
+        }
+        return cdEvent;
+    }
+
+
+    private static int contentSizeContext(Context value) {
+        int size = 0;
+        size += ProtobufFields.sizeString(1, value.getVersion());
+        size += ProtobufFields.sizeString(2, value.getId());
+        size += ProtobufFields.sizeString(3, value.getSource());
+        size += ProtobufFields.sizeEnum(4, value.getType());
+        size += ProtobufFields.sizeDate(5, value.getTimestamp());
+        return size;
+    }
+
+    private static void writeContext(CodedOutputStream output, int fieldNumber, Context value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        ProtobufFields.writeMessageHeader(output, fieldNumber, contentSizeContext(value));
+        ProtobufFields.writeString(output, 1, value.getVersion());
+        ProtobufFields.writeString(output, 2, value.getId());
+        ProtobufFields.writeString(output, 3, value.getSource());
+        ProtobufFields.writeEnum(output, 4, value.getType());
+        ProtobufFields.writeDate(output, 5, value.getTimestamp());
+    }
+
+    private static Context readContext(CodedInputStream input) throws IOException {
+        int limit = input.pushLimit(input.readRawVarint32());
+        Context value = new Context();
+        for (int tag = input.readTag(); tag != 0; tag = input.readTag()) {
+            switch (tag) {
+                case (1 << 3) | WireFormat.WIRETYPE_LENGTH_DELIMITED:
+                    value.setVersion(ProtobufFields.readString(input));
+                    break;
+                case (2 << 3) | WireFormat.WIRETYPE_LENGTH_DELIMITED:
+                    value.setId(ProtobufFields.readString(input));
+                    break;
+                case (3 << 3) | WireFormat.WIRETYPE_LENGTH_DELIMITED:
+                    value.setSource(ProtobufFields.readString(input));
+                    break;
+                case (4 << 3) | WireFormat.WIRETYPE_LENGTH_DELIMITED:
+                    value.setType(ProtobufFields.readEnum(input, Context.Type::fromValue));
+                    break;
+                case (5 << 3) | WireFormat.WIRETYPE_LENGTH_DELIMITED:
+                    value.setTimestamp(ProtobufFields.readDate(input));
+                    break;
+                default:
+                    input.skipField(tag);
+            }
+        }
+        input.popLimit(limit);
+        return value;
+    }
+
+
+    private static int contentSizeSubject(Subject value) {
+        int size = 0;
+        size += ProtobufFields.sizeString(1, value.getId());
+        size += ProtobufFields.sizeString(2, value.getSource());
+        size += ProtobufFields.sizeEnum(3, value.getType());
+        size += sizeContent(4, value.getContent());
+        return size;
+    }
+
+    private static void writeSubject(CodedOutputStream output, int fieldNumber, Subject value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        ProtobufFields.writeMessageHeader(output, fieldNumber, contentSizeSubject(value));
+        ProtobufFields.writeString(output, 1, value.getId());
+        ProtobufFields.writeString(output, 2, value.getSource());
+        ProtobufFields.writeEnum(output, 3, value.getType());
+        writeContent(output, 4, value.getContent());
+    }
+
+    private static Subject readSubject(CodedInputStream input) throws IOException {
+        int limit = input.pushLimit(input.readRawVarint32());
+        Subject value = new Subject();
+        for (int tag = input.readTag(); tag != 0; tag = input.readTag()) {
+            switch (tag) {
+                case (1 << 3) | WireFormat.WIRETYPE_LENGTH_DELIMITED:
+                    value.setId(ProtobufFields.readString(input));
+                    break;
+                case (2 << 3) | WireFormat.WIRETYPE_LENGTH_DELIMITED:
+                    value.setSource(ProtobufFields.readString(input));
+                    break;
+                case (3 << 3) | WireFormat.WIRETYPE_LENGTH_DELIMITED:
+                    value.setType(ProtobufFields.readEnum(input, Subject.Type::fromValue));
+                    break;
+                case (4 << 3) | WireFormat.WIRETYPE_LENGTH_DELIMITED:
+                    value.setContent(readContent(input));
+                    break;
+                default:
+                    input.skipField(tag);
+            }
+        }
+        input.popLimit(limit);
+        return value;
+    }
+
+
+    private static int sizeContent(int fieldNumber, Content value) {
+        return value == null ? 0 : ProtobufFields.sizeMessage(fieldNumber, contentSizeContent(value));
+    }
+
+
+    private static int contentSizeContent(Content value) {
+        int size = 0;
+        size += ProtobufFields.sizeString(1, value.getSignature());
+        return size;
+    }
+
+    private static void writeContent(CodedOutputStream output, int fieldNumber, Content value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        ProtobufFields.writeMessageHeader(output, fieldNumber, contentSizeContent(value));
+        ProtobufFields.writeString(output, 1, value.getSignature());
+    }
+
+    private static Content readContent(CodedInputStream input) throws IOException {
+        int limit = input.pushLimit(input.readRawVarint32());
+        Content value = new Content();
+        for (int tag = input.readTag(); tag != 0; tag = input.readTag()) {
+            switch (tag) {
+                case (1 << 3) | WireFormat.WIRETYPE_LENGTH_DELIMITED:
+                    value.setSignature(ProtobufFields.readString(input));
+                    break;
+                default:
+                    input.skipField(tag);
+            }
+        }
+        input.popLimit(limit);
+        return value;
+    }
+}
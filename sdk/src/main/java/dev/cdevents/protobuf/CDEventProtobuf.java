@@ -0,0 +1,106 @@
+package dev.cdevents.protobuf;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import dev.cdevents.constants.CDEventConstants;
+import dev.cdevents.constants.CDEventTypeResolver;
+import dev.cdevents.exception.CDEventsException;
+import dev.cdevents.models.CDEvent;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Encodes CDEvents as the protobuf messages defined by the {@code dev/cdevents/proto/*.proto} files of the SDK,
+ * which are generated from the same schemas as the model classes. The generated codecs write and read the
+ * messages directly from the model classes, without intermediate message objects. A protobuf message does not
+ * carry its type, so it is decoded with the CDEvent type it was sent with, e.g. the CloudEvent type.
+ * Decoding does not validate the CDEvent against its schema, as the messages are meant for hops between
+ * trusted producers and consumers. This needs {@code com.google.protobuf:protobuf-java} on the classpath.
+ */
+public final class CDEventProtobuf {
+
+    /**
+     * Content type of a CDEvent protobuf message, as the CloudEvent datacontenttype.
+     */
+    public static final String CONTENT_TYPE = "application/protobuf";
+
+    private static final Map<Class<?>, ProtobufCodec<?>> CODECS_BY_CLASS = new HashMap<>();
+    private static final Map<CDEventConstants.CDEventTypes, ProtobufCodec<?>> CODECS_BY_TYPE =
+            new EnumMap<>(CDEventConstants.CDEventTypes.class);
+
+    static {
+        for (ProtobufCodec<?> codec : ProtobufCodecs.create()) {
+            CODECS_BY_CLASS.put(codec.getEventClass(), codec);
+        }
+        for (CDEventConstants.CDEventTypes type : CDEventConstants.CDEventTypes.values()) {
+            ProtobufCodec<?> codec = CODECS_BY_CLASS.get(type.getEventClass());
+            if (codec != null) {
+                CODECS_BY_TYPE.put(type, codec);
+            }
+        }
+    }
+
+    private CDEventProtobuf() {
+    }
+
+    /**
+     * @param cdEvent
+     * @return the protobuf message of the cdEvent
+     */
+    public static byte[] toBytes(CDEvent cdEvent) {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        write(cdEvent, outputStream);
+        return outputStream.toByteArray();
+    }
+
+    /**
+     * Writes the protobuf message of the cdEvent to the outputStream, which is not closed.
+     * @param cdEvent
+     * @param outputStream
+     */
+    public static void write(CDEvent cdEvent, OutputStream outputStream) {
+        ProtobufCodec<?> codec = CODECS_BY_CLASS.get(cdEvent.getClass());
+        if (codec == null) {
+            throw new CDEventsException("No protobuf message found for CDEvent class " + cdEvent.getClass().getName());
+        }
+        try {
+            CodedOutputStream output = CodedOutputStream.newInstance(outputStream);
+            codec.writeEvent(cdEvent, output);
+            output.flush();
+        } catch (IOException e) {
+            throw new CDEventsException("Exception occurred while writing CDEvent as protobuf ", e);
+        }
+    }
+
+    /**
+     * @param cdEventBytes the protobuf message
+     * @param eventType the CDEvent type of the message
+     * @return CDEvent, needs type casting to specific CDEvent class
+     */
+    public static CDEvent fromBytes(byte[] cdEventBytes, CDEventConstants.CDEventTypes eventType) {
+        ProtobufCodec<?> codec = CODECS_BY_TYPE.get(eventType);
+        if (codec == null) {
+            throw new CDEventsException("No protobuf message found for CDEvent type " + eventType.getEventType());
+        }
+        try {
+            return codec.read(CodedInputStream.newInstance(cdEventBytes));
+        } catch (IOException e) {
+            throw new CDEventsException("Exception occurred while reading CDEvent protobuf of type "
+                    + eventType.getEventType(), e);
+        }
+    }
+
+    /**
+     * @param cdEventBytes the protobuf message
+     * @param contextType the versioned CDEvent type of the message, e.g. the CloudEvent type
+     * @return CDEvent, needs type casting to specific CDEvent class
+     */
+    public static CDEvent fromBytes(byte[] cdEventBytes, String contextType) {
+        return fromBytes(cdEventBytes, CDEventTypeResolver.resolve(contextType));
+    }
+}
@@ -0,0 +1,53 @@
+package dev.cdevents.protobuf;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import dev.cdevents.models.CDEvent;
+
+import java.io.IOException;
+
+/**
+ * Protobuf codec generated from the schema of a CDEvent class.
+ * @param <T> the CDEvent class
+ */
+abstract class ProtobufCodec<T extends CDEvent> {
+
+    private final Class<T> eventClass;
+
+    ProtobufCodec(Class<T> eventClass) {
+        this.eventClass = eventClass;
+    }
+
+    /**
+     * @return the CDEvent class encoded
+     */
+    Class<T> getEventClass() {
+        return eventClass;
+    }
+
+    /**
+     * Writes the cdEvent, which must be of the CDEvent class, as its protobuf message.
+     * @param cdEvent the CDEvent
+     * @param output the output to write to
+     * @throws IOException if the output cannot be written
+     */
+    void writeEvent(CDEvent cdEvent, CodedOutputStream output) throws IOException {
+        write(eventClass.cast(cdEvent), output);
+    }
+
+    /**
+     * Writes the fields of the cdEvent as a protobuf message.
+     * @param cdEvent the CDEvent
+     * @param output the output to write to
+     * @throws IOException if the output cannot be written
+     */
+    abstract void write(T cdEvent, CodedOutputStream output) throws IOException;
+
+    /**
+     * Reads a CDEvent from the protobuf message, skipping unknown fields.
+     * @param input the message
+     * @return the CDEvent
+     * @throws IOException if the message is malformed
+     */
+    abstract T read(CodedInputStream input) throws IOException;
+}
@@ -0,0 +1,83 @@
+// Code generated by dev.cdevents.generator.CDEventsGenerator. DO NOT EDIT.
+
+/*
+Copyright 2023 The CDEvents Authors
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+
+SPDX-License-Identifier: Apache-2.0
+*/
+
+package dev.cdevents.protobuf;
+
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+* The generated protobuf codecs of all CDEvent classes.
+*/
+
+final class ProtobufCodecs {
+
+    private ProtobufCodecs() {
+    }
+
+    /**
+    * @return a new protobuf codec of every CDEvent class
+    */
+
+    static List<ProtobufCodec<?>> create() {
+        List<ProtobufCodec<?>> codecs = new ArrayList<>();
+        codecs.add(new ArtifactPackagedCDEventProtobufCodec());
+        codecs.add(new ArtifactPublishedCDEventProtobufCodec());
+        codecs.add(new ArtifactSignedCDEventProtobufCodec());
+        codecs.add(new BranchCreatedCDEventProtobufCodec());
+        codecs.add(new BranchDeletedCDEventProtobufCodec());
+        codecs.add(new BuildFinishedCDEventProtobufCodec());
+        codecs.add(new BuildQueuedCDEventProtobufCodec());
+        codecs.add(new BuildStartedCDEventProtobufCodec());
+        codecs.add(new ChangeAbandonedCDEventProtobufCodec());
+        codecs.add(new ChangeCreatedCDEventProtobufCodec());
+        codecs.add(new ChangeMergedCDEventProtobufCodec());
+        codecs.add(new ChangeReviewedCDEventProtobufCodec());
+        codecs.add(new ChangeUpdatedCDEventProtobufCodec());
+        codecs.add(new EnvironmentCreatedCDEventProtobufCodec());
+        codecs.add(new EnvironmentDeletedCDEventProtobufCodec());
+        codecs.add(new EnvironmentModifiedCDEventProtobufCodec());
+        codecs.add(new IncidentDetectedCDEventProtobufCodec());
+        codecs.add(new IncidentReportedCDEventProtobufCodec());
+        codecs.add(new IncidentResolvedCDEventProtobufCodec());
+        codecs.add(new PipelinerunFinishedCDEventProtobufCodec());
+        codecs.add(new PipelinerunQueuedCDEventProtobufCodec());
+        codecs.add(new PipelinerunStartedCDEventProtobufCodec());
+        codecs.add(new RepositoryCreatedCDEventProtobufCodec());
+        codecs.add(new RepositoryDeletedCDEventProtobufCodec());
+        codecs.add(new RepositoryModifiedCDEventProtobufCodec());
+        codecs.add(new ServiceDeployedCDEventProtobufCodec());
+        codecs.add(new ServicePublishedCDEventProtobufCodec());
+        codecs.add(new ServiceRemovedCDEventProtobufCodec());
+        codecs.add(new ServiceRolledbackCDEventProtobufCodec());
+        codecs.add(new ServiceUpgradedCDEventProtobufCodec());
+        codecs.add(new TaskrunFinishedCDEventProtobufCodec());
+        codecs.add(new TaskrunStartedCDEventProtobufCodec());
+        codecs.add(new TestcaserunFinishedCDEventProtobufCodec());
+        codecs.add(new TestcaserunQueuedCDEventProtobufCodec());
+        codecs.add(new TestcaserunStartedCDEventProtobufCodec());
+        codecs.add(new TestoutputPublishedCDEventProtobufCodec());
+        codecs.add(new TestsuiterunFinishedCDEventProtobufCodec());
+        codecs.add(new TestsuiterunQueuedCDEventProtobufCodec());
+        codecs.add(new TestsuiterunStartedCDEventProtobufCodec());
+        return codecs;
+    }
+}
@@ -0,0 +1,166 @@
+package dev.cdevents.protobuf;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.WireFormat;
+import dev.cdevents.serialization.CDEventCodec;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.util.Date;
+import java.util.function.Function;
+
+/**
+ * Computes the size of, writes and reads the field values of CDEvent models for the generated protobuf codecs.
+ * Null values are not written, so that they read back as absent fields.
+ */
+final class ProtobufFields {
+
+    private static final int TIMESTAMP_SECONDS = 1;
+    private static final int TIMESTAMP_NANOS = 2;
+    private static final int MILLIS_PER_SECOND = 1000;
+    private static final int NANOS_PER_MILLI = 1_000_000;
+
+    private ProtobufFields() {
+    }
+
+    static int sizeMessage(int fieldNumber, int contentSize) {
+        return CodedOutputStream.computeTagSize(fieldNumber) + CodedOutputStream.computeUInt32SizeNoTag(contentSize)
+                + contentSize;
+    }
+
+    static void writeMessageHeader(CodedOutputStream output, int fieldNumber, int contentSize) throws IOException {
+        output.writeTag(fieldNumber, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+        output.writeUInt32NoTag(contentSize);
+    }
+
+    static int sizeString(int fieldNumber, String value) {
+        return value == null ? 0 : CodedOutputStream.computeStringSize(fieldNumber, value);
+    }
+
+    static void writeString(CodedOutputStream output, int fieldNumber, String value) throws IOException {
+        if (value != null) {
+            output.writeString(fieldNumber, value);
+        }
+    }
+
+    static String readString(CodedInputStream input) throws IOException {
+        return input.readString();
+    }
+
+    static int sizeEnum(int fieldNumber, Enum<?> value) {
+        return value == null ? 0 : CodedOutputStream.computeStringSize(fieldNumber, value.toString());
+    }
+
+    static void writeEnum(CodedOutputStream output, int fieldNumber, Enum<?> value) throws IOException {
+        if (value != null) {
+            output.writeString(fieldNumber, value.toString());
+        }
+    }
+
+    static <E extends Enum<E>> E readEnum(CodedInputStream input, Function<String, E> fromValue) throws IOException {
+        String value = input.readString();
+        try {
+            return fromValue.apply(value);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidProtocolBufferException("Invalid enum value " + value);
+        }
+    }
+
+    static int sizeUri(int fieldNumber, URI value) {
+        return value == null ? 0 : CodedOutputStream.computeStringSize(fieldNumber, value.toString());
+    }
+
+    static void writeUri(CodedOutputStream output, int fieldNumber, URI value) throws IOException {
+        if (value != null) {
+            output.writeString(fieldNumber, value.toString());
+        }
+    }
+
+    static URI readUri(CodedInputStream input) throws IOException {
+        String value = input.readString();
+        try {
+            return URI.create(value);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidProtocolBufferException("Invalid URI " + value);
+        }
+    }
+
+    /**
+     * Dates are written as a google.protobuf.Timestamp of the seconds and nanos since the epoch.
+     */
+    static int sizeDate(int fieldNumber, Date value) {
+        return value == null ? 0 : sizeMessage(fieldNumber, timestampSize(value.getTime()));
+    }
+
+    static void writeDate(CodedOutputStream output, int fieldNumber, Date value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        long millis = value.getTime();
+        writeMessageHeader(output, fieldNumber, timestampSize(millis));
+        long seconds = Math.floorDiv(millis, MILLIS_PER_SECOND);
+        int nanos = (int) Math.floorMod(millis, MILLIS_PER_SECOND) * NANOS_PER_MILLI;
+        if (seconds != 0) {
+            output.writeInt64(TIMESTAMP_SECONDS, seconds);
+        }
+        if (nanos != 0) {
+            output.writeInt32(TIMESTAMP_NANOS, nanos);
+        }
+    }
+
+    static Date readDate(CodedInputStream input) throws IOException {
+        int limit = input.pushLimit(input.readRawVarint32());
+        long seconds = 0;
+        int nanos = 0;
+        for (int tag = input.readTag(); tag != 0; tag = input.readTag()) {
+            switch (tag) {
+                case (TIMESTAMP_SECONDS << 3) | WireFormat.WIRETYPE_VARINT:
+                    seconds = input.readInt64();
+                    break;
+                case (TIMESTAMP_NANOS << 3) | WireFormat.WIRETYPE_VARINT:
+                    nanos = input.readInt32();
+                    break;
+                default:
+                    input.skipField(tag);
+            }
+        }
+        input.popLimit(limit);
+        return new Date(seconds * MILLIS_PER_SECOND + nanos / NANOS_PER_MILLI);
+    }
+
+    /**
+     * Untyped values, such as customData, are written as their json encoding.
+     */
+    static int sizeAny(int fieldNumber, Object value) {
+        return value == null ? 0 : CodedOutputStream.computeByteArraySize(fieldNumber, json(value));
+    }
+
+    static void writeAny(CodedOutputStream output, int fieldNumber, Object value) throws IOException {
+        if (value != null) {
+            output.writeByteArray(fieldNumber, json(value));
+        }
+    }
+
+    static Object readAny(CodedInputStream input) throws IOException {
+        return CDEventCodec.getDefault().getObjectMapper().readValue(input.readByteArray(), Object.class);
+    }
+
+    private static int timestampSize(long millis) {
+        long seconds = Math.floorDiv(millis, MILLIS_PER_SECOND);
+        int nanos = (int) Math.floorMod(millis, MILLIS_PER_SECOND) * NANOS_PER_MILLI;
+        return (seconds == 0 ? 0 : CodedOutputStream.computeInt64Size(TIMESTAMP_SECONDS, seconds))
+                + (nanos == 0 ? 0 : CodedOutputStream.computeInt32Size(TIMESTAMP_NANOS, nanos));
+    }
+
+    private static byte[] json(Object value) {
+        try {
+            return CDEventCodec.getDefault().writer().writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
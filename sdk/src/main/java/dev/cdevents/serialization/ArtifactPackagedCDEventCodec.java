@@ -0,0 +1,266 @@
+// Code generated by dev.cdevents.generator.CDEventsGenerator. DO NOT EDIT.
+
+/*
+Copyright 2023 The CDEvents Authors
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+
+SPDX-License-Identifier: Apache-2.0
+*/
+
+package dev.cdevents.serialization;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import dev.cdevents.events.ArtifactPackagedCDEvent;
+import dev.cdevents.models.artifact.packaged.*;
+
+import java.io.IOException;
+
+
+/**
+* Reflection-free Jackson serializer and deserializer of {@link ArtifactPackagedCDEvent},
+* reading and writing the fields in schema order with pre-encoded field names.
+*/
+
+public final class ArtifactPackagedCDEventCodec {
+
+    private static final SerializableString CHANGE = new SerializedString("change");
+    private static final SerializableString CONTENT = new SerializedString("content");
+    private static final SerializableString CONTEXT = new SerializedString("context");
+    private static final SerializableString CUSTOM_DATA = new SerializedString("customData");
+    private static final SerializableString CUSTOM_DATA_CONTENT_TYPE = new SerializedString("customDataContentType");
+    private static final SerializableString ID = new SerializedString("id");
+    private static final SerializableString SOURCE = new SerializedString("source");
+    private static final SerializableString SUBJECT = new SerializedString("subject");
+    private static final SerializableString TIMESTAMP = new SerializedString("timestamp");
+    private static final SerializableString TYPE = new SerializedString("type");
+    private static final SerializableString VERSION = new SerializedString("version");
+
+    private ArtifactPackagedCDEventCodec() {
+    }
+
+
+    public static final class Serializer extends StdSerializer<ArtifactPackagedCDEvent> {
+
+        /**
+        * Creates the serializer.
+        */
+
+        public Serializer() {
+            super(ArtifactPackagedCDEvent.class);
+        }
+
+        @Override
+        public void serialize(ArtifactPackagedCDEvent cdEvent, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            generator.writeStartObject(cdEvent);
+            writeContext(generator, CONTEXT, cdEvent.getContext(), provider);
+            writeSubject(generator, SUBJECT, cdEvent.getSubject(), provider);
+            CDEventJson.writeAny(generator, CUSTOM_DATA, cdEvent.getCustomData(), provider);
+            CDEventJson.writeString(generator, CUSTOM_DATA_CONTENT_TYPE, cdEvent.getCustomDataContentType(), provider);
+            generator.writeEndObject();
+        }
+    }
+
+
+    public static final class Deserializer extends StdDeserializer<ArtifactPackagedCDEvent> {
+
+        /**
+        * Creates the deserializer.
+        */
+
+        public Deserializer() {
+            super(ArtifactPackagedCDEvent.class);
+        }
+
+        @Override
+        public ArtifactPackagedCDEvent deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            ArtifactPackagedCDEvent cdEvent = new ArtifactPackagedCDEvent();
+            for (String name = CDEventJson.firstFieldName(parser, context, ArtifactPackagedCDEvent.class); name != null; name = parser.nextFieldName()) {
+                parser.nextToken();
+                switch (name) {
+                    case "context":
+                        cdEvent.setContext(readContext(parser, context));
+                        break;
+                    case "subject":
+                        cdEvent.setSubject(readSubject(parser, context));
+                        break;
+                    case "customData":
+                        cdEvent.setCustomData(CDEventJson.readAny(parser, context));
+                        break;
+                    case "customDataContentType":
+                        cdEvent.setCustomDataContentType(CDEventJson.readString(parser));
+                        break;
+                    default:
+                        CDEventJson.skipUnknown(parser, context, ArtifactPackagedCDEvent.class, name);
+                }
+            }
+            return cdEvent;
+        }
+    }
+
+
+    private static void writeContext(JsonGenerator generator, SerializableString key, Context value, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            return;
+        }
+        generator.writeFieldName(key);
+        generator.writeStartObject(value);
+        CDEventJson.writeString(generator, VERSION, value.getVersion(), provider);
+        CDEventJson.writeString(generator, ID, value.getId(), provider);
+        CDEventJson.writeString(generator, SOURCE, value.getSource(), provider);
+        CDEventJson.writeEnum(generator, TYPE, value.getType(), provider);
+        CDEventJson.writeDate(generator, TIMESTAMP, value.getTimestamp(), provider);
+        generator.writeEndObject();
+    }
+
+    private static Context readContext(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        Context value = new Context();
+        for (String name = CDEventJson.firstFieldName(parser, context, Context.class); name != null; name = parser.nextFieldName()) {
+            parser.nextToken();
+            switch (name) {
+                case "version":
+                    value.setVersion(CDEventJson.readString(parser));
+                    break;
+                case "id":
+                    value.setId(CDEventJson.readString(parser));
+                    break;
+                case "source":
+                    value.setSource(CDEventJson.readString(parser));
+                    break;
+                case "type":
+                    value.setType(CDEventJson.readEnum(parser, Context.Type::fromValue));
+                    break;
+                case "timestamp":
+                    value.setTimestamp(CDEventJson.readDate(parser, context));
+                    break;
+                default:
+                    CDEventJson.skipUnknown(parser, context, Context.class, name);
+            }
+        }
+        return value;
+    }
+
+
+    private static void writeSubject(JsonGenerator generator, SerializableString key, Subject value, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            return;
+        }
+        generator.writeFieldName(key);
+        generator.writeStartObject(value);
+        CDEventJson.writeString(generator, ID, value.getId(), provider);
+        CDEventJson.writeString(generator, SOURCE, value.getSource(), provider);
+        CDEventJson.writeEnum(generator, TYPE, value.getType(), provider);
+        writeContent(generator, CONTENT, value.getContent(), provider);
+        generator.writeEndObject();
+    }
+
+    private static Subject readSubject(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        Subject value = new Subject();
+        for (String name = CDEventJson.firstFieldName(parser, context, Subject.class); name != null; name = parser.nextFieldName()) {
+            parser.nextToken();
+            switch (name) {
+                case "id":
+                    value.setId(CDEventJson.readString(parser));
+                    break;
+                case "source":
+                    value.setSource(CDEventJson.readString(parser));
+                    break;
+                case "type":
+                    value.setType(CDEventJson.readEnum(parser, Subject.Type::fromValue));
+                    break;
+                case "content":
+                    value.setContent(readContent(parser, context));
+                    break;
+                default:
+                    CDEventJson.skipUnknown(parser, context, Subject.class, name);
+            }
+        }
+        return value;
+    }
+
+
+    private static void writeContent(JsonGenerator generator, SerializableString key, Content value, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            return;
+        }
+        generator.writeFieldName(key);
+        generator.writeStartObject(value);
+        writeChange(generator, CHANGE, value.getChange(), provider);
+        generator.writeEndObject();
+    }
+
+    private static Content readContent(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        Content value = new Content();
+        for (String name = CDEventJson.firstFieldName(parser, context, Content.class); name != null; name = parser.nextFieldName()) {
+            parser.nextToken();
+            switch (name) {
+                case "change":
+                    value.setChange(readChange(parser, context));
+                    break;
+                default:
+                    CDEventJson.skipUnknown(parser, context, Content.class, name);
+            }
+        }
+        return value;
+    }
+
+
+    private static void writeChange(JsonGenerator generator, SerializableString key, Change value, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            return;
+        }
+        generator.writeFieldName(key);
+        generator.writeStartObject(value);
+        CDEventJson.writeString(generator, ID, value.getId(), provider);
+        CDEventJson.writeString(generator, SOURCE, value.getSource(), provider);
+        generator.writeEndObject();
+    }
+
+    private static Change readChange(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        Change value = new Change();
+        for (String name = CDEventJson.firstFieldName(parser, context, Change.class); name != null; name = parser.nextFieldName()) {
+            parser.nextToken();
+            switch (name) {
+                case "id":
+                    value.setId(CDEventJson.readString(parser));
+                    break;
+                case "source":
+                    value.setSource(CDEventJson.readString(parser));
+                    break;
+                default:
+                    CDEventJson.skipUnknown(parser, context, Change.class, name);
+            }
+        }
+        return value;
+    }
+}
@@ -0,0 +1,109 @@
+package dev.cdevents.serialization;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import dev.cdevents.config.CustomObjectMapper;
+import dev.cdevents.constants.CDEventConstants;
+import dev.cdevents.models.CDEvent;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Holds the {@link ObjectMapper} used to read and write CDEvents, together with an {@link ObjectReader}
+ * and an {@link ObjectWriter} for every {@link CDEventConstants.CDEventTypes}, built once from it.
+ * Readers and writers are immutable and resolve their deserializer and serializer up front, so they
+ * are shared by all threads without per call lookups. The default codec uses
+ * {@link CustomObjectMapper#customConfiguration()}. A codec for another mapper can be set as the default,
+ * which the mapper must not be reconfigured after. Its writers do not close the streams they write to.
+ */
+public final class CDEventCodec {
+
+    private static final CDEventConstants.CDEventTypes[] TYPES = CDEventConstants.CDEventTypes.values();
+
+    private static volatile CDEventCodec defaultCodec = new CDEventCodec(new CustomObjectMapper().customConfiguration());
+
+    private final ObjectMapper objectMapper;
+    private final ObjectReader[] readers = new ObjectReader[TYPES.length];
+    private final ObjectWriter[] writers = new ObjectWriter[TYPES.length];
+    private final Map<Class<?>, ObjectWriter> writersByClass = new HashMap<>();
+    private final ObjectWriter writer;
+
+    /**
+     * Creates a codec reading and writing CDEvents with the objectMapper.
+     * The mapper should have the {@link CDEventsModule} registered, as {@link CustomObjectMapper} does,
+     * otherwise CDEvents are bound through bean introspection.
+     * @param objectMapper the configured mapper
+     */
+    public CDEventCodec(ObjectMapper objectMapper) {
+        if (objectMapper == null) {
+            throw new IllegalArgumentException("ObjectMapper must not be null");
+        }
+        this.objectMapper = objectMapper;
+        this.writer = objectMapper.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        for (CDEventConstants.CDEventTypes type : TYPES) {
+            readers[type.ordinal()] = objectMapper.readerFor(type.getEventClass());
+            writers[type.ordinal()] = objectMapper.writerFor(type.getEventClass())
+                    .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            writersByClass.put(type.getEventClass(), writers[type.ordinal()]);
+        }
+    }
+
+    /**
+     * @return the codec used by the SDK
+     */
+    public static CDEventCodec getDefault() {
+        return defaultCodec;
+    }
+
+    /**
+     * @param codec the codec to be used by the SDK from now on
+     */
+    public static void setDefault(CDEventCodec codec) {
+        if (codec == null) {
+            throw new IllegalArgumentException("CDEventCodec must not be null");
+        }
+        defaultCodec = codec;
+    }
+
+    /**
+     * @return the mapper the readers and writers were built from, e.g. to read json trees
+     */
+    public ObjectMapper getObjectMapper() {
+        return objectMapper;
+    }
+
+    /**
+     * @param eventType the CDEvent type
+     * @return the reader of the CDEvent class of the eventType
+     */
+    public ObjectReader reader(CDEventConstants.CDEventTypes eventType) {
+        return readers[eventType.ordinal()];
+    }
+
+    /**
+     * @param eventType the CDEvent type
+     * @return the writer of the CDEvent class of the eventType
+     */
+    public ObjectWriter writer(CDEventConstants.CDEventTypes eventType) {
+        return writers[eventType.ordinal()];
+    }
+
+    /**
+     * @param cdEvent the CDEvent to write
+     * @return the writer of the class of the cdEvent, or a writer of any value for other CDEvent classes
+     */
+    public ObjectWriter writer(CDEvent cdEvent) {
+        ObjectWriter eventWriter = writersByClass.get(cdEvent.getClass());
+        return eventWriter != null ? eventWriter : writer;
+    }
+
+    /**
+     * @return a writer of any value, e.g. custom data
+     */
+    public ObjectWriter writer() {
+        return writer;
+    }
+}
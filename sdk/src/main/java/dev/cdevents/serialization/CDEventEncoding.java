@@ -0,0 +1,114 @@
+package dev.cdevents.serialization;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import dev.cdevents.config.CustomObjectMapper;
+import dev.cdevents.exception.CDEventsException;
+
+import java.util.Locale;
+
+/**
+ * Encodings of CDEvent payloads, each with the CloudEvent {@code datacontenttype} it is sent with.
+ * The binary encodings write the same model classes through the generated codecs as json does.
+ * Smile writes every repeated key, such as {@code context}, {@code subject} and {@code content},
+ * as a back reference to its first occurrence. CBOR is written without the stringref extension,
+ * so any CBOR decoder can read it. The binary encodings need
+ * {@code com.fasterxml.jackson.dataformat:jackson-dataformat-cbor} or
+ * {@code com.fasterxml.jackson.dataformat:jackson-dataformat-smile} on the classpath.
+ */
+public enum CDEventEncoding {
+
+    /**
+     * Json text, read and written with {@link CDEventCodec#getDefault()}.
+     */
+    JSON("application/json"),
+
+    /**
+     * Concise Binary Object Representation, RFC 8949.
+     */
+    CBOR("application/cbor"),
+
+    /**
+     * Jackson binary json with back references to repeated keys.
+     */
+    SMILE("application/x-jackson-smile");
+
+    private final String contentType;
+
+    CDEventEncoding(String contentType) {
+        this.contentType = contentType;
+    }
+
+    /**
+     * @return the CloudEvent datacontenttype of payloads in this encoding
+     */
+    public String getContentType() {
+        return contentType;
+    }
+
+    /**
+     * @return the codec reading and writing CDEvents in this encoding
+     */
+    public CDEventCodec codec() {
+        switch (this) {
+            case CBOR:
+                return codec(this, "com.fasterxml.jackson.dataformat:jackson-dataformat-cbor");
+            case SMILE:
+                return codec(this, "com.fasterxml.jackson.dataformat:jackson-dataformat-smile");
+            default:
+                return CDEventCodec.getDefault();
+        }
+    }
+
+    /**
+     * Resolves the encoding of a CloudEvent datacontenttype, ignoring its parameters.
+     * No content type, or any json one such as {@code text/json} or {@code application/cloudevents+json},
+     * resolves to json, which CDEvents were always read as.
+     * @param dataContentType the CloudEvent datacontenttype, may be null
+     * @return the encoding of the payload
+     * @throws CDEventsException if the content type is none of the encodings, e.g. a protobuf message,
+     * which is decoded with {@code CDEventProtobuf} and the CDEvent type instead
+     */
+    public static CDEventEncoding fromContentType(String dataContentType) {
+        if (dataContentType == null) {
+            return JSON;
+        }
+        int parameters = dataContentType.indexOf(';');
+        String mediaType = (parameters < 0 ? dataContentType : dataContentType.substring(0, parameters))
+                .trim().toLowerCase(Locale.ROOT);
+        if (mediaType.equals(CBOR.contentType)) {
+            return CBOR;
+        }
+        if (mediaType.equals(SMILE.contentType)) {
+            return SMILE;
+        }
+        if (mediaType.endsWith("/json") || mediaType.endsWith("+json")) {
+            return JSON;
+        }
+        throw new CDEventsException("Unsupported CDEvent datacontenttype " + dataContentType);
+    }
+
+    private static CDEventCodec codec(CDEventEncoding encoding, String dependency) {
+        try {
+            return encoding == CBOR ? CborCodec.CODEC : SmileCodec.CODEC;
+        } catch (NoClassDefFoundError e) {
+            throw new CDEventsException(encoding + " encoding of CDEvents requires " + dependency, e);
+        }
+    }
+
+    /**
+     * Holds the CBOR codec, so that the CBOR dataformat is loaded only once it is used.
+     */
+    private static final class CborCodec {
+        private static final CDEventCodec CODEC = new CDEventCodec(new CustomObjectMapper(
+                new CBORFactory()).customConfiguration());
+    }
+
+    /**
+     * Holds the Smile codec, so that the Smile dataformat is loaded only once it is used.
+     */
+    private static final class SmileCodec {
+        private static final CDEventCodec CODEC = new CDEventCodec(new CustomObjectMapper(
+                new SmileFactory()).customConfiguration());
+    }
+}
@@ -0,0 +1,139 @@
+package dev.cdevents.serialization;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import dev.cdevents.config.Timestamps;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.Date;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Reads and writes the field values of CDEvent models for the generated codecs.
+ * Null values are not written, as with the {@code NON_NULL} inclusion of the model classes.
+ */
+final class CDEventJson {
+
+    private CDEventJson() {
+    }
+
+    static void writeString(JsonGenerator generator, SerializableString key, String value,
+                            SerializerProvider provider) throws IOException {
+        if (value != null) {
+            generator.writeFieldName(key);
+            generator.writeString(value);
+        }
+    }
+
+    static void writeEnum(JsonGenerator generator, SerializableString key, Enum<?> value,
+                          SerializerProvider provider) throws IOException {
+        if (value != null) {
+            generator.writeFieldName(key);
+            generator.writeString(value.toString());
+        }
+    }
+
+    static void writeDate(JsonGenerator generator, SerializableString key, Date value,
+                          SerializerProvider provider) throws IOException {
+        if (value != null) {
+            generator.writeFieldName(key);
+            generator.writeString(Timestamps.format(value.getTime()));
+        }
+    }
+
+    static void writeUri(JsonGenerator generator, SerializableString key, URI value,
+                         SerializerProvider provider) throws IOException {
+        if (value != null) {
+            generator.writeFieldName(key);
+            generator.writeString(value.toString());
+        }
+    }
+
+    static void writeAny(JsonGenerator generator, SerializableString key, Object value,
+                         SerializerProvider provider) throws IOException {
+        if (value != null) {
+            generator.writeFieldName(key);
+            provider.defaultSerializeValue(value, generator);
+        }
+    }
+
+    static void writeAdditionalProperties(JsonGenerator generator, Map<String, Object> additionalProperties,
+                                          SerializerProvider provider) throws IOException {
+        for (Map.Entry<String, Object> property : additionalProperties.entrySet()) {
+            provider.defaultSerializeField(property.getKey(), property.getValue(), generator);
+        }
+    }
+
+    /**
+     * @return name of the first field of the object the parser is at, or null for an empty object
+     */
+    static String firstFieldName(JsonParser parser, DeserializationContext context, Class<?> type) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.START_OBJECT) {
+            return parser.nextFieldName();
+        }
+        if (token == JsonToken.FIELD_NAME) {
+            return parser.currentName();
+        }
+        if (token == JsonToken.END_OBJECT) {
+            return null;
+        }
+        context.handleUnexpectedToken(type, parser);
+        return null;
+    }
+
+    static void skipUnknown(JsonParser parser, DeserializationContext context, Class<?> type, String name)
+            throws IOException {
+        context.handleUnknownProperty(parser, null, type, name);
+    }
+
+    static String readString(JsonParser parser) throws IOException {
+        return parser.currentToken() == JsonToken.VALUE_NULL ? null : parser.getValueAsString();
+    }
+
+    static <E extends Enum<E>> E readEnum(JsonParser parser, Function<String, E> fromValue) throws IOException {
+        String value = readString(parser);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return fromValue.apply(value);
+        } catch (IllegalArgumentException e) {
+            throw JsonMappingException.from(parser, "Invalid value " + value + " of " + parser.currentName(), e);
+        }
+    }
+
+    static Date readDate(JsonParser parser, DeserializationContext context) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (token == JsonToken.VALUE_NUMBER_INT) {
+            return new Date(parser.getLongValue());
+        }
+        return context.parseDate(parser.getValueAsString());
+    }
+
+    static URI readUri(JsonParser parser) throws IOException {
+        String value = readString(parser);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return URI.create(value);
+        } catch (IllegalArgumentException e) {
+            throw JsonMappingException.from(parser, "Invalid URI " + value + " of " + parser.currentName(), e);
+        }
+    }
+
+    static Object readAny(JsonParser parser, DeserializationContext context) throws IOException {
+        return context.readValue(parser, Object.class);
+    }
+}
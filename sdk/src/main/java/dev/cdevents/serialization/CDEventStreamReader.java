@@ -0,0 +1,141 @@
+package dev.cdevents.serialization;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import dev.cdevents.CDEvents;
+import dev.cdevents.exception.CDEventsException;
+import dev.cdevents.models.CDEvent;
+import dev.cdevents.validation.ValidationPolicy;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Reads newline-delimited json, one CDEvent per line, such as written by {@link CDEventStreamWriter}.
+ * A single {@link JsonParser} reads the whole input through its own buffer, so no String is created per line
+ * and memory stays constant however large the input is. Every CDEvent is read into a json tree and bound
+ * with the same type dispatch and validation as {@link CDEvents#cdEventFromJson(JsonNode, ValidationPolicy)}.
+ * A reader is not thread safe. Closing it closes the input.
+ */
+public final class CDEventStreamReader implements Iterator<CDEvent>, Closeable {
+
+    private final JsonParser parser;
+    private final ValidationPolicy validationPolicy;
+    private CDEvent next;
+    private boolean finished;
+
+    /**
+     * Creates a reader of the inputStream validating every CDEvent.
+     * @param inputStream newline-delimited CDEvents json
+     */
+    public CDEventStreamReader(InputStream inputStream) {
+        this(inputStream, ValidationPolicy.FULL);
+    }
+
+    /**
+     * Creates a reader of the inputStream validating CDEvents as far as the validationPolicy asks for.
+     * @param inputStream newline-delimited CDEvents json
+     * @param validationPolicy how every CDEvent is validated, e.g. {@link ValidationPolicy#OFF} for trusted archives
+     */
+    public CDEventStreamReader(InputStream inputStream, ValidationPolicy validationPolicy) {
+        if (inputStream == null) {
+            throw new IllegalArgumentException("InputStream must not be null");
+        }
+        if (validationPolicy == null) {
+            throw new IllegalArgumentException("ValidationPolicy must not be null");
+        }
+        try {
+            this.parser = CDEventCodec.getDefault().getObjectMapper().getFactory().createParser(inputStream);
+        } catch (IOException e) {
+            throw new CDEventsException("Exception occurred while opening CDEvents Json stream ", e);
+        }
+        this.validationPolicy = validationPolicy;
+    }
+
+    /**
+     * Opens a reader of the file.
+     * @param path newline-delimited CDEvents json file
+     * @param validationPolicy how every CDEvent is validated
+     * @return reader of the file, to be closed by the caller
+     * @throws IOException if the file cannot be opened
+     */
+    public static CDEventStreamReader open(Path path, ValidationPolicy validationPolicy) throws IOException {
+        return new CDEventStreamReader(Files.newInputStream(path), validationPolicy);
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null && !finished) {
+            next = readNext();
+            finished = next == null;
+        }
+        return next != null;
+    }
+
+    @Override
+    public CDEvent next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        CDEvent cdEvent = next;
+        next = null;
+        return cdEvent;
+    }
+
+    /**
+     * The stream reads the input lazily and closes this reader when it is closed.
+     * @return the remaining CDEvents of the input
+     */
+    public Stream<CDEvent> stream() {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this,
+                Spliterator.ORDERED | Spliterator.NONNULL), false).onClose(() -> {
+                    try {
+                        close();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+    }
+
+    @Override
+    public void close() throws IOException {
+        finished = true;
+        next = null;
+        parser.close();
+    }
+
+    private CDEvent readNext() {
+        JsonNode cdEventNode;
+        int lineNr;
+        try {
+            JsonToken token = parser.nextToken();
+            if (token == null) {
+                return null;
+            }
+            lineNr = parser.currentLocation().getLineNr();
+            if (token != JsonToken.START_OBJECT) {
+                throw new CDEventsException("Expected a CDEvent Json object at line " + lineNr);
+            }
+            cdEventNode = parser.readValueAsTree();
+        } catch (IOException e) {
+            throw new CDEventsException("Exception occurred while reading CDEvents Json stream at line "
+                    + parser.currentLocation().getLineNr(), e);
+        }
+        try {
+            return CDEvents.cdEventFromJson(cdEventNode, validationPolicy);
+        } catch (CDEventsException e) {
+            throw new CDEventsException("Invalid CDEvent Json at line " + lineNr, e);
+        }
+    }
+}
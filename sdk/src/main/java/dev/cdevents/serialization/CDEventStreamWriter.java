@@ -0,0 +1,110 @@
+package dev.cdevents.serialization;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import dev.cdevents.constants.CDEventConstants;
+import dev.cdevents.exception.CDEventsException;
+import dev.cdevents.models.CDEvent;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Writes newline-delimited json, one CDEvent per line, which {@link CDEventStreamReader} reads back.
+ * A single {@link JsonGenerator} writes all CDEvents through its own buffer, which is passed on to the output
+ * only when full, on {@link #flush()} and on {@link #close()}. CDEvents are written as they are, without
+ * validation. A writer is not thread safe. Closing it closes the output.
+ */
+public final class CDEventStreamWriter implements Flushable, Closeable {
+
+    private final OutputStream outputStream;
+    private final JsonGenerator generator;
+    private final Map<Class<?>, ObjectWriter> writersByClass = new HashMap<>();
+    private final ObjectWriter writer;
+
+    /**
+     * Creates a writer to the outputStream.
+     * @param outputStream receives the newline-delimited CDEvents json
+     */
+    public CDEventStreamWriter(OutputStream outputStream) {
+        if (outputStream == null) {
+            throw new IllegalArgumentException("OutputStream must not be null");
+        }
+        this.outputStream = outputStream;
+        CDEventCodec codec = CDEventCodec.getDefault();
+        try {
+            this.generator = codec.getObjectMapper().getFactory().createGenerator(outputStream);
+        } catch (IOException e) {
+            throw new CDEventsException("Exception occurred while opening CDEvents Json stream ", e);
+        }
+        generator.setRootValueSeparator(null);
+        for (CDEventConstants.CDEventTypes type : CDEventConstants.CDEventTypes.values()) {
+            writersByClass.put(type.getEventClass(),
+                    codec.writer(type).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE));
+        }
+        this.writer = codec.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    /**
+     * Opens a writer to the file, replacing its content.
+     * @param path newline-delimited CDEvents json file
+     * @return writer to the file, to be closed by the caller
+     * @throws IOException if the file cannot be opened
+     */
+    public static CDEventStreamWriter open(Path path) throws IOException {
+        return new CDEventStreamWriter(Files.newOutputStream(path));
+    }
+
+    /**
+     * Writes the cdEvent as the next line.
+     * @param cdEvent
+     */
+    public void write(CDEvent cdEvent) {
+        try {
+            writerOf(cdEvent).writeValue(generator, cdEvent);
+            generator.writeRaw('\n');
+        } catch (IOException e) {
+            throw new CDEventsException("Exception occurred while writing CDEvents Json stream ", e);
+        }
+    }
+
+    /**
+     * Writes the cdEvents as the next lines.
+     * @param cdEvents
+     */
+    public void writeAll(Iterable<? extends CDEvent> cdEvents) {
+        Iterator<? extends CDEvent> iterator = cdEvents.iterator();
+        while (iterator.hasNext()) {
+            write(iterator.next());
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        generator.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        // the codec writers leave the output open, so it is closed here after the generator
+        try (OutputStream output = outputStream) {
+            generator.close();
+        }
+    }
+
+    private ObjectWriter writerOf(CDEvent cdEvent) {
+        if (cdEvent == null) {
+            throw new IllegalArgumentException("CDEvent must not be null");
+        }
+        ObjectWriter eventWriter = writersByClass.get(cdEvent.getClass());
+        return eventWriter != null ? eventWriter : writer;
+    }
+}
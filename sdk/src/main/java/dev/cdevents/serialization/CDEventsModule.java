@@ -0,0 +1,118 @@
+// Code generated by dev.cdevents.generator.CDEventsGenerator. DO NOT EDIT.
+
+/*
+Copyright 2023 The CDEvents Authors
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+
+SPDX-License-Identifier: Apache-2.0
+*/
+
+package dev.cdevents.serialization;
+
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import dev.cdevents.events.*;
+
+
+/**
+* Jackson module registering the generated codec of every CDEvent class.
+*/
+
+public class CDEventsModule extends SimpleModule {
+
+    /**
+    * Creates the module.
+    */
+
+    public CDEventsModule() {
+        super("CDEventsModule");
+        addSerializer(ArtifactPackagedCDEvent.class, new ArtifactPackagedCDEventCodec.Serializer());
+        addDeserializer(ArtifactPackagedCDEvent.class, new ArtifactPackagedCDEventCodec.Deserializer());
+        addSerializer(ArtifactPublishedCDEvent.class, new ArtifactPublishedCDEventCodec.Serializer());
+        addDeserializer(ArtifactPublishedCDEvent.class, new ArtifactPublishedCDEventCodec.Deserializer());
+        addSerializer(ArtifactSignedCDEvent.class, new ArtifactSignedCDEventCodec.Serializer());
+        addDeserializer(ArtifactSignedCDEvent.class, new ArtifactSignedCDEventCodec.Deserializer());
+        addSerializer(BranchCreatedCDEvent.class, new BranchCreatedCDEventCodec.Serializer());
+        addDeserializer(BranchCreatedCDEvent.class, new BranchCreatedCDEventCodec.Deserializer());
+        addSerializer(BranchDeletedCDEvent.class, new BranchDeletedCDEventCodec.Serializer());
+        addDeserializer(BranchDeletedCDEvent.class, new BranchDeletedCDEventCodec.Deserializer());
+        addSerializer(BuildFinishedCDEvent.class, new BuildFinishedCDEventCodec.Serializer());
+        addDeserializer(BuildFinishedCDEvent.class, new BuildFinishedCDEventCodec.Deserializer());
+        addSerializer(BuildQueuedCDEvent.class, new BuildQueuedCDEventCodec.Serializer());
+        addDeserializer(BuildQueuedCDEvent.class, new BuildQueuedCDEventCodec.Deserializer());
+        addSerializer(BuildStartedCDEvent.class, new BuildStartedCDEventCodec.Serializer());
+        addDeserializer(BuildStartedCDEvent.class, new BuildStartedCDEventCodec.Deserializer());
+        addSerializer(ChangeAbandonedCDEvent.class, new ChangeAbandonedCDEventCodec.Serializer());
+        addDeserializer(ChangeAbandonedCDEvent.class, new ChangeAbandonedCDEventCodec.Deserializer());
+        addSerializer(ChangeCreatedCDEvent.class, new ChangeCreatedCDEventCodec.Serializer());
+        addDeserializer(ChangeCreatedCDEvent.class, new ChangeCreatedCDEventCodec.Deserializer());
+        addSerializer(ChangeMergedCDEvent.class, new ChangeMergedCDEventCodec.Serializer());
+        addDeserializer(ChangeMergedCDEvent.class, new ChangeMergedCDEventCodec.Deserializer());
+        addSerializer(ChangeReviewedCDEvent.class, new ChangeReviewedCDEventCodec.Serializer());
+        addDeserializer(ChangeReviewedCDEvent.class, new ChangeReviewedCDEventCodec.Deserializer());
+        addSerializer(ChangeUpdatedCDEvent.class, new ChangeUpdatedCDEventCodec.Serializer());
+        addDeserializer(ChangeUpdatedCDEvent.class, new ChangeUpdatedCDEventCodec.Deserializer());
+        addSerializer(EnvironmentCreatedCDEvent.class, new EnvironmentCreatedCDEventCodec.Serializer());
+        addDeserializer(EnvironmentCreatedCDEvent.class, new EnvironmentCreatedCDEventCodec.Deserializer());
+        addSerializer(EnvironmentDeletedCDEvent.class, new EnvironmentDeletedCDEventCodec.Serializer());
+        addDeserializer(EnvironmentDeletedCDEvent.class, new EnvironmentDeletedCDEventCodec.Deserializer());
+        addSerializer(EnvironmentModifiedCDEvent.class, new EnvironmentModifiedCDEventCodec.Serializer());
+        addDeserializer(EnvironmentModifiedCDEvent.class, new EnvironmentModifiedCDEventCodec.Deserializer());
+        addSerializer(IncidentDetectedCDEvent.class, new IncidentDetectedCDEventCodec.Serializer());
+        addDeserializer(IncidentDetectedCDEvent.class, new IncidentDetectedCDEventCodec.Deserializer());
+        addSerializer(IncidentReportedCDEvent.class, new IncidentReportedCDEventCodec.Serializer());
+        addDeserializer(IncidentReportedCDEvent.class, new IncidentReportedCDEventCodec.Deserializer());
+        addSerializer(IncidentResolvedCDEvent.class, new IncidentResolvedCDEventCodec.Serializer());
+        addDeserializer(IncidentResolvedCDEvent.class, new IncidentResolvedCDEventCodec.Deserializer());
+        addSerializer(PipelinerunFinishedCDEvent.class, new PipelinerunFinishedCDEventCodec.Serializer());
+        addDeserializer(PipelinerunFinishedCDEvent.class, new PipelinerunFinishedCDEventCodec.Deserializer());
+        addSerializer(PipelinerunQueuedCDEvent.class, new PipelinerunQueuedCDEventCodec.Serializer());
+        addDeserializer(PipelinerunQueuedCDEvent.class, new PipelinerunQueuedCDEventCodec.Deserializer());
+        addSerializer(PipelinerunStartedCDEvent.class, new PipelinerunStartedCDEventCodec.Serializer());
+        addDeserializer(PipelinerunStartedCDEvent.class, new PipelinerunStartedCDEventCodec.Deserializer());
+        addSerializer(RepositoryCreatedCDEvent.class, new RepositoryCreatedCDEventCodec.Serializer());
+        addDeserializer(RepositoryCreatedCDEvent.class, new RepositoryCreatedCDEventCodec.Deserializer());
+        addSerializer(RepositoryDeletedCDEvent.class, new RepositoryDeletedCDEventCodec.Serializer());
+        addDeserializer(RepositoryDeletedCDEvent.class, new RepositoryDeletedCDEventCodec.Deserializer());
+        addSerializer(RepositoryModifiedCDEvent.class, new RepositoryModifiedCDEventCodec.Serializer());
+        addDeserializer(RepositoryModifiedCDEvent.class, new RepositoryModifiedCDEventCodec.Deserializer());
+        addSerializer(ServiceDeployedCDEvent.class, new ServiceDeployedCDEventCodec.Serializer());
+        addDeserializer(ServiceDeployedCDEvent.class, new ServiceDeployedCDEventCodec.Deserializer());
+        addSerializer(ServicePublishedCDEvent.class, new ServicePublishedCDEventCodec.Serializer());
+        addDeserializer(ServicePublishedCDEvent.class, new ServicePublishedCDEventCodec.Deserializer());
+        addSerializer(ServiceRemovedCDEvent.class, new ServiceRemovedCDEventCodec.Serializer());
+        addDeserializer(ServiceRemovedCDEvent.class, new ServiceRemovedCDEventCodec.Deserializer());
+        addSerializer(ServiceRolledbackCDEvent.class, new ServiceRolledbackCDEventCodec.Serializer());
+        addDeserializer(ServiceRolledbackCDEvent.class, new ServiceRolledbackCDEventCodec.Deserializer());
+        addSerializer(ServiceUpgradedCDEvent.class, new ServiceUpgradedCDEventCodec.Serializer());
+        addDeserializer(ServiceUpgradedCDEvent.class, new ServiceUpgradedCDEventCodec.Deserializer());
+        addSerializer(TaskrunFinishedCDEvent.class, new TaskrunFinishedCDEventCodec.Serializer());
+        addDeserializer(TaskrunFinishedCDEvent.class, new TaskrunFinishedCDEventCodec.Deserializer());
+        addSerializer(TaskrunStartedCDEvent.class, new TaskrunStartedCDEventCodec.Serializer());
+        addDeserializer(TaskrunStartedCDEvent.class, new TaskrunStartedCDEventCodec.Deserializer());
+        addSerializer(TestcaserunFinishedCDEvent.class, new TestcaserunFinishedCDEventCodec.Serializer());
+        addDeserializer(TestcaserunFinishedCDEvent.class, new TestcaserunFinishedCDEventCodec.Deserializer());
+        addSerializer(TestcaserunQueuedCDEvent.class, new TestcaserunQueuedCDEventCodec.Serializer());
+        addDeserializer(TestcaserunQueuedCDEvent.class, new TestcaserunQueuedCDEventCodec.Deserializer());
+        addSerializer(TestcaserunStartedCDEvent.class, new TestcaserunStartedCDEventCodec.Serializer());
+        addDeserializer(TestcaserunStartedCDEvent.class, new TestcaserunStartedCDEventCodec.Deserializer());
+        addSerializer(TestoutputPublishedCDEvent.class, new TestoutputPublishedCDEventCodec.Serializer());
+        addDeserializer(TestoutputPublishedCDEvent.class, new TestoutputPublishedCDEventCodec.Deserializer());
+        addSerializer(TestsuiterunFinishedCDEvent.class, new TestsuiterunFinishedCDEventCodec.Serializer());
+        addDeserializer(TestsuiterunFinishedCDEvent.class, new TestsuiterunFinishedCDEventCodec.Deserializer());
+        addSerializer(TestsuiterunQueuedCDEvent.class, new TestsuiterunQueuedCDEventCodec.Serializer());
+        addDeserializer(TestsuiterunQueuedCDEvent.class, new TestsuiterunQueuedCDEventCodec.Deserializer());
+        addSerializer(TestsuiterunStartedCDEvent.class, new TestsuiterunStartedCDEventCodec.Serializer());
+        addDeserializer(TestsuiterunStartedCDEvent.class, new TestsuiterunStartedCDEventCodec.Deserializer());
+    }
+}
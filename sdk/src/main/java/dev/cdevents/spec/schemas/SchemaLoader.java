@@ -3,18 +3,27 @@ package dev.cdevents.spec.schemas;
 import dev.cdevents.constants.CDEventConstants;
 import dev.cdevents.exception.CDEventsException;
 
-import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
-import java.nio.file.Files;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Paths;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * The purpose of this class is to serve as a resource anchor for loading event schemas.
+ * Each schema is read once and kept in memory, subsequent loads return the cached contents.
  */
 public final class SchemaLoader {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private static final Map<String, String> SCHEMAS = new ConcurrentHashMap<>();
+
     private SchemaLoader() {
 
     }
@@ -23,26 +32,42 @@ public final class SchemaLoader {
      * Loads a schema file.
      * First, it tries to load the schema s a classpath resource,
      * falling back to filesystem access.
+     * Schema files are read as UTF-8 and cached after the first load.
      *
      * @param schema the name of the schema file
      * @return schema contents
      */
     public static String loadSchema(String schema) {
+        return SCHEMAS.computeIfAbsent(schema, SchemaLoader::readSchema);
+    }
+
+    private static String readSchema(String schema) {
         try {
             // load schema from classpath first
-            InputStream inputStream = SchemaLoader.class.getClassLoader()
-                .getResourceAsStream("dev/cdevents/spec/schemas/" + schema);
-            if (null != inputStream) {
-                return new BufferedReader(new InputStreamReader(inputStream))
-                    .lines().collect(Collectors.joining("\n"));
+            try (InputStream inputStream = SchemaLoader.class.getClassLoader()
+                .getResourceAsStream("dev/cdevents/spec/schemas/" + schema)) {
+                if (null != inputStream) {
+                    return readUtf8(inputStream);
+                }
             }
 
-            // load from filesystem next
-            try (Stream<String> lines = Files.lines(Paths.get(CDEventConstants.SCHEMA_FOLDER + "/" + schema))) {
-                return lines.collect(Collectors.joining("\n"));
+            // load from filesystem next, memory-mapped
+            try (FileChannel channel = FileChannel.open(Paths.get(CDEventConstants.SCHEMA_FOLDER, schema), StandardOpenOption.READ)) {
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                return StandardCharsets.UTF_8.decode(buffer).toString();
             }
         } catch (Exception e) {
             throw new CDEventsException("Exception while reading Event JsonSchema file ", e);
         }
     }
+
+    private static String readUtf8(InputStream inputStream) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream(BUFFER_SIZE);
+        byte[] buffer = new byte[BUFFER_SIZE];
+        int read;
+        while ((read = inputStream.read(buffer)) != -1) {
+            outputStream.write(buffer, 0, read);
+        }
+        return new String(outputStream.toByteArray(), StandardCharsets.UTF_8);
+    }
 }
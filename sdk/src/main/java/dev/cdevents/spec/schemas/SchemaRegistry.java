@@ -0,0 +1,97 @@
+package dev.cdevents.spec.schemas;
+
+import com.networknt.schema.JsonSchema;
+import com.networknt.schema.JsonSchemaFactory;
+import com.networknt.schema.SpecVersion;
+import dev.cdevents.constants.CDEventConstants;
+import dev.cdevents.constants.CDEventTypeResolver;
+import dev.cdevents.models.CDEvent;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of compiled event JsonSchemas, keyed by {@link CDEventConstants.CDEventTypes}.
+ * Each schema is loaded and compiled once, either lazily on first use or eagerly
+ * through {@link #warmUp()}, and is shared by all subsequent validations.
+ * The registry is safe for concurrent use.
+ */
+public final class SchemaRegistry {
+
+    private static final JsonSchemaFactory SCHEMA_FACTORY = JsonSchemaFactory.getInstance(SpecVersion.VersionFlag.V202012);
+
+    private static final Map<CDEventConstants.CDEventTypes, JsonSchema> SCHEMAS = new ConcurrentHashMap<>();
+
+    private static final Map<Class<?>, CDEventConstants.CDEventTypes> TYPES_BY_CLASS = new HashMap<>();
+
+    static {
+        for (CDEventConstants.CDEventTypes type : CDEventConstants.CDEventTypes.values()) {
+            TYPES_BY_CLASS.put(type.getEventClass(), type);
+        }
+    }
+
+    private SchemaRegistry() {
+    }
+
+    /**
+     * Returns the compiled schema for the given event type, compiling it on first use.
+     *
+     * @param eventType the CDEvent type
+     * @return compiled JsonSchema
+     */
+    public static JsonSchema getSchema(CDEventConstants.CDEventTypes eventType) {
+        return SCHEMAS.computeIfAbsent(eventType, type -> compile(SchemaLoader.loadSchema(schemaFileName(type))));
+    }
+
+    /**
+     * Returns the compiled schema for the given versioned context type.
+     *
+     * @param contextType the versioned context type, e.g. dev.cdevents.pipelinerun.started.0.1.1
+     * @return compiled JsonSchema
+     */
+    public static JsonSchema getSchema(String contextType) {
+        return getSchema(CDEventTypeResolver.resolve(contextType));
+    }
+
+    /**
+     * Returns the compiled schema for the given cdEvent.
+     * Events that are not one of the {@link CDEventConstants.CDEventTypes} are compiled
+     * from their own {@link CDEvent#eventSchema()} and not cached.
+     *
+     * @param cdEvent the CDEvent to look up the schema for
+     * @return compiled JsonSchema
+     */
+    public static JsonSchema getSchema(CDEvent cdEvent) {
+        CDEventConstants.CDEventTypes eventType = TYPES_BY_CLASS.get(cdEvent.getClass());
+        if (eventType == null) {
+            return compile(cdEvent.eventSchema());
+        }
+        return getSchema(eventType);
+    }
+
+    /**
+     * Eagerly compiles the schemas of all {@link CDEventConstants.CDEventTypes},
+     * so that the first validation of each event type does not pay the compilation cost.
+     */
+    public static void warmUp() {
+        for (CDEventConstants.CDEventTypes type : CDEventConstants.CDEventTypes.values()) {
+            getSchema(type);
+        }
+    }
+
+    /**
+     * @param eventType the CDEvent type
+     * @return the schema file name of the event type, e.g. pipelinerunstarted.json
+     */
+    public static String schemaFileName(CDEventConstants.CDEventTypes eventType) {
+        String unVersionedType = eventType.getEventType().substring(CDEventConstants.EVENT_PREFIX.length());
+        return unVersionedType.replace(".", "") + ".json";
+    }
+
+    private static JsonSchema compile(String schemaJson) {
+        JsonSchema jsonSchema = SCHEMA_FACTORY.getSchema(schemaJson);
+        jsonSchema.initializeValidators();
+        return jsonSchema;
+    }
+}
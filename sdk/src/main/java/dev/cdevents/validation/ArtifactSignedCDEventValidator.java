@@ -0,0 +1,226 @@
+// Code generated by dev.cdevents.generator.CDEventsGenerator. DO NOT EDIT.
+
+/*
+Copyright 2023 The CDEvents Authors
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+
+SPDX-License-Identifier: Apache-2.0
+*/
+
+
+package dev.cdevents.validation;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeType;
+import dev.cdevents.events.ArtifactSignedCDEvent;
+import dev.cdevents.models.artifact.signed.*;
+
+import java.util.Iterator;
+import java.util.Map;
+
+
+/**
+* Validator of {@link ArtifactSignedCDEvent} compiled from the artifactsigned.json schema,
+* checking the schema keywords directly on a json tree or on the model classes.
+*/
+
+final class ArtifactSignedCDEventValidator extends SchemaValidator<ArtifactSignedCDEvent> {
+
+    private static final String[] CONTEXT_TYPE_VALUES = {"dev.cdevents.artifact.signed.0.1.0"};
+    private static final String[] SUBJECT_TYPE_VALUES = {"artifact"};
+    private static final JsonNodeType[] CUSTOM_DATA_TYPES = {JsonNodeType.OBJECT, JsonNodeType.STRING};
+
+    ArtifactSignedCDEventValidator() {
+        super(ArtifactSignedCDEvent.class);
+    }
+
+    @Override
+    void validate(JsonNode cdEventNode, ValidationErrors errors) {
+        validateEvent(cdEventNode, errors);
+    }
+
+    @Override
+    void validate(ArtifactSignedCDEvent cdEvent, ValidationErrors errors) {
+        validateEvent(cdEvent, errors);
+    }
+
+    private static void validateEvent(JsonNode node, ValidationErrors errors) {
+        SchemaChecks.type(node, JsonNodeType.OBJECT, "$", errors);
+        if (!node.isObject()) {
+            return;
+        }
+        SchemaChecks.required(node, "context", "$", errors);
+        SchemaChecks.required(node, "subject", "$", errors);
+        Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            JsonNode value = field.getValue();
+            switch (field.getKey()) {
+                case "context":
+                    SchemaChecks.type(value, JsonNodeType.OBJECT, "$.context", errors);
+                    validateContext(value, errors);
+                    break;
+                case "subject":
+                    SchemaChecks.type(value, JsonNodeType.OBJECT, "$.subject", errors);
+                    validateSubject(value, errors);
+                    break;
+                case "customData":
+                    SchemaChecks.oneOfType(value.getNodeType(), CUSTOM_DATA_TYPES, "$.customData", errors);
+                    break;
+                case "customDataContentType":
+                    SchemaChecks.type(value, JsonNodeType.STRING, "$.customDataContentType", errors);
+                    break;
+                default:
+                    SchemaChecks.additionalProperty(field.getKey(), "$", errors);
+            }
+        }
+    }
+
+    private static void validateEvent(ArtifactSignedCDEvent value, ValidationErrors errors) {
+        if (value == null) {
+            return;
+        }
+        SchemaChecks.required(value.getContext(), "context", "$", errors);
+        SchemaChecks.required(value.getSubject(), "subject", "$", errors);
+        validateContext(value.getContext(), errors);
+        validateSubject(value.getSubject(), errors);
+        SchemaChecks.oneOfType(SchemaChecks.nodeType(value.getCustomData()), CUSTOM_DATA_TYPES, "$.customData", errors);
+    }
+
+    private static void validateContext(JsonNode node, ValidationErrors errors) {
+        if (!node.isObject()) {
+            return;
+        }
+        SchemaChecks.required(node, "version", "$.context", errors);
+        SchemaChecks.required(node, "id", "$.context", errors);
+        SchemaChecks.required(node, "source", "$.context", errors);
+        SchemaChecks.required(node, "type", "$.context", errors);
+        SchemaChecks.required(node, "timestamp", "$.context", errors);
+        Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            JsonNode value = field.getValue();
+            switch (field.getKey()) {
+                case "version":
+                    SchemaChecks.type(value, JsonNodeType.STRING, "$.context.version", errors);
+                    SchemaChecks.minLength(value, 1, "$.context.version", errors);
+                    break;
+                case "id":
+                    SchemaChecks.type(value, JsonNodeType.STRING, "$.context.id", errors);
+                    SchemaChecks.minLength(value, 1, "$.context.id", errors);
+                    break;
+                case "source":
+                    SchemaChecks.type(value, JsonNodeType.STRING, "$.context.source", errors);
+                    SchemaChecks.minLength(value, 1, "$.context.source", errors);
+                    break;
+                case "type":
+                    SchemaChecks.type(value, JsonNodeType.STRING, "$.context.type", errors);
+                    SchemaChecks.enumValue(value, CONTEXT_TYPE_VALUES, "$.context.type", errors);
+                    break;
+                case "timestamp":
+                    SchemaChecks.type(value, JsonNodeType.STRING, "$.context.timestamp", errors);
+                    SchemaChecks.minLength(value, 1, "$.context.timestamp", errors);
+                    break;
+                default:
+                    SchemaChecks.additionalProperty(field.getKey(), "$.context", errors);
+            }
+        }
+    }
+
+    private static void validateContext(Context value, ValidationErrors errors) {
+        if (value == null) {
+            return;
+        }
+        SchemaChecks.required(value.getVersion(), "version", "$.context", errors);
+        SchemaChecks.required(value.getId(), "id", "$.context", errors);
+        SchemaChecks.required(value.getSource(), "source", "$.context", errors);
+        SchemaChecks.required(value.getType(), "type", "$.context", errors);
+        SchemaChecks.required(value.getTimestamp(), "timestamp", "$.context", errors);
+        SchemaChecks.minLength(value.getVersion(), 1, "$.context.version", errors);
+        SchemaChecks.minLength(value.getId(), 1, "$.context.id", errors);
+        SchemaChecks.minLength(value.getSource(), 1, "$.context.source", errors);
+    }
+
+    private static void validateSubject(JsonNode node, ValidationErrors errors) {
+        if (!node.isObject()) {
+            return;
+        }
+        SchemaChecks.required(node, "id", "$.subject", errors);
+        SchemaChecks.required(node, "type", "$.subject", errors);
+        SchemaChecks.required(node, "content", "$.subject", errors);
+        Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            JsonNode value = field.getValue();
+            switch (field.getKey()) {
+                case "id":
+                    SchemaChecks.type(value, JsonNodeType.STRING, "$.subject.id", errors);
+                    SchemaChecks.minLength(value, 1, "$.subject.id", errors);
+                    break;
+                case "source":
+                    SchemaChecks.type(value, JsonNodeType.STRING, "$.subject.source", errors);
+                    break;
+                case "type":
+                    SchemaChecks.type(value, JsonNodeType.STRING, "$.subject.type", errors);
+                    SchemaChecks.enumValue(value, SUBJECT_TYPE_VALUES, "$.subject.type", errors);
+                    break;
+                case "content":
+                    SchemaChecks.type(value, JsonNodeType.OBJECT, "$.subject.content", errors);
+                    validateSubjectContent(value, errors);
+                    break;
+                default:
+                    SchemaChecks.additionalProperty(field.getKey(), "$.subject", errors);
+            }
+        }
+    }
+
+    private static void validateSubject(Subject value, ValidationErrors errors) {
+        if (value == null) {
+            return;
+        }
+        SchemaChecks.required(value.getId(), "id", "$.subject", errors);
+        SchemaChecks.required(value.getType(), "type", "$.subject", errors);
+        SchemaChecks.required(value.getContent(), "content", "$.subject", errors);
+        SchemaChecks.minLength(value.getId(), 1, "$.subject.id", errors);
+        validateSubjectContent(value.getContent(), errors);
+    }
+
+    private static void validateSubjectContent(JsonNode node, ValidationErrors errors) {
+        if (!node.isObject()) {
+            return;
+        }
+        SchemaChecks.required(node, "signature", "$.subject.content", errors);
+        Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            JsonNode value = field.getValue();
+            switch (field.getKey()) {
+                case "signature":
+                    SchemaChecks.type(value, JsonNodeType.STRING, "$.subject.content.signature", errors);
+                    SchemaChecks.minLength(value, 1, "$.subject.content.signature", errors);
+                    break;
+                default:
+                    SchemaChecks.additionalProperty(field.getKey(), "$.subject.content", errors);
+            }
+        }
+    }
+
+    private static void validateSubjectContent(Content value, ValidationErrors errors) {
+        if (value == null) {
+            return;
+        }
+        SchemaChecks.required(value.getSignature(), "signature", "$.subject.content", errors);
+        SchemaChecks.minLength(value.getSignature(), 1, "$.subject.content.signature", errors);
+    }
+}
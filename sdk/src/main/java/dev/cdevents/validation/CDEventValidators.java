@@ -0,0 +1,137 @@
+package dev.cdevents.validation;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.networknt.schema.JsonSchema;
+import com.networknt.schema.ValidationMessage;
+import dev.cdevents.constants.CDEventConstants;
+import dev.cdevents.models.CDEvent;
+import dev.cdevents.serialization.CDEventCodec;
+import dev.cdevents.spec.schemas.SchemaRegistry;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Validates CDEvents against their schemas with validators generated from the schemas at build time.
+ * A generated validator checks the same keywords as the JsonSchema, either on the json tree of an event
+ * or directly on the CDEvent model without writing it to json, instead of interpreting the schema for
+ * each event. CDEvents without a generated validator, such as custom events, are validated with their
+ * compiled {@link SchemaRegistry} schema. How far events are validated is set by a {@link ValidationPolicy}.
+ */
+public final class CDEventValidators {
+
+    private static final Map<Class<?>, SchemaValidator<?>> VALIDATORS_BY_CLASS = new HashMap<>();
+
+    private static final Map<CDEventConstants.CDEventTypes, SchemaValidator<?>> VALIDATORS_BY_TYPE =
+            new EnumMap<>(CDEventConstants.CDEventTypes.class);
+
+    static {
+        for (SchemaValidator<?> validator : SchemaValidators.create()) {
+            VALIDATORS_BY_CLASS.put(validator.getEventClass(), validator);
+        }
+        for (CDEventConstants.CDEventTypes type : CDEventConstants.CDEventTypes.values()) {
+            SchemaValidator<?> validator = VALIDATORS_BY_CLASS.get(type.getEventClass());
+            if (validator != null) {
+                VALIDATORS_BY_TYPE.put(type, validator);
+            }
+        }
+    }
+
+    private CDEventValidators() {
+    }
+
+    /**
+     * Validates the cdEvent as it is written to json against its schema.
+     * @param cdEvent the CDEvent
+     * @return the validation error messages, empty if the cdEvent is valid
+     */
+    public static List<String> validate(CDEvent cdEvent) {
+        return validate(cdEvent, ValidationPolicy.FULL);
+    }
+
+    /**
+     * Validates the cdEvent as it is written to json against its schema, as far as the policy asks for.
+     * @param cdEvent the CDEvent
+     * @param policy the validation policy
+     * @return the validation error messages, empty if the cdEvent is valid or was not validated
+     */
+    @SuppressWarnings("unchecked")
+    public static List<String> validate(CDEvent cdEvent, ValidationPolicy policy) {
+        if (!policy.shouldValidate()) {
+            return Collections.emptyList();
+        }
+        SchemaValidator<CDEvent> validator = (SchemaValidator<CDEvent>) VALIDATORS_BY_CLASS.get(cdEvent.getClass());
+        List<String> messages;
+        if (validator == null) {
+            messages = messages(SchemaRegistry.getSchema(cdEvent),
+                    CDEventCodec.getDefault().getObjectMapper().convertValue(cdEvent, ObjectNode.class), policy);
+        } else {
+            ValidationErrors errors = new ValidationErrors(policy.isFailFast());
+            try {
+                validator.validate(cdEvent, errors);
+            } catch (ValidationErrors.FirstError e) {
+                // fail-fast, the first error has been recorded
+            }
+            messages = errors.getMessages();
+        }
+        policy.validated(messages.isEmpty());
+        return messages;
+    }
+
+    /**
+     * Validates the json tree of a CDEvent against the schema of its type.
+     * @param cdEventNode the CDEvent json tree
+     * @param eventType the CDEvent type
+     * @return the validation error messages, empty if the cdEventNode is valid
+     */
+    public static List<String> validate(JsonNode cdEventNode, CDEventConstants.CDEventTypes eventType) {
+        return validate(cdEventNode, eventType, ValidationPolicy.FULL);
+    }
+
+    /**
+     * Validates the json tree of a CDEvent against the schema of its type, as far as the policy asks for.
+     * @param cdEventNode the CDEvent json tree
+     * @param eventType the CDEvent type
+     * @param policy the validation policy
+     * @return the validation error messages, empty if the cdEventNode is valid or was not validated
+     */
+    public static List<String> validate(JsonNode cdEventNode, CDEventConstants.CDEventTypes eventType,
+                                        ValidationPolicy policy) {
+        if (!policy.shouldValidate()) {
+            return Collections.emptyList();
+        }
+        SchemaValidator<?> validator = VALIDATORS_BY_TYPE.get(eventType);
+        List<String> messages;
+        if (validator == null) {
+            messages = messages(SchemaRegistry.getSchema(eventType), cdEventNode, policy);
+        } else {
+            ValidationErrors errors = new ValidationErrors(policy.isFailFast());
+            try {
+                validator.validate(cdEventNode, errors);
+            } catch (ValidationErrors.FirstError e) {
+                // fail-fast, the first error has been recorded
+            }
+            messages = errors.getMessages();
+        }
+        policy.validated(messages.isEmpty());
+        return messages;
+    }
+
+    private static List<String> messages(JsonSchema jsonSchema, JsonNode cdEventNode, ValidationPolicy policy) {
+        Set<ValidationMessage> validationMessages = jsonSchema.validate(cdEventNode);
+        List<String> messages = new ArrayList<>(validationMessages.size());
+        for (ValidationMessage validationMessage : validationMessages) {
+            messages.add(validationMessage.getMessage());
+            if (policy.isFailFast()) {
+                break;
+            }
+        }
+        return messages;
+    }
+}
@@ -0,0 +1,122 @@
+package dev.cdevents.validation;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeType;
+import com.fasterxml.jackson.databind.node.POJONode;
+import dev.cdevents.serialization.CDEventCodec;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * The JsonSchema keyword checks used by the generated validators.
+ * As with the JsonSchema, each keyword is checked on its own, and keywords that apply to a value type,
+ * such as minLength and enum, pass for values of other types. The date-time format is not checked, as format
+ * is an annotation in JsonSchema 2020-12.
+ */
+final class SchemaChecks {
+
+    private SchemaChecks() {
+    }
+
+    static void type(JsonNode value, JsonNodeType type, String path, ValidationErrors errors) {
+        if (value.getNodeType() != type) {
+            errors.add(path, typeName(value.getNodeType()) + " found, " + typeName(type) + " expected");
+        }
+    }
+
+    static void required(JsonNode node, String name, String path, ValidationErrors errors) {
+        if (!node.has(name)) {
+            errors.add(path, "required property '" + name + "' not found");
+        }
+    }
+
+    static void required(Object value, String name, String path, ValidationErrors errors) {
+        if (value == null) {
+            errors.add(path, "required property '" + name + "' not found");
+        }
+    }
+
+    static void additionalProperty(String name, String path, ValidationErrors errors) {
+        errors.add(path, "property '" + name + "' is not defined in the schema and the schema does not allow additional properties");
+    }
+
+    static void minLength(JsonNode value, int minLength, String path, ValidationErrors errors) {
+        if (value.isTextual()) {
+            minLength(value.textValue(), minLength, path, errors);
+        }
+    }
+
+    static void minLength(String value, int minLength, String path, ValidationErrors errors) {
+        if (value != null && value.codePointCount(0, value.length()) < minLength) {
+            errors.add(path, "must be at least " + minLength + " characters long");
+        }
+    }
+
+    static void enumValue(JsonNode value, String[] values, String path, ValidationErrors errors) {
+        if (value.isTextual()) {
+            String text = value.textValue();
+            for (String candidate : values) {
+                if (candidate.equals(text)) {
+                    return;
+                }
+            }
+        }
+        errors.add(path, "does not have a value in the enumeration " + Arrays.toString(values));
+    }
+
+    /**
+     * Checks a oneOf of type-only schemas, which the value must match exactly one of.
+     * A null type, which is the type of a model value that is not written, passes.
+     */
+    static void oneOfType(JsonNodeType type, JsonNodeType[] types, String path, ValidationErrors errors) {
+        if (type == null) {
+            return;
+        }
+        int matches = 0;
+        for (JsonNodeType candidate : types) {
+            if (candidate == type) {
+                matches++;
+            }
+        }
+        if (matches != 1) {
+            errors.add(path, "must be valid to one and only one schema, but " + matches + " are valid");
+        }
+    }
+
+    /**
+     * @return the json type the value is written as, or null for a null value, which is not written
+     */
+    static JsonNodeType nodeType(Object value) {
+        if (value == null) {
+            return null;
+        }
+        if (value instanceof POJONode) {
+            return nodeType(((POJONode) value).getPojo());
+        }
+        if (value instanceof JsonNode) {
+            return ((JsonNode) value).getNodeType();
+        }
+        if (value instanceof CharSequence || value instanceof byte[] || value instanceof char[]) {
+            return JsonNodeType.STRING;
+        }
+        if (value instanceof Map || value.getClass() == Object.class) {
+            return JsonNodeType.OBJECT;
+        }
+        if (value instanceof Collection || value.getClass().isArray()) {
+            return JsonNodeType.ARRAY;
+        }
+        if (value instanceof Number) {
+            return JsonNodeType.NUMBER;
+        }
+        if (value instanceof Boolean) {
+            return JsonNodeType.BOOLEAN;
+        }
+        return nodeType(CDEventCodec.getDefault().getObjectMapper().valueToTree(value));
+    }
+
+    private static String typeName(JsonNodeType type) {
+        return type.name().toLowerCase();
+    }
+}
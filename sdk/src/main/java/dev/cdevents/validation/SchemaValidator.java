@@ -0,0 +1,38 @@
+package dev.cdevents.validation;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import dev.cdevents.models.CDEvent;
+
+/**
+ * Validator generated from the schema of a CDEvent class.
+ * @param <T> the CDEvent class
+ */
+abstract class SchemaValidator<T extends CDEvent> {
+
+    private final Class<T> eventClass;
+
+    SchemaValidator(Class<T> eventClass) {
+        this.eventClass = eventClass;
+    }
+
+    /**
+     * @return the CDEvent class validated
+     */
+    Class<T> getEventClass() {
+        return eventClass;
+    }
+
+    /**
+     * Validates the json tree of a CDEvent.
+     * @param cdEventNode the CDEvent json tree
+     * @param errors the errors to add to
+     */
+    abstract void validate(JsonNode cdEventNode, ValidationErrors errors);
+
+    /**
+     * Validates a CDEvent as it is written to json.
+     * @param cdEvent the CDEvent
+     * @param errors the errors to add to
+     */
+    abstract void validate(T cdEvent, ValidationErrors errors);
+}
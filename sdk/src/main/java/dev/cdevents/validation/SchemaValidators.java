@@ -0,0 +1,84 @@
+// Code generated by dev.cdevents.generator.CDEventsGenerator. DO NOT EDIT.
+
+/*
+Copyright 2023 The CDEvents Authors
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+
+SPDX-License-Identifier: Apache-2.0
+*/
+
+
+package dev.cdevents.validation;
+
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+* The generated schema validators of all CDEvent classes.
+*/
+
+final class SchemaValidators {
+
+    private SchemaValidators() {
+    }
+
+    /**
+    * @return a new validator of every CDEvent class
+    */
+
+    static List<SchemaValidator<?>> create() {
+        List<SchemaValidator<?>> validators = new ArrayList<>();
+        validators.add(new ArtifactPackagedCDEventValidator());
+        validators.add(new ArtifactPublishedCDEventValidator());
+        validators.add(new ArtifactSignedCDEventValidator());
+        validators.add(new BranchCreatedCDEventValidator());
+        validators.add(new BranchDeletedCDEventValidator());
+        validators.add(new BuildFinishedCDEventValidator());
+        validators.add(new BuildQueuedCDEventValidator());
+        validators.add(new BuildStartedCDEventValidator());
+        validators.add(new ChangeAbandonedCDEventValidator());
+        validators.add(new ChangeCreatedCDEventValidator());
+        validators.add(new ChangeMergedCDEventValidator());
+        validators.add(new ChangeReviewedCDEventValidator());
+        validators.add(new ChangeUpdatedCDEventValidator());
+        validators.add(new EnvironmentCreatedCDEventValidator());
+        validators.add(new EnvironmentDeletedCDEventValidator());
+        validators.add(new EnvironmentModifiedCDEventValidator());
+        validators.add(new IncidentDetectedCDEventValidator());
+        validators.add(new IncidentReportedCDEventValidator());
+        validators.add(new IncidentResolvedCDEventValidator());
+        validators.add(new PipelinerunFinishedCDEventValidator());
+        validators.add(new PipelinerunQueuedCDEventValidator());
+        validators.add(new PipelinerunStartedCDEventValidator());
+        validators.add(new RepositoryCreatedCDEventValidator());
+        validators.add(new RepositoryDeletedCDEventValidator());
+        validators.add(new RepositoryModifiedCDEventValidator());
+        validators.add(new ServiceDeployedCDEventValidator());
+        validators.add(new ServicePublishedCDEventValidator());
+        validators.add(new ServiceRemovedCDEventValidator());
+        validators.add(new ServiceRolledbackCDEventValidator());
+        validators.add(new ServiceUpgradedCDEventValidator());
+        validators.add(new TaskrunFinishedCDEventValidator());
+        validators.add(new TaskrunStartedCDEventValidator());
+        validators.add(new TestcaserunFinishedCDEventValidator());
+        validators.add(new TestcaserunQueuedCDEventValidator());
+        validators.add(new TestcaserunStartedCDEventValidator());
+        validators.add(new TestoutputPublishedCDEventValidator());
+        validators.add(new TestsuiterunFinishedCDEventValidator());
+        validators.add(new TestsuiterunQueuedCDEventValidator());
+        validators.add(new TestsuiterunStartedCDEventValidator());
+        return validators;
+    }
+}
@@ -0,0 +1,55 @@
+package dev.cdevents.validation;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Collects the messages of failed schema checks, allocating only once a check fails.
+ * In fail-fast mode the first failed check ends the validation with {@link FirstError}.
+ */
+final class ValidationErrors {
+
+    private final boolean failFast;
+    private List<String> messages;
+
+    ValidationErrors(boolean failFast) {
+        this.failFast = failFast;
+    }
+
+    /**
+     * @param path json path of the value that failed the check
+     * @param message description of the failed check
+     */
+    void add(String path, String message) {
+        if (messages == null) {
+            messages = new ArrayList<>();
+        }
+        messages.add(path + ": " + message);
+        if (failFast) {
+            throw FirstError.INSTANCE;
+        }
+    }
+
+    /**
+     * @return the messages, empty if all checks passed
+     */
+    List<String> getMessages() {
+        return messages == null ? Collections.emptyList() : messages;
+    }
+
+    /**
+     * Unwinds a fail-fast validation from the first failed check. It is thrown for control flow only,
+     * so a single instance without a stack trace is shared.
+     */
+    static final class FirstError extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        private static final FirstError INSTANCE = new FirstError();
+
+        private FirstError() {
+            super("Fail-fast validation stopped at the first error", null, false, false);
+        }
+    }
+}
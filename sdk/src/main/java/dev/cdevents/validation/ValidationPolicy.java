@@ -0,0 +1,153 @@
+package dev.cdevents.validation;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * How CDEvents are validated against their schemas when they are converted or parsed.
+ * {@link #FULL} collects every validation error, {@link #FAIL_FAST} stops at the first one,
+ * {@link #sampled(double)} validates a random fraction of the events in full and {@link #OFF}
+ * validates none, e.g. for events of trusted producers. Invalid events are rejected in every mode
+ * in which they are validated. Each policy counts the events it validated, skipped and found invalid,
+ * so the shared {@link #FULL}, {@link #FAIL_FAST} and {@link #OFF} policies count for the whole
+ * application, while every sampled policy has its own counters.
+ */
+public final class ValidationPolicy {
+
+    /**
+     * Validation mode of a policy.
+     */
+    public enum Mode {
+        /**
+         * No event is validated.
+         */
+        OFF,
+        /**
+         * A random fraction of the events is validated in full.
+         */
+        SAMPLED,
+        /**
+         * Every event is validated up to its first error.
+         */
+        FAIL_FAST,
+        /**
+         * Every event is validated, collecting all errors.
+         */
+        FULL
+    }
+
+    /**
+     * Does not validate events.
+     */
+    public static final ValidationPolicy OFF = new ValidationPolicy(Mode.OFF, 0);
+
+    /**
+     * Validates every event up to its first error.
+     */
+    public static final ValidationPolicy FAIL_FAST = new ValidationPolicy(Mode.FAIL_FAST, 1);
+
+    /**
+     * Validates every event, collecting all errors.
+     */
+    public static final ValidationPolicy FULL = new ValidationPolicy(Mode.FULL, 1);
+
+    private final Mode mode;
+    private final double sampleRate;
+    private final AtomicLong validatedCount = new AtomicLong();
+    private final AtomicLong skippedCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+
+    private ValidationPolicy(Mode mode, double sampleRate) {
+        this.mode = mode;
+        this.sampleRate = sampleRate;
+    }
+
+    /**
+     * Creates a policy validating a random fraction of the events in full.
+     * @param rate fraction of events to validate, between 0.0 (none) and 1.0 (every event)
+     * @return the sampled policy, with its own counters
+     */
+    public static ValidationPolicy sampled(double rate) {
+        if (!(rate >= 0 && rate <= 1)) {
+            throw new IllegalArgumentException("Validation sample rate must be between 0 and 1, got " + rate);
+        }
+        return new ValidationPolicy(Mode.SAMPLED, rate);
+    }
+
+    /**
+     * @return the validation mode
+     */
+    public Mode getMode() {
+        return mode;
+    }
+
+    /**
+     * @return fraction of events validated
+     */
+    public double getSampleRate() {
+        return sampleRate;
+    }
+
+    /**
+     * @return number of events validated with this policy
+     */
+    public long getValidatedCount() {
+        return validatedCount.get();
+    }
+
+    /**
+     * @return number of events not validated with this policy
+     */
+    public long getSkippedCount() {
+        return skippedCount.get();
+    }
+
+    /**
+     * @return number of events validated with this policy that were invalid
+     */
+    public long getFailedCount() {
+        return failedCount.get();
+    }
+
+    @Override
+    public String toString() {
+        return mode == Mode.SAMPLED ? mode + "(" + sampleRate + ")" : mode.toString();
+    }
+
+    /**
+     * Decides whether the next event is validated, counting it as skipped if it is not.
+     * @return true, If the next event should be validated
+     */
+    boolean shouldValidate() {
+        boolean validate;
+        if (sampleRate >= 1) {
+            validate = true;
+        } else if (sampleRate <= 0) {
+            validate = false;
+        } else {
+            validate = ThreadLocalRandom.current().nextDouble() < sampleRate;
+        }
+        if (!validate) {
+            skippedCount.incrementAndGet();
+        }
+        return validate;
+    }
+
+    /**
+     * @return true, If validation stops at the first error
+     */
+    boolean isFailFast() {
+        return mode == Mode.FAIL_FAST;
+    }
+
+    /**
+     * Counts a validated event.
+     * @param valid whether the event was valid
+     */
+    void validated(boolean valid) {
+        validatedCount.incrementAndGet();
+        if (!valid) {
+            failedCount.incrementAndGet();
+        }
+    }
+}
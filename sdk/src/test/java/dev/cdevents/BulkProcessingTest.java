@@ -0,0 +1,115 @@
+package dev.cdevents;
+
+import dev.cdevents.constants.CDEventConstants;
+import dev.cdevents.events.PipelinerunStartedCDEvent;
+import dev.cdevents.models.CDEvent;
+import dev.cdevents.validation.ValidationPolicy;
+import io.cloudevents.CloudEvent;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class BulkProcessingTest {
+
+    @Test
+    void validateAllReturnsResultsInInputOrder() {
+        List<CDEvent> cdEvents = pipelinerunStartedEvents(1000);
+
+        List<BulkResult<CDEvent>> results = CDEvents.validateAll(cdEvents);
+
+        assertThat(results).hasSize(cdEvents.size());
+        for (int i = 0; i < results.size(); i++) {
+            BulkResult<CDEvent> result = results.get(i);
+            assertThat(result.getIndex()).isEqualTo(i);
+            if (i % 3 == 0) {
+                assertThat(result.isSuccess()).isFalse();
+                assertThat(result.getValue()).isNull();
+                assertThat(result.getErrors()).isNotEmpty();
+            } else {
+                assertThat(result.isSuccess()).isTrue();
+                assertThat(result.getValue()).isSameAs(cdEvents.get(i));
+            }
+        }
+    }
+
+    @Test
+    void validateAllRunsOnTheSuppliedExecutor() {
+        List<CDEvent> cdEvents = new LinkedList<>(pipelinerunStartedEvents(1000));
+        cdEvents.set(1, null);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<BulkResult<CDEvent>> results = CDEvents.validateAll(cdEvents, ValidationPolicy.FAIL_FAST, executor);
+
+            assertThat(results.get(0).getErrors()).hasSize(1);
+            assertThat(results.get(1).getErrors()).containsExactly("CDEvent must not be null");
+            assertThat(results.get(2).isSuccess()).isTrue();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void cdEventsAsCloudEventsFailsInvalidEventsOnly() {
+        List<CDEvent> cdEvents = pipelinerunStartedEvents(300);
+
+        List<BulkResult<CloudEvent>> results = CDEvents.cdEventsAsCloudEvents(cdEvents,
+                CDEventConstants.CloudEventDataMode.POJO, ValidationPolicy.FULL, Runnable::run);
+
+        assertThat(results).hasSize(cdEvents.size());
+        for (int i = 0; i < results.size(); i++) {
+            BulkResult<CloudEvent> result = results.get(i);
+            if (i % 3 == 0) {
+                assertThat(result.getErrors()).isNotEmpty();
+            } else {
+                assertThat(result.getValue().getType()).isEqualTo(cdEvents.get(i).currentCDEventType());
+            }
+        }
+    }
+
+    @Test
+    void emptyBatchesHaveNoResults() {
+        assertThat(CDEvents.validateAll(Collections.emptyList())).isEmpty();
+        assertThat(CDEvents.cdEventsAsCloudEvents(Collections.emptyList())).isEmpty();
+    }
+
+    @Test
+    void batchesAndExecutorsAreRequired() {
+        assertThrows(IllegalArgumentException.class, () -> CDEvents.validateAll(null));
+        assertThrows(IllegalArgumentException.class,
+                () -> CDEvents.validateAll(Collections.emptyList(), ValidationPolicy.FULL, null));
+    }
+
+    @Test
+    void chunksAreSpreadOverTheThreads() {
+        assertThat(BulkProcessor.chunkSize(10, 8)).isEqualTo(64);
+        assertThat(BulkProcessor.chunkSize(1_000_000, 8)).isEqualTo(31_250);
+    }
+
+    /**
+     * @return pipelinerun started events, where every third event is missing its subject
+     */
+    private static List<CDEvent> pipelinerunStartedEvents(int count) {
+        List<CDEvent> cdEvents = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            PipelinerunStartedCDEvent cdEvent = new PipelinerunStartedCDEvent();
+            cdEvent.setSource(URI.create("/dev/pipeline/run/" + i));
+            if (i % 3 != 0) {
+                cdEvent.setSubjectId("/dev/pipeline/run/subject/" + i);
+                cdEvent.setSubjectSource(URI.create("/dev/pipeline/run/subject"));
+                cdEvent.setSubjectPipelineName("test-pipeline");
+                cdEvent.setSubjectUrl("http://dev/pipeline/url");
+            }
+            cdEvents.add(cdEvent);
+        }
+        return cdEvents;
+    }
+}
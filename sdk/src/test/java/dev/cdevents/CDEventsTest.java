@@ -8,14 +8,23 @@ import dev.cdevents.config.CustomObjectMapper;
 import dev.cdevents.constants.CDEventConstants;
 import dev.cdevents.events.*;
 import dev.cdevents.exception.CDEventsException;
+import dev.cdevents.models.CDEvent;
 import dev.cdevents.models.testcaserun.finished.Content;
+import dev.cdevents.validation.ValidationPolicy;
 import io.cloudevents.CloudEvent;
+import io.cloudevents.core.data.PojoCloudEventData;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
@@ -1646,4 +1655,160 @@ public class CDEventsTest {
 
         assertThat(exception.getMessage()).isEqualTo(expectedError);
     }
+
+    @Test
+    void createPipelineRunStartedEventFromJson() {
+        PipelinerunStartedCDEvent cdEvent = new PipelinerunStartedCDEvent();
+        cdEvent.setSource(URI.create("http://dev.cdevents"));
+        cdEvent.setSubjectId("/dev/pipeline/run/subject");
+        cdEvent.setSubjectSource(URI.create("/dev/pipeline/run/subject"));
+        cdEvent.setSubjectPipelineName("test-pipeline-started");
+        cdEvent.setSubjectUrl("http://dev/pipeline/url");
+
+        String cdEventJson = CDEvents.cdEventAsJson(cdEvent);
+        assertTrue(CDEvents.validateCDEventJson(cdEventJson));
+
+        PipelinerunStartedCDEvent parsedEvent = (PipelinerunStartedCDEvent) CDEvents.cdEventFromJson(cdEventJson);
+
+        assertThat(parsedEvent.getContext().getId()).isEqualTo(cdEvent.getContext().getId());
+        assertThat(parsedEvent.getContext().getType()).isEqualTo(cdEvent.getContext().getType());
+        assertEquals(cdEvent.getSubject(), parsedEvent.getSubject());
+    }
+
+    @Test
+    void createPipelineRunStartedEventFromJsonBytes() {
+        PipelinerunStartedCDEvent cdEvent = new PipelinerunStartedCDEvent();
+        cdEvent.setSource(URI.create("http://dev.cdevents"));
+        cdEvent.setSubjectId("/dev/pipeline/run/subject");
+        cdEvent.setSubjectSource(URI.create("/dev/pipeline/run/subject"));
+        cdEvent.setSubjectPipelineName("test-pipeline-started");
+        cdEvent.setSubjectUrl("http://dev/pipeline/url");
+
+        CloudEvent ceEvent = CDEvents.cdEventAsCloudEvent(cdEvent);
+        byte[] cdEventBytes = CDEvents.cdEventAsJson(cdEvent).getBytes(StandardCharsets.UTF_8);
+        ByteBuffer directBuffer = ByteBuffer.allocateDirect(cdEventBytes.length);
+        directBuffer.put(cdEventBytes).flip();
+
+        List<CDEvent> parsedEvents = Arrays.asList(
+                CDEvents.cdEventFromJson(cdEventBytes),
+                CDEvents.cdEventFromJson(ByteBuffer.wrap(cdEventBytes)),
+                CDEvents.cdEventFromJson(directBuffer),
+                CDEvents.cdEventFromJson(new ByteArrayInputStream(cdEventBytes)),
+                CDEvents.cdEventFromJson(ceEvent.getData()));
+
+        for (CDEvent parsedEvent : parsedEvents) {
+            PipelinerunStartedCDEvent pipelineRunStarted = (PipelinerunStartedCDEvent) parsedEvent;
+            assertThat(pipelineRunStarted.getContext().getId()).isEqualTo(cdEvent.getContext().getId());
+            assertEquals(cdEvent.getSubject(), pipelineRunStarted.getSubject());
+        }
+        assertThat(directBuffer.remaining()).isEqualTo(cdEventBytes.length);
+    }
+
+    @Test
+    void jsonStreamIsNotClosed() {
+        PipelinerunStartedCDEvent cdEvent = new PipelinerunStartedCDEvent();
+        cdEvent.setSource(URI.create("http://dev.cdevents"));
+        cdEvent.setSubjectId("/dev/pipeline/run/subject");
+        cdEvent.setSubjectSource(URI.create("/dev/pipeline/run/subject"));
+        cdEvent.setSubjectPipelineName("test-pipeline-started");
+        cdEvent.setSubjectUrl("http://dev/pipeline/url");
+        AtomicBoolean closed = new AtomicBoolean();
+        InputStream inputStream = new ByteArrayInputStream(CDEvents.cdEventAsJson(cdEvent).getBytes(StandardCharsets.UTF_8)) {
+            @Override
+            public void close() {
+                closed.set(true);
+            }
+        };
+
+        CDEvent parsedEvent = CDEvents.cdEventFromJson(inputStream, ValidationPolicy.FULL);
+
+        assertThat(parsedEvent.eventSubjectId()).isEqualTo(cdEvent.eventSubjectId());
+        assertThat(closed).isFalse();
+    }
+
+    @Test
+    void jsonBufferIsReadWithValidationPolicy() {
+        PipelinerunStartedCDEvent invalidEvent = new PipelinerunStartedCDEvent();
+        invalidEvent.setSource(URI.create("http://dev.cdevents"));
+        byte[] cdEventBytes = CDEvents.cdEventAsJson(invalidEvent).getBytes(StandardCharsets.UTF_8);
+        ByteBuffer directBuffer = ByteBuffer.allocateDirect(cdEventBytes.length);
+        directBuffer.put(cdEventBytes).flip();
+
+        assertThrows(CDEventsException.class, () -> CDEvents.cdEventFromJson(ByteBuffer.wrap(cdEventBytes)));
+        assertThat(CDEvents.cdEventFromJson(ByteBuffer.wrap(cdEventBytes), ValidationPolicy.OFF))
+                .isInstanceOf(PipelinerunStartedCDEvent.class);
+        assertThat(CDEvents.cdEventFromJson(directBuffer, ValidationPolicy.OFF))
+                .isInstanceOf(PipelinerunStartedCDEvent.class);
+    }
+
+    @Test
+    void createPipelineRunStartedEventAsPojoCloudEvent() {
+        PipelinerunStartedCDEvent cdEvent = new PipelinerunStartedCDEvent();
+        cdEvent.setSource(URI.create("http://dev.cdevents"));
+        cdEvent.setSubjectId("/dev/pipeline/run/subject");
+        cdEvent.setSubjectSource(URI.create("/dev/pipeline/run/subject"));
+        cdEvent.setSubjectPipelineName("test-pipeline-started");
+        cdEvent.setSubjectUrl("http://dev/pipeline/url");
+
+        CloudEvent ceEvent = CDEvents.cdEventAsCloudEvent(cdEvent, CDEventConstants.CloudEventDataMode.POJO);
+
+        assertThat(ceEvent.getData()).isInstanceOf(PojoCloudEventData.class);
+        assertThat(((PojoCloudEventData<?>) ceEvent.getData()).getValue()).isSameAs(cdEvent);
+        assertThat(CDEvents.cdEventFromJson(ceEvent.getData())).isSameAs(cdEvent);
+
+        String ceDataJson = new String(ceEvent.getData().toBytes(), StandardCharsets.UTF_8);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        CDEvents.cdEventAsJson(cdEvent, outputStream);
+
+        assertThat(ceDataJson).isEqualTo(CDEvents.cdEventAsJson(cdEvent));
+        assertThat(outputStream.toString()).isEqualTo(ceDataJson);
+    }
+
+    @Test
+    void invalidPojoCloudEventDataIsRejected() {
+        PipelinerunStartedCDEvent cdEvent = new PipelinerunStartedCDEvent();
+        cdEvent.setSource(URI.create("http://dev.cdevents"));
+
+        PojoCloudEventData<CDEvent> cloudEventData = PojoCloudEventData.wrap(cdEvent,
+                event -> CDEvents.cdEventAsJson(event).getBytes(StandardCharsets.UTF_8));
+
+        Exception exception = assertThrows(CDEventsException.class, () -> {
+            CDEvents.cdEventFromJson(cloudEventData);
+        });
+        String expectedError = "CDEvent validation failed against schema URL - " + cdEvent.schemaURL();
+        assertThat(exception.getMessage()).isEqualTo(expectedError);
+    }
+
+    @Test
+    void readPipelineRunStartedEventTypeFromJson() {
+        PipelinerunStartedCDEvent cdEvent = new PipelinerunStartedCDEvent();
+        cdEvent.setSource(URI.create("http://dev.cdevents"));
+        cdEvent.setSubjectId("/dev/pipeline/run/subject");
+        cdEvent.setSubjectPipelineName("test-pipeline-started");
+
+        String cdEventJson = CDEvents.cdEventAsJson(cdEvent);
+        byte[] cdEventBytes = cdEventJson.getBytes(StandardCharsets.UTF_8);
+
+        assertThat(CDEvents.cdEventTypeFromJson(cdEventJson)).isEqualTo(CDEventConstants.CDEventTypes.PipelineRunStartedEvent);
+        assertThat(CDEvents.cdEventTypeFromJson(cdEventBytes)).isEqualTo(CDEventConstants.CDEventTypes.PipelineRunStartedEvent);
+        assertThat(CDEvents.cdEventTypeFromJson(new ByteArrayInputStream(cdEventBytes)))
+                .isEqualTo(CDEventConstants.CDEventTypes.PipelineRunStartedEvent);
+    }
+
+    @Test
+    void readEventTypeFromJsonWithContextAfterSubject() {
+        String cdEventJson = "{\"subject\":{\"id\":\"x\",\"content\":{\"list\":[1,{\"type\":\"nested\"}]}},"
+                + "\"context\":{\"id\":\"1\",\"type\":\"dev.cdevents.service.deployed.0.1.1\"}}";
+
+        assertThat(CDEvents.cdEventTypeFromJson(cdEventJson)).isEqualTo(CDEventConstants.CDEventTypes.ServiceDeployedEvent);
+    }
+
+    @Test
+    void readEventTypeFromJsonWithoutContextType() {
+        Exception exception = assertThrows(CDEventsException.class, () -> {
+            CDEvents.cdEventTypeFromJson("{\"subject\":{\"type\":\"pipelineRun\"},\"context\":{\"id\":\"1\"}}");
+        });
+
+        assertThat(exception.getMessage()).isEqualTo("Unable to find context and type in CDEvent Json");
+    }
 }
@@ -0,0 +1,67 @@
+package dev.cdevents.config;
+
+import dev.cdevents.events.PipelinerunStartedCDEvent;
+import dev.cdevents.exception.CDEventsException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class EventIdsTest {
+
+    private final EventIdGenerator defaultGenerator = EventIds.getGenerator();
+
+    @AfterEach
+    void restoreGenerator() {
+        EventIds.setGenerator(defaultGenerator);
+    }
+
+    @Test
+    void randomGeneratorCreatesVersion4Uuids() {
+        UUID uuid = UUID.fromString(new RandomEventIdGenerator().nextId());
+
+        assertThat(uuid.version()).isEqualTo(4);
+        assertThat(uuid.variant()).isEqualTo(2);
+    }
+
+    @Test
+    void timeOrderedGeneratorCreatesVersion7UuidsInCreationOrder() throws InterruptedException {
+        TimeOrderedEventIdGenerator generator = new TimeOrderedEventIdGenerator();
+        long before = System.currentTimeMillis();
+        UUID first = UUID.fromString(generator.nextId());
+        Thread.sleep(2);
+        UUID second = UUID.fromString(generator.nextId());
+
+        assertThat(first.version()).isEqualTo(7);
+        assertThat(first.variant()).isEqualTo(2);
+        assertThat(first.getMostSignificantBits() >>> 16).isBetween(before, System.currentTimeMillis());
+        assertThat(first.toString()).isLessThan(second.toString());
+    }
+
+    @Test
+    void generatorIsSelectedByName() {
+        assertThat(EventIds.fromName(EventIds.RANDOM)).isInstanceOf(RandomEventIdGenerator.class);
+        assertThat(EventIds.fromName(EventIds.TIME_ORDERED)).isInstanceOf(TimeOrderedEventIdGenerator.class);
+        assertThat(UUID.fromString(EventIds.fromName(EventIds.SECURE_RANDOM).nextId()).version()).isEqualTo(4);
+        assertThat(EventIds.fromName(TimeOrderedEventIdGenerator.class.getName())).isInstanceOf(TimeOrderedEventIdGenerator.class);
+        assertThrows(CDEventsException.class, () -> EventIds.fromName("unknown"));
+    }
+
+    @Test
+    void invalidSystemPropertyFallsBackToRandom() {
+        assertThat(EventIds.parseGenerator(null)).isInstanceOf(RandomEventIdGenerator.class);
+        assertThat(EventIds.parseGenerator(" time-ordered ")).isInstanceOf(TimeOrderedEventIdGenerator.class);
+        assertThat(EventIds.parseGenerator("time-orderd")).isInstanceOf(RandomEventIdGenerator.class);
+        assertThat(EventIds.parseGenerator(String.class.getName())).isInstanceOf(RandomEventIdGenerator.class);
+    }
+
+    @Test
+    void eventsUseTheCurrentGenerator() {
+        EventIds.setGenerator(() -> "fixed-id");
+
+        assertThat(new PipelinerunStartedCDEvent().getContext().getId()).isEqualTo("fixed-id");
+    }
+}
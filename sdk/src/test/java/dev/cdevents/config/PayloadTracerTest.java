@@ -0,0 +1,64 @@
+package dev.cdevents.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class PayloadTracerTest {
+
+    @AfterEach
+    void disableTracing() {
+        PayloadTracer.disable();
+    }
+
+    @Test
+    void tracingIsDisabledByDefault() {
+        assertThat(PayloadTracer.shouldTrace()).isFalse();
+    }
+
+    @Test
+    void tracingRequiresDebugLoggingEvenWhenSampled() {
+        PayloadTracer.configure(1.0, PayloadTracer.DEFAULT_MAX_LENGTH);
+
+        // the test logger runs at INFO level
+        assertThat(PayloadTracer.shouldTrace()).isFalse();
+    }
+
+    @Test
+    void invalidSampleRateIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> PayloadTracer.configure(1.5, 10));
+        assertThrows(IllegalArgumentException.class, () -> PayloadTracer.configure(Double.NaN, 10));
+        assertThrows(IllegalArgumentException.class, () -> PayloadTracer.configure(0.5, -1));
+    }
+
+    @Test
+    void longValuesAreTruncated() {
+        assertThat(PayloadTracer.truncate("short", 10)).isEqualTo("short");
+        assertThat(PayloadTracer.truncate("0123456789abcdef", 10)).isEqualTo("0123456789... (10 of 16 chars)");
+    }
+
+    @Test
+    void truncationKeepsWholeCharacters() {
+        assertThat(PayloadTracer.truncate("012345678\uD83D\uDE00", 10)).isEqualTo("012345678... (9 of 11 chars)");
+        byte[] payload = "ab\u00e9\u20ac".getBytes(StandardCharsets.UTF_8);
+        assertThat(PayloadTracer.utf8Boundary(payload, 3)).isEqualTo(2);
+        assertThat(PayloadTracer.utf8Boundary(payload, 4)).isEqualTo(4);
+        assertThat(PayloadTracer.utf8Boundary(payload, 6)).isEqualTo(4);
+    }
+
+    @Test
+    void invalidSystemPropertiesFallBackToDefaults() {
+        assertThat(PayloadTracer.parseSampleRate(null)).isZero();
+        assertThat(PayloadTracer.parseSampleRate("0.25")).isEqualTo(0.25);
+        assertThat(PayloadTracer.parseSampleRate("often")).isZero();
+        assertThat(PayloadTracer.parseSampleRate("2")).isZero();
+        assertThat(PayloadTracer.parseSampleRate("NaN")).isZero();
+        assertThat(PayloadTracer.parseMaxLength("512")).isEqualTo(512);
+        assertThat(PayloadTracer.parseMaxLength("-1")).isEqualTo(PayloadTracer.DEFAULT_MAX_LENGTH);
+        assertThat(PayloadTracer.parseMaxLength("long")).isEqualTo(PayloadTracer.DEFAULT_MAX_LENGTH);
+    }
+}
@@ -0,0 +1,47 @@
+package dev.cdevents.config;
+
+import dev.cdevents.CDEvents;
+import dev.cdevents.events.PipelinerunStartedCDEvent;
+import io.cloudevents.CloudEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TimestampsTest {
+
+    @AfterEach
+    void restoreClock() {
+        EventClock.setClock(Clock.systemUTC());
+    }
+
+    @Test
+    void timestampsAreFormattedInUtcWithSecondPrecision() {
+        assertThat(Timestamps.format(0L)).isEqualTo("1970-01-01T00:00:00Z");
+        assertThat(Timestamps.format(-1L)).isEqualTo("1969-12-31T23:59:59Z");
+        assertThat(Timestamps.format(951782400999L)).isEqualTo("2000-02-29T00:00:00Z");
+        assertThat(Timestamps.format(Instant.parse("2023-03-20T14:27:05.315Z").toEpochMilli())).isEqualTo("2023-03-20T14:27:05Z");
+    }
+
+    @Test
+    void eventTimestampIsSharedWithCloudEventTime() {
+        Instant now = Instant.parse("2023-03-20T14:27:05.315Z");
+        EventClock.setClock(Clock.fixed(now, ZoneOffset.UTC));
+
+        PipelinerunStartedCDEvent cdEvent = new PipelinerunStartedCDEvent();
+        cdEvent.setSource(URI.create("http://dev.cdevents"));
+        cdEvent.setSubjectId("/dev/pipeline/run/subject");
+        cdEvent.setSubjectPipelineName("test-pipeline-started");
+        cdEvent.setSubjectUrl("http://dev/pipeline/url");
+        CloudEvent ceEvent = CDEvents.cdEventAsCloudEvent(cdEvent);
+
+        assertThat(cdEvent.getContext().getTimestamp().toInstant()).isEqualTo(now);
+        assertThat(ceEvent.getTime().toInstant()).isEqualTo(Instant.parse("2023-03-20T14:27:05Z"));
+        assertThat(CDEvents.cdEventAsJson(cdEvent)).contains("\"timestamp\":\"2023-03-20T14:27:05Z\"");
+    }
+}
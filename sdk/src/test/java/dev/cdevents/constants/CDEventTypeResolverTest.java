@@ -0,0 +1,43 @@
+package dev.cdevents.constants;
+
+import dev.cdevents.constants.CDEventConstants.CDEventTypes;
+import dev.cdevents.events.PipelinerunStartedCDEvent;
+import dev.cdevents.exception.CDEventsException;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class CDEventTypeResolverTest {
+
+    @Test
+    void everyVersionedTypeResolvesToItsEventType() {
+        for (CDEventTypes type : CDEventTypes.values()) {
+            String versionedType = CDEventTypeResolver.versionedType(type);
+
+            assertThat(versionedType).startsWith(type.getEventType());
+            assertThat(CDEventTypeResolver.resolve(versionedType)).isEqualTo(type);
+        }
+        assertThat(CDEventTypeResolver.versionedType(CDEventTypes.PipelineRunStartedEvent))
+                .isEqualTo(new PipelinerunStartedCDEvent().currentCDEventType());
+    }
+
+    @Test
+    void otherVersionsResolveByUnVersionedType() {
+        assertThat(CDEventTypeResolver.resolve("dev.cdevents.pipelinerun.started.9.9.9"))
+                .isEqualTo(CDEventTypes.PipelineRunStartedEvent);
+    }
+
+    @Test
+    void unknownTypesAreRejected() {
+        Exception unknown = assertThrows(CDEventsException.class,
+                () -> CDEventTypeResolver.resolve("dev.cdevents.artifact.invalid.0.1.0"));
+        assertThat(unknown.getMessage()).isEqualTo("Invalid CDEvent type found from cdEventJson");
+
+        Exception notCDEvent = assertThrows(CDEventsException.class,
+                () -> CDEventTypeResolver.resolve("org.example.artifact.packaged.0.1.0"));
+        assertThat(notCDEvent.getMessage()).startsWith("Invalid CDEvent type found in CDEvent Json");
+
+        assertThrows(CDEventsException.class, () -> CDEventTypeResolver.resolve("dev.cdevents.pipelinerun"));
+    }
+}
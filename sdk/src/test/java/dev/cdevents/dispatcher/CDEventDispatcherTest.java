@@ -0,0 +1,149 @@
+package dev.cdevents.dispatcher;
+
+import dev.cdevents.CDEvents;
+import dev.cdevents.constants.CDEventConstants;
+import dev.cdevents.events.PipelinerunFinishedCDEvent;
+import dev.cdevents.events.PipelinerunStartedCDEvent;
+import dev.cdevents.events.TaskrunStartedCDEvent;
+import dev.cdevents.models.CDEvent;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CDEventDispatcherTest {
+
+    @Test
+    void eventsAreRoutedByType() {
+        List<String> started = new ArrayList<>();
+        List<CDEvent> pipelineRuns = new ArrayList<>();
+        CDEventDispatcher dispatcher = CDEventDispatcher.builder()
+                .on(PipelinerunStartedCDEvent.class, cdEvent -> started.add(cdEvent.getSubject().getId()))
+                .on("pipelinerun.*", pipelineRuns::add)
+                .build();
+
+        assertThat(dispatcher.dispatch(CDEvents.cdEventAsCloudEvent(pipelineRunStartedEvent("run-1")))).isTrue();
+        assertThat(dispatcher.dispatch(pipelineRunFinishedEvent("run-1"))).isTrue();
+        assertThat(dispatcher.dispatch(taskRunStartedEvent())).isFalse();
+
+        assertThat(started).containsExactly("run-1");
+        assertThat(pipelineRuns).hasSize(2);
+        assertThat(pipelineRuns.get(1)).isInstanceOf(PipelinerunFinishedCDEvent.class);
+        assertThat(dispatcher.getHandledCount()).isEqualTo(3);
+        assertThat(dispatcher.getUnhandledCount()).isEqualTo(1);
+    }
+
+    @Test
+    void jsonIsDecodedForRegisteredTypes() {
+        List<CDEvent> received = new ArrayList<>();
+        CDEventDispatcher dispatcher = CDEventDispatcher.builder()
+                .on(CDEventConstants.CDEventTypes.PipelineRunStartedEvent, received::add)
+                .build();
+
+        byte[] cdEventJson = CDEvents.cdEventAsJson(pipelineRunStartedEvent("run-1")).getBytes(StandardCharsets.UTF_8);
+
+        assertThat(dispatcher.dispatch(cdEventJson)).isTrue();
+        assertThat(received).hasSize(1);
+        assertThat(received.get(0).eventSubjectId()).isEqualTo("run-1");
+    }
+
+    @Test
+    void failingHandlerDoesNotStopOtherHandlers() {
+        List<CDEvent> received = new ArrayList<>();
+        CDEventDispatcher dispatcher = CDEventDispatcher.builder()
+                .on("*.started", cdEvent -> {
+                    throw new IllegalStateException("handler failed");
+                })
+                .on("*", received::add)
+                .build();
+
+        dispatcher.dispatch(pipelineRunStartedEvent("run-1"));
+
+        assertThat(received).hasSize(1);
+        assertThat(dispatcher.getFailedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void eventsOfASubjectAreHandledInOrderOnExecutor() throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        Map<String, List<String>> typesBySubject = new ConcurrentHashMap<>();
+        CDEventDispatcher dispatcher = CDEventDispatcher.builder()
+                .executor(executor)
+                .on("pipelinerun", cdEvent -> typesBySubject
+                        .computeIfAbsent(cdEvent.eventSubjectId(), id -> Collections.synchronizedList(new ArrayList<>()))
+                        .add(cdEvent.currentCDEventType()))
+                .build();
+
+        for (int i = 0; i < 50; i++) {
+            dispatcher.dispatch(pipelineRunStartedEvent("run-" + i));
+            dispatcher.dispatch(pipelineRunFinishedEvent("run-" + i));
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(typesBySubject).hasSize(50);
+        assertThat(typesBySubject.values()).allSatisfy(types -> {
+            assertThat(types).hasSize(2);
+            assertThat(types.get(0)).startsWith(CDEventConstants.CDEventTypes.PipelineRunStartedEvent.getEventType());
+        });
+        assertThat(dispatcher.getHandledCount()).isEqualTo(100);
+    }
+
+    @Test
+    void eventsWithoutSubjectIdAreHandledInOrderOnExecutor() throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<String> received = Collections.synchronizedList(new ArrayList<>());
+        CDEventDispatcher dispatcher = CDEventDispatcher.builder()
+                .executor(executor)
+                .on("pipelinerun", cdEvent -> received.add(cdEvent.currentCDEventType()))
+                .build();
+
+        dispatcher.dispatch(pipelineRunStartedEvent(null));
+        dispatcher.dispatch(pipelineRunFinishedEvent(null));
+        executor.shutdown();
+        assertThat(executor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(received).hasSize(2);
+        assertThat(received.get(0)).startsWith(CDEventConstants.CDEventTypes.PipelineRunStartedEvent.getEventType());
+        assertThat(dispatcher.getFailedCount()).isZero();
+    }
+
+    private static PipelinerunStartedCDEvent pipelineRunStartedEvent(String subjectId) {
+        PipelinerunStartedCDEvent cdEvent = new PipelinerunStartedCDEvent();
+        cdEvent.setSource(URI.create("http://dev.cdevents"));
+        cdEvent.setSubjectId(subjectId);
+        cdEvent.setSubjectPipelineName("test-pipeline-started");
+        cdEvent.setSubjectUrl("http://dev/pipeline/url");
+        return cdEvent;
+    }
+
+    private static PipelinerunFinishedCDEvent pipelineRunFinishedEvent(String subjectId) {
+        PipelinerunFinishedCDEvent cdEvent = new PipelinerunFinishedCDEvent();
+        cdEvent.setSource(URI.create("http://dev.cdevents"));
+        cdEvent.setSubjectId(subjectId);
+        cdEvent.setSubjectPipelineName("test-pipeline-finished");
+        cdEvent.setSubjectUrl("http://dev/pipeline/url");
+        cdEvent.setSubjectOutcome(CDEventConstants.Outcome.SUCCESS.getOutcome());
+        cdEvent.setSubjectErrors("none");
+        return cdEvent;
+    }
+
+    private static TaskrunStartedCDEvent taskRunStartedEvent() {
+        TaskrunStartedCDEvent cdEvent = new TaskrunStartedCDEvent();
+        cdEvent.setSource(URI.create("http://dev.cdevents"));
+        cdEvent.setSubjectId("/dev/task/run/subject");
+        cdEvent.setSubjectTaskName("test-task");
+        cdEvent.setSubjectUrl("http://dev/task/url");
+        return cdEvent;
+    }
+}
@@ -0,0 +1,196 @@
+package dev.cdevents.emitter;
+
+import dev.cdevents.CDEvents;
+import dev.cdevents.events.PipelinerunStartedCDEvent;
+import dev.cdevents.exception.CDEventsException;
+import dev.cdevents.models.CDEvent;
+import io.cloudevents.CloudEvent;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CDEventEmitterTest {
+
+    @Test
+    void eventsAreSentInBatchesOfMaxBatchSize() {
+        RecordingTransport transport = new RecordingTransport();
+        CDEventEmitter emitter = CDEventEmitter.builder(transport)
+                .maxBatchSize(10)
+                .maxBatchDelay(Duration.ofMinutes(1))
+                .build();
+
+        for (int i = 0; i < 25; i++) {
+            emitter.emit(pipelineRunStartedEvent());
+        }
+        emitter.close();
+
+        assertThat(transport.batchSizes).containsExactly(10, 10, 5);
+        assertThat(emitter.getSentCount()).isEqualTo(25);
+        assertThat(transport.closed).isTrue();
+    }
+
+    @Test
+    void partialBatchIsSentAfterMaxBatchDelay() throws InterruptedException {
+        RecordingTransport transport = new RecordingTransport();
+        try (CDEventEmitter emitter = CDEventEmitter.builder(transport)
+                .maxBatchSize(100)
+                .maxBatchDelay(Duration.ofMillis(10))
+                .build()) {
+            emitter.emit(pipelineRunStartedEvent());
+
+            assertTrue(transport.firstBatch.await(5, TimeUnit.SECONDS));
+            assertThat(transport.batchSizes).containsExactly(1);
+        }
+    }
+
+    @Test
+    void fullQueueRejectsEventsWithFailPolicy() throws InterruptedException {
+        BlockingTransport transport = new BlockingTransport();
+        CDEventEmitter emitter = CDEventEmitter.builder(transport)
+                .capacity(2)
+                .maxBatchSize(1)
+                .overflowPolicy(OverflowPolicy.FAIL)
+                .build();
+        emitter.emit(pipelineRunStartedEvent());
+        assertTrue(transport.sending.await(5, TimeUnit.SECONDS));
+
+        emitter.emit(pipelineRunStartedEvent());
+        emitter.emit(pipelineRunStartedEvent());
+        Exception exception = assertThrows(CDEventsException.class, () -> emitter.emit(pipelineRunStartedEvent()));
+
+        assertThat(exception.getMessage()).isEqualTo("CDEvent emitter queue is full");
+        transport.release.countDown();
+        emitter.close();
+        assertThat(emitter.getSentCount()).isEqualTo(3);
+    }
+
+    @Test
+    void fullQueueDropsOldestEventWithDropOldestPolicy() throws InterruptedException {
+        BlockingTransport transport = new BlockingTransport();
+        CDEventEmitter emitter = CDEventEmitter.builder(transport)
+                .capacity(2)
+                .maxBatchSize(1)
+                .overflowPolicy(OverflowPolicy.DROP_OLDEST)
+                .build();
+        emitter.emit(pipelineRunStartedEvent());
+        assertTrue(transport.sending.await(5, TimeUnit.SECONDS));
+
+        for (int i = 0; i < 5; i++) {
+            emitter.emit(pipelineRunStartedEvent());
+        }
+
+        assertThat(emitter.getDroppedCount()).isEqualTo(3);
+        transport.release.countDown();
+        emitter.close();
+        assertThat(emitter.getSentCount()).isEqualTo(3);
+    }
+
+    @Test
+    void interruptedProducerStopsWaitingWithBlockPolicy() throws InterruptedException {
+        BlockingTransport transport = new BlockingTransport();
+        CDEventEmitter emitter = CDEventEmitter.builder(transport)
+                .capacity(1)
+                .maxBatchSize(1)
+                .overflowPolicy(OverflowPolicy.BLOCK)
+                .build();
+        emitter.emit(pipelineRunStartedEvent());
+        assertTrue(transport.sending.await(5, TimeUnit.SECONDS));
+        emitter.emit(pipelineRunStartedEvent());
+
+        Thread.currentThread().interrupt();
+        Exception exception = assertThrows(CDEventsException.class, () -> emitter.emit(pipelineRunStartedEvent()));
+
+        assertThat(Thread.interrupted()).isTrue();
+        assertThat(exception.getMessage()).isEqualTo("Interrupted while waiting for room in the CDEvent emitter queue");
+        transport.release.countDown();
+        emitter.close();
+        assertThat(emitter.getSentCount()).isEqualTo(2);
+    }
+
+    @Test
+    void emittedEventsCanBeResetAndReused() {
+        List<CloudEvent> sent = Collections.synchronizedList(new ArrayList<>());
+        CDEventEmitter emitter = CDEventEmitter.builder(sent::addAll)
+                .maxBatchDelay(Duration.ofMinutes(1))
+                .build();
+        PipelinerunStartedCDEvent cdEvent = (PipelinerunStartedCDEvent) pipelineRunStartedEvent();
+
+        emitter.emit(cdEvent);
+        cdEvent.reset();
+        cdEvent.setSource(URI.create("http://dev.cdevents"));
+        cdEvent.setSubjectId("/dev/pipeline/run/other");
+        cdEvent.setSubjectPipelineName("test-pipeline-started");
+        cdEvent.setSubjectUrl("http://dev/pipeline/url");
+        emitter.emit(cdEvent);
+        emitter.close();
+
+        assertThat(sent).hasSize(2);
+        assertThat(CDEvents.cdEventFromJson(sent.get(0).getData()).eventSubjectId()).isEqualTo("/dev/pipeline/run/subject");
+        assertThat(CDEvents.cdEventFromJson(sent.get(1).getData()).eventSubjectId()).isEqualTo("/dev/pipeline/run/other");
+    }
+
+    @Test
+    void failedBatchesAreCounted() {
+        CDEventEmitter emitter = CDEventEmitter.builder(cloudEvents -> {
+            throw new IOException("unreachable");
+        }).build();
+
+        emitter.emit(pipelineRunStartedEvent());
+        emitter.close();
+
+        assertThat(emitter.getFailedCount()).isEqualTo(1);
+        assertThrows(CDEventsException.class, () -> emitter.emit(pipelineRunStartedEvent()));
+    }
+
+    private static CDEvent pipelineRunStartedEvent() {
+        PipelinerunStartedCDEvent cdEvent = new PipelinerunStartedCDEvent();
+        cdEvent.setSource(URI.create("http://dev.cdevents"));
+        cdEvent.setSubjectId("/dev/pipeline/run/subject");
+        cdEvent.setSubjectPipelineName("test-pipeline-started");
+        cdEvent.setSubjectUrl("http://dev/pipeline/url");
+        return cdEvent;
+    }
+
+    private static final class RecordingTransport implements CDEventTransport {
+        private final List<Integer> batchSizes = Collections.synchronizedList(new ArrayList<>());
+        private final CountDownLatch firstBatch = new CountDownLatch(1);
+        private volatile boolean closed;
+
+        @Override
+        public void send(List<CloudEvent> cloudEvents) {
+            batchSizes.add(cloudEvents.size());
+            firstBatch.countDown();
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+
+    private static final class BlockingTransport implements CDEventTransport {
+        private final CountDownLatch sending = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+
+        @Override
+        public void send(List<CloudEvent> cloudEvents) throws IOException {
+            sending.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                throw new IOException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,235 @@
+package dev.cdevents.emitter;
+
+import dev.cdevents.CDEvents;
+import dev.cdevents.events.PipelinerunStartedCDEvent;
+import dev.cdevents.exception.CDEventsException;
+import io.cloudevents.CloudEvent;
+import io.cloudevents.core.builder.CloudEventBuilder;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CDEventOutboxTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void appendedEventsAreReplayedAfterReopen() {
+        CloudEvent first = pipelineRunStartedCloudEvent();
+        CloudEvent second = pipelineRunStartedCloudEvent();
+        try (CDEventOutbox outbox = CDEventOutbox.builder(directory).build()) {
+            outbox.append(first);
+            outbox.append(second);
+        }
+
+        List<CloudEvent> replayed = replay();
+
+        assertThat(replayed).extracting(CloudEvent::getId).containsExactly(first.getId(), second.getId());
+        assertThat(replayed.get(1).getType()).isEqualTo(second.getType());
+        assertThat(replayed.get(1).getSource()).isEqualTo(second.getSource());
+        assertThat(replayed.get(1).getData().toBytes()).isEqualTo(second.getData().toBytes());
+    }
+
+    @Test
+    void extensionsAreReplayedWithTheirTypes() {
+        CloudEvent cloudEvent = CloudEventBuilder.from(pipelineRunStartedCloudEvent())
+                .withDataSchema(URI.create("https://cdevents.dev/schema"))
+                .withExtension("count", 1)
+                .withExtension("flag", true)
+                .withExtension("target", URI.create("https://cdevents.dev"))
+                .withExtension("name", "value")
+                .build();
+        try (CDEventOutbox outbox = CDEventOutbox.builder(directory).build()) {
+            outbox.append(cloudEvent);
+        }
+
+        CloudEvent replayed = replay().get(0);
+
+        assertThat(replayed.getDataSchema()).isEqualTo(cloudEvent.getDataSchema());
+        for (String extensionName : cloudEvent.getExtensionNames()) {
+            assertThat(replayed.getExtension(extensionName)).as(extensionName)
+                    .isEqualTo(cloudEvent.getExtension(extensionName));
+        }
+    }
+
+    @Test
+    void acknowledgedEventsAreNotReplayed() {
+        CloudEvent first = pipelineRunStartedCloudEvent();
+        CloudEvent second = pipelineRunStartedCloudEvent();
+        try (CDEventOutbox outbox = CDEventOutbox.builder(directory).build()) {
+            outbox.acknowledge(outbox.append(first));
+            outbox.append(second);
+        }
+
+        assertThat(replay()).extracting(CloudEvent::getId).containsExactly(second.getId());
+    }
+
+    @Test
+    void acknowledgedSegmentsAreDeleted() throws IOException {
+        try (CDEventOutbox outbox = CDEventOutbox.builder(directory).segmentSize(64).build()) {
+            long offset = 0;
+            for (int i = 0; i < 3; i++) {
+                offset = outbox.append(pipelineRunStartedCloudEvent());
+            }
+            assertThat(segmentCount()).isEqualTo(3);
+
+            outbox.acknowledge(offset);
+
+            assertThat(segmentCount()).isEqualTo(1);
+            assertThat(outbox.getCheckpoint()).isEqualTo(outbox.getEndOffset());
+        }
+    }
+
+    @Test
+    void tornRecordIsTruncatedOnOpen() throws IOException {
+        CloudEvent first = pipelineRunStartedCloudEvent();
+        long endOffset;
+        try (CDEventOutbox outbox = CDEventOutbox.builder(directory).build()) {
+            endOffset = outbox.append(first);
+            outbox.append(pipelineRunStartedCloudEvent());
+        }
+        Path segment;
+        try (Stream<Path> segments = Files.list(directory).filter(path -> path.toString().endsWith(".log"))) {
+            segment = segments.findFirst().get();
+        }
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - 3);
+        }
+
+        try (CDEventOutbox outbox = CDEventOutbox.builder(directory).build()) {
+            assertThat(outbox.getEndOffset()).isEqualTo(endOffset);
+        }
+        assertThat(replay()).extracting(CloudEvent::getId).containsExactly(first.getId());
+    }
+
+    @Test
+    void zeroFilledTailIsTruncatedOnOpen() throws IOException {
+        CloudEvent first = pipelineRunStartedCloudEvent();
+        long endOffset;
+        try (CDEventOutbox outbox = CDEventOutbox.builder(directory).build()) {
+            endOffset = outbox.append(first);
+        }
+        Path segment;
+        try (Stream<Path> segments = Files.list(directory).filter(path -> path.toString().endsWith(".log"))) {
+            segment = segments.findFirst().get();
+        }
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            channel.write(ByteBuffer.allocate(64));
+        }
+
+        List<CloudEvent> sent = Collections.synchronizedList(new ArrayList<>());
+
+        CDEventOutbox outbox = CDEventOutbox.builder(directory).build();
+        assertThat(outbox.getEndOffset()).isEqualTo(endOffset);
+        CDEventEmitter.builder(sent::addAll).outbox(outbox).build().close();
+
+        assertThat(sent).extracting(CloudEvent::getId).containsExactly(first.getId());
+    }
+
+    @Test
+    void emitterSendsEventsLeftInOutbox() {
+        List<CloudEvent> sent = Collections.synchronizedList(new ArrayList<>());
+        CDEventEmitter failing = CDEventEmitter.builder(cloudEvents -> {
+                    throw new IOException("unreachable");
+                })
+                .outbox(CDEventOutbox.builder(directory).build())
+                .retryDelay(Duration.ofMillis(1))
+                .closeTimeout(Duration.ofSeconds(5))
+                .build();
+        failing.emit(pipelineRunStartedEvent());
+        failing.emit(pipelineRunStartedEvent());
+        failing.close();
+
+        CDEventEmitter emitter = CDEventEmitter.builder(sent::addAll)
+                .outbox(CDEventOutbox.builder(directory).build())
+                .build();
+        emitter.close();
+
+        assertThat(sent).hasSize(2);
+        assertThat(replay()).isEmpty();
+    }
+
+    @Test
+    void dropOldestPolicyIsRejectedWithOutbox() {
+        try (CDEventOutbox outbox = CDEventOutbox.builder(directory).build()) {
+            CDEventEmitter.Builder builder = CDEventEmitter.builder(cloudEvents -> { })
+                    .outbox(outbox)
+                    .overflowPolicy(OverflowPolicy.DROP_OLDEST);
+
+            assertThrows(IllegalArgumentException.class, builder::build);
+        }
+    }
+
+    @Test
+    void outboxIsClosedWhenSendingOutlivesCloseTimeout() throws InterruptedException {
+        CountDownLatch sending = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CDEventOutbox outbox = CDEventOutbox.builder(directory).build();
+        CDEventEmitter emitter = CDEventEmitter.builder(cloudEvents -> {
+                    sending.countDown();
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        throw new IOException(e);
+                    }
+                })
+                .outbox(outbox)
+                .maxBatchSize(1)
+                .closeTimeout(Duration.ofMillis(10))
+                .build();
+        emitter.emit(pipelineRunStartedEvent());
+        assertTrue(sending.await(5, TimeUnit.SECONDS));
+
+        emitter.close();
+
+        assertThrows(CDEventsException.class, () -> outbox.append(pipelineRunStartedCloudEvent()));
+        release.countDown();
+        assertThat(replay()).hasSize(1);
+    }
+
+    private List<CloudEvent> replay() {
+        List<CloudEvent> replayed = new ArrayList<>();
+        try (CDEventOutbox outbox = CDEventOutbox.builder(directory).build()) {
+            outbox.replay((cloudEvent, offset) -> replayed.add(cloudEvent));
+        }
+        return replayed;
+    }
+
+    private long segmentCount() throws IOException {
+        try (Stream<Path> segments = Files.list(directory)) {
+            return segments.filter(path -> path.toString().endsWith(".log")).count();
+        }
+    }
+
+    private static PipelinerunStartedCDEvent pipelineRunStartedEvent() {
+        PipelinerunStartedCDEvent cdEvent = new PipelinerunStartedCDEvent();
+        cdEvent.setSource(URI.create("http://dev.cdevents"));
+        cdEvent.setSubjectId("/dev/pipeline/run/subject");
+        cdEvent.setSubjectPipelineName("test-pipeline-started");
+        cdEvent.setSubjectUrl("http://dev/pipeline/url");
+        return cdEvent;
+    }
+
+    private static CloudEvent pipelineRunStartedCloudEvent() {
+        return CDEvents.cdEventAsCloudEvent(pipelineRunStartedEvent());
+    }
+}
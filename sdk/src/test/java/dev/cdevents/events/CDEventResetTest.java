@@ -0,0 +1,94 @@
+package dev.cdevents.events;
+
+import dev.cdevents.CDEvents;
+import dev.cdevents.constants.CDEventConstants;
+import dev.cdevents.models.CDEvent;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CDEventResetTest {
+
+    @Test
+    void resetReusesTheEventModels() {
+        PipelinerunStartedCDEvent cdEvent = pipelinerunStartedEvent();
+        Object context = cdEvent.getContext();
+        Object subject = cdEvent.getSubject();
+        Object content = cdEvent.getSubject().getContent();
+        String id = cdEvent.getContext().getId();
+
+        cdEvent.reset();
+
+        assertThat(cdEvent.getContext()).isSameAs(context);
+        assertThat(cdEvent.getSubject()).isSameAs(subject);
+        assertThat(cdEvent.getSubject().getContent()).isSameAs(content);
+        assertThat(cdEvent.getContext().getId()).isNotEqualTo(id);
+        assertThat(cdEvent.getContext().getSource()).isNull();
+        assertThat(cdEvent.getSubject().getId()).isNull();
+        assertThat(cdEvent.getSubject().getContent().getPipelineName()).isNull();
+        assertThat(cdEvent.currentCDEventType()).isEqualTo(new PipelinerunStartedCDEvent().currentCDEventType());
+    }
+
+    @Test
+    void resetEventsAreValidOnceFilledAgain() {
+        PipelinerunStartedCDEvent cdEvent = pipelinerunStartedEvent();
+        cdEvent.reset();
+        cdEvent.setSource(URI.create("/dev/pipeline/run/2"));
+        cdEvent.setSubjectId("/dev/pipeline/run/subject/2");
+        cdEvent.setSubjectSource(URI.create("/dev/pipeline/run/subject"));
+        cdEvent.setSubjectPipelineName("other-pipeline");
+        cdEvent.setSubjectUrl("http://dev/pipeline/url/2");
+
+        assertThat(CDEvents.validateCDEvent(cdEvent)).isTrue();
+        assertThat(cdEvent.eventSubjectId()).isEqualTo("/dev/pipeline/run/subject/2");
+    }
+
+    @Test
+    void resetEventsOfEveryTypeMatchNewEvents() throws Exception {
+        for (CDEventConstants.CDEventTypes type : CDEventConstants.CDEventTypes.values()) {
+            CDEvent cdEvent = (CDEvent) type.getEventClass().getDeclaredConstructor().newInstance();
+
+            cdEvent.reset();
+
+            assertThat(cdEvent.currentCDEventType()).as(type.getEventType()).startsWith(type.getEventType());
+            assertThat(cdEvent.eventSource()).as(type.getEventType()).isNull();
+            assertThat(cdEvent.eventSubjectId()).as(type.getEventType()).isNull();
+        }
+    }
+
+    @Test
+    void resetRecreatesMissingContentObjects() {
+        ChangeMergedCDEvent cdEvent = new ChangeMergedCDEvent();
+        cdEvent.getSubject().getContent().setRepository(null);
+
+        cdEvent.reset();
+
+        assertThat(cdEvent.getSubject().getContent().getRepository()).isNotNull();
+    }
+
+    @Test
+    void resetClearsAdditionalPropertiesAndCustomData() {
+        TestcaserunQueuedCDEvent cdEvent = new TestcaserunQueuedCDEvent();
+        cdEvent.getSubject().getContent().getTrigger().setAdditionalProperty("user", "dev");
+        cdEvent.setCustomData(Collections.singletonMap("key", "value"));
+
+        cdEvent.reset();
+
+        assertThat(cdEvent.getSubject().getContent().getTrigger().getAdditionalProperties()).isEmpty();
+        assertThat(cdEvent.getCustomData()).isExactlyInstanceOf(Object.class)
+                .isNotSameAs(new TestcaserunQueuedCDEvent().getCustomData());
+    }
+
+    private static PipelinerunStartedCDEvent pipelinerunStartedEvent() {
+        PipelinerunStartedCDEvent cdEvent = new PipelinerunStartedCDEvent();
+        cdEvent.setSource(URI.create("/dev/pipeline/run/1"));
+        cdEvent.setSubjectId("/dev/pipeline/run/subject");
+        cdEvent.setSubjectSource(URI.create("/dev/pipeline/run/subject"));
+        cdEvent.setSubjectPipelineName("test-pipeline");
+        cdEvent.setSubjectUrl("http://dev/pipeline/url");
+        return cdEvent;
+    }
+}
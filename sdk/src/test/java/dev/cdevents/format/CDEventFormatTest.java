@@ -0,0 +1,122 @@
+package dev.cdevents.format;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.cdevents.CDEvents;
+import dev.cdevents.constants.CDEventConstants;
+import dev.cdevents.events.PipelinerunStartedCDEvent;
+import io.cloudevents.CloudEvent;
+import io.cloudevents.core.builder.CloudEventBuilder;
+import io.cloudevents.core.data.BytesCloudEventData;
+import io.cloudevents.core.data.PojoCloudEventData;
+import io.cloudevents.core.format.EventDeserializationException;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class CDEventFormatTest {
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final CDEventFormat eventFormat = new CDEventFormat();
+
+    @Test
+    void formatServesStructuredJson() {
+        // registerFormat resolves these content types to the format, the JVM-wide provider is left untouched
+        assertThat(eventFormat.serializedContentType()).isEqualTo(CDEventFormat.CONTENT_TYPE);
+        assertThat(eventFormat.deserializableContentTypes()).containsExactly(CDEventFormat.CONTENT_TYPE);
+    }
+
+    @Test
+    void cdEventIsWrittenAsCloudEventData() throws IOException {
+        CloudEvent cloudEvent = CDEvents.cdEventAsCloudEvent(pipelineRunStartedEvent(),
+                CDEventConstants.CloudEventDataMode.POJO);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        eventFormat.serialize(cloudEvent, outputStream);
+
+        JsonNode json = objectMapper.readTree(outputStream.toByteArray());
+        assertThat(json.get("specversion").asText()).isEqualTo(cloudEvent.getSpecVersion().toString());
+        assertThat(json.get("id").asText()).isEqualTo(cloudEvent.getId());
+        assertThat(json.get("type").asText()).isEqualTo(cloudEvent.getType());
+        assertThat(json.get("data").get("subject").get("id").asText()).isEqualTo("/dev/pipeline/run/subject");
+    }
+
+    @Test
+    void structuredJsonIsReadIntoTypedCDEvent() {
+        CloudEvent cloudEvent = CDEvents.cdEventAsCloudEvent(pipelineRunStartedEvent());
+
+        CloudEvent decoded = eventFormat.deserialize(new ByteArrayInputStream(eventFormat.serialize(cloudEvent)));
+
+        assertThat(decoded.getId()).isEqualTo(cloudEvent.getId());
+        assertThat(decoded.getSource()).isEqualTo(cloudEvent.getSource());
+        assertThat(decoded.getTime()).isEqualTo(cloudEvent.getTime());
+        assertThat(decoded.getData()).isInstanceOf(PojoCloudEventData.class);
+        PipelinerunStartedCDEvent cdEvent = (PipelinerunStartedCDEvent) CDEvents.cdEventFromJson(decoded.getData());
+        assertThat(cdEvent.getSubject().getContent().getPipelineName()).isEqualTo("test-pipeline-started");
+    }
+
+    @Test
+    void otherCloudEventsKeepTheirDataAsBytes() {
+        CloudEvent cloudEvent = CloudEventBuilder.v1()
+                .withId("1")
+                .withSource(URI.create("/test"))
+                .withType("com.example.test")
+                .withData("text/plain", BytesCloudEventData.wrap("hello".getBytes(StandardCharsets.UTF_8)))
+                .build();
+
+        CloudEvent decoded = eventFormat.deserialize(eventFormat.serialize(cloudEvent));
+
+        assertThat(decoded.getDataContentType()).isEqualTo("text/plain");
+        assertThat(decoded.getData().toBytes()).isEqualTo("hello".getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void invalidCDEventDataFailsDeserialization() {
+        byte[] json = ("{\"specversion\":\"1.0\",\"id\":\"1\",\"source\":\"/test\","
+                + "\"type\":\"dev.cdevents.pipelinerun.started.0.1.1\",\"data\":{\"context\":{}}}")
+                .getBytes(StandardCharsets.UTF_8);
+
+        assertThrows(EventDeserializationException.class, () -> eventFormat.deserialize(json));
+    }
+
+    @Test
+    void extensionsAreReadByJsonType() {
+        byte[] json = ("{\"specversion\":\"1.0\",\"id\":\"1\",\"source\":\"/test\",\"type\":\"com.example.test\","
+                + "\"count\":1,\"large\":4294967296,\"flag\":true,\"name\":\"value\",\"empty\":null}")
+                .getBytes(StandardCharsets.UTF_8);
+
+        CloudEvent decoded = eventFormat.deserialize(json);
+
+        assertThat(decoded.getExtension("count")).isEqualTo(1);
+        assertThat(decoded.getExtension("large")).isEqualTo("4294967296");
+        assertThat(decoded.getExtension("flag")).isEqualTo(true);
+        assertThat(decoded.getExtension("name")).isEqualTo("value");
+        assertThat(decoded.getExtensionNames()).doesNotContain("empty");
+    }
+
+    @Test
+    void structuredExtensionsFailDeserialization() {
+        byte[] json = ("{\"specversion\":\"1.0\",\"id\":\"1\",\"source\":\"/test\",\"type\":\"com.example.test\","
+                + "\"nested\":{\"id\":\"2\"}}")
+                .getBytes(StandardCharsets.UTF_8);
+
+        assertThrows(EventDeserializationException.class, () -> eventFormat.deserialize(json));
+    }
+
+    private static PipelinerunStartedCDEvent pipelineRunStartedEvent() {
+        PipelinerunStartedCDEvent cdEvent = new PipelinerunStartedCDEvent();
+        cdEvent.setSource(URI.create("http://dev.cdevents"));
+        cdEvent.setSubjectId("/dev/pipeline/run/subject");
+        cdEvent.setSubjectPipelineName("test-pipeline-started");
+        cdEvent.setSubjectUrl("http://dev/pipeline/url");
+        return cdEvent;
+    }
+}
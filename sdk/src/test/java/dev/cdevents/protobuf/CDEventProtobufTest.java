@@ -0,0 +1,223 @@
+package dev.cdevents.protobuf;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.WireFormat;
+import dev.cdevents.config.CustomObjectMapper;
+import dev.cdevents.constants.CDEventConstants;
+import dev.cdevents.events.PipelinerunStartedCDEvent;
+import dev.cdevents.exception.CDEventsException;
+import dev.cdevents.models.CDEvent;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.lang.reflect.Method;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class CDEventProtobufTest {
+
+    private static final Pattern PROTO_MESSAGE = Pattern.compile("\\s*message (\\w+) \\{");
+
+    private static final Pattern PROTO_FIELD = Pattern.compile("\\s*([\\w.]+) \\w+ = (\\d+);");
+
+    private static final Set<String> VARINT_TYPES = new HashSet<>(Arrays.asList(
+            "bool", "int32", "int64", "uint32", "uint64", "sint32", "sint64"));
+
+    private final ObjectMapper objectMapper = new CustomObjectMapper().customConfiguration();
+
+    @Test
+    void eventsOfEveryTypeRoundTrip() throws Exception {
+        for (CDEventConstants.CDEventTypes type : CDEventConstants.CDEventTypes.values()) {
+            CDEvent cdEvent = (CDEvent) type.getEventClass().getDeclaredConstructor().newInstance();
+
+            CDEvent decoded = CDEventProtobuf.fromBytes(CDEventProtobuf.toBytes(cdEvent), type);
+
+            assertThat(decoded).as(type.getEventType()).isInstanceOf(type.getEventClass());
+            assertThat((JsonNode) objectMapper.valueToTree(decoded)).as(type.getEventType())
+                    .isEqualTo(objectMapper.valueToTree(cdEvent));
+        }
+    }
+
+    @Test
+    void messagesAreSmallerThanJson() throws Exception {
+        PipelinerunStartedCDEvent cdEvent = pipelinerunStartedEvent();
+
+        byte[] message = CDEventProtobuf.toBytes(cdEvent);
+
+        assertThat(message).hasSizeLessThan(objectMapper.writeValueAsBytes(cdEvent).length);
+        assertThat(CDEventProtobuf.fromBytes(message, cdEvent.currentCDEventType()).eventSubjectId())
+                .isEqualTo(cdEvent.eventSubjectId());
+    }
+
+    @Test
+    void timestampsAndCustomDataRoundTrip() {
+        PipelinerunStartedCDEvent cdEvent = pipelinerunStartedEvent();
+        cdEvent.getContext().setTimestamp(new Date(-1500));
+        cdEvent.setCustomData(Collections.singletonMap("key", "value"));
+
+        CDEvent decoded = CDEventProtobuf.fromBytes(CDEventProtobuf.toBytes(cdEvent),
+                CDEventConstants.CDEventTypes.PipelineRunStartedEvent);
+
+        assertThat(decoded.eventTimestamp()).isEqualTo(new Date(-1500));
+        assertThat(((PipelinerunStartedCDEvent) decoded).getCustomData())
+                .isEqualTo(Collections.singletonMap("key", "value"));
+    }
+
+    @Test
+    void truncatedMessagesAreRejected() {
+        byte[] message = CDEventProtobuf.toBytes(pipelinerunStartedEvent());
+        byte[] truncated = new byte[message.length / 2];
+        System.arraycopy(message, 0, truncated, 0, truncated.length);
+
+        assertThrows(CDEventsException.class, () -> CDEventProtobuf.fromBytes(truncated,
+                CDEventConstants.CDEventTypes.PipelineRunStartedEvent));
+    }
+
+    @Test
+    void fieldsOfAnotherWireTypeAreSkipped() {
+        // field 1, the context message, as a varint, followed by field 4, the customData content type
+        byte[] message = {(1 << 3) | WireFormat.WIRETYPE_VARINT, 1,
+                (4 << 3) | WireFormat.WIRETYPE_LENGTH_DELIMITED, 3, 'x', 'm', 'l'};
+
+        CDEvent decoded = CDEventProtobuf.fromBytes(message, CDEventConstants.CDEventTypes.PipelineRunStartedEvent);
+
+        assertThat(((PipelinerunStartedCDEvent) decoded).getCustomDataContentType()).isEqualTo("xml");
+    }
+
+    @Test
+    void protoDefinitionsAreShippedForEverySchema() throws Exception {
+        for (CDEventConstants.CDEventTypes type : CDEventConstants.CDEventTypes.values()) {
+            String eventType = type.getEventType();
+            String[] subjectAndPredicate = eventType.substring(CDEventConstants.EVENT_PREFIX.length()).split("\\.");
+            String protoFile = "dev/cdevents/proto/" + subjectAndPredicate[0] + "_" + subjectAndPredicate[1] + ".proto";
+            try (InputStream proto = getClass().getClassLoader().getResourceAsStream(protoFile)) {
+                assertThat(proto).as(protoFile).isNotNull();
+            }
+        }
+    }
+
+    @Test
+    void protoDefinitionsMatchTheEncodedMessages() throws Exception {
+        for (CDEventConstants.CDEventTypes type : CDEventConstants.CDEventTypes.values()) {
+            Map<String, Map<Integer, String>> messages = protoMessages(type);
+            CDEvent cdEvent = (CDEvent) type.getEventClass().getDeclaredConstructor().newInstance();
+            populate(cdEvent);
+            Set<String> writtenFields = new HashSet<>();
+
+            checkMessage(CDEventProtobuf.toBytes(cdEvent), type.getEventClass().getSimpleName(), messages, writtenFields);
+
+            for (Map.Entry<String, Map<Integer, String>> message : messages.entrySet()) {
+                for (Integer fieldNumber : message.getValue().keySet()) {
+                    assertThat(writtenFields).as(type.getEventType()).contains(message.getKey() + "." + fieldNumber);
+                }
+            }
+        }
+    }
+
+    /**
+     * Checks that every field of the message is declared in the proto file with the number and a type of its wire type.
+     */
+    private static void checkMessage(byte[] message, String messageName, Map<String, Map<Integer, String>> messages,
+                                     Set<String> writtenFields) throws IOException {
+        Map<Integer, String> fields = messages.get(messageName);
+        CodedInputStream input = CodedInputStream.newInstance(message);
+        while (!input.isAtEnd()) {
+            int tag = input.readTag();
+            int fieldNumber = WireFormat.getTagFieldNumber(tag);
+            String fieldType = fields.get(fieldNumber);
+            assertThat(fieldType).as(messageName + " field " + fieldNumber).isNotNull();
+            int expectedWireType = VARINT_TYPES.contains(fieldType)
+                    ? WireFormat.WIRETYPE_VARINT : WireFormat.WIRETYPE_LENGTH_DELIMITED;
+            assertThat(WireFormat.getTagWireType(tag)).as(messageName + " field " + fieldNumber + " " + fieldType)
+                    .isEqualTo(expectedWireType);
+            writtenFields.add(messageName + "." + fieldNumber);
+            if (messages.containsKey(fieldType)) {
+                checkMessage(input.readByteArray(), fieldType, messages, writtenFields);
+            } else {
+                input.skipField(tag);
+            }
+        }
+    }
+
+    private Map<String, Map<Integer, String>> protoMessages(CDEventConstants.CDEventTypes type) throws IOException {
+        String[] subjectAndPredicate = type.getEventType().substring(CDEventConstants.EVENT_PREFIX.length()).split("\\.");
+        String protoFile = "dev/cdevents/proto/" + subjectAndPredicate[0] + "_" + subjectAndPredicate[1] + ".proto";
+        Map<String, Map<Integer, String>> messages = new HashMap<>();
+        messages.put("google.protobuf.Timestamp", new HashMap<>());
+        messages.get("google.protobuf.Timestamp").put(1, "int64");
+        messages.get("google.protobuf.Timestamp").put(2, "int32");
+        Map<Integer, String> fields = null;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                getClass().getClassLoader().getResourceAsStream(protoFile), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                Matcher message = PROTO_MESSAGE.matcher(line);
+                Matcher field = PROTO_FIELD.matcher(line);
+                if (message.matches()) {
+                    fields = new HashMap<>();
+                    messages.put(message.group(1), fields);
+                } else if (field.matches()) {
+                    fields.put(Integer.parseInt(field.group(2)), field.group(1));
+                }
+            }
+        }
+        return messages;
+    }
+
+    /**
+     * Sets every property of the model object, and of the model objects it holds, to a value.
+     */
+    private static void populate(Object model) throws Exception {
+        for (Method setter : model.getClass().getMethods()) {
+            if (!setter.getName().startsWith("set") || setter.getParameterCount() != 1) {
+                continue;
+            }
+            Class<?> propertyType = setter.getParameterTypes()[0];
+            if (propertyType == String.class) {
+                setter.invoke(model, "value");
+            } else if (propertyType == URI.class) {
+                setter.invoke(model, URI.create("https://cdevents.dev/value"));
+            } else if (propertyType == Date.class) {
+                setter.invoke(model, new Date(1500));
+            } else if (propertyType.isEnum()) {
+                setter.invoke(model, propertyType.getEnumConstants()[0]);
+            } else if (propertyType == Object.class) {
+                setter.invoke(model, Collections.singletonMap("key", "value"));
+            } else if (propertyType.getName().startsWith("dev.cdevents.models.")) {
+                Object property = model.getClass().getMethod("g" + setter.getName().substring(1)).invoke(model);
+                if (property == null) {
+                    property = propertyType.getDeclaredConstructor().newInstance();
+                }
+                populate(property);
+                setter.invoke(model, property);
+            }
+        }
+    }
+
+    private static PipelinerunStartedCDEvent pipelinerunStartedEvent() {
+        PipelinerunStartedCDEvent cdEvent = new PipelinerunStartedCDEvent();
+        cdEvent.setSource(URI.create("/dev/pipeline/run/1"));
+        cdEvent.setSubjectId("/dev/pipeline/run/subject");
+        cdEvent.setSubjectSource(URI.create("/dev/pipeline/run/subject"));
+        cdEvent.setSubjectPipelineName("test-pipeline");
+        cdEvent.setSubjectUrl("http://dev/pipeline/url");
+        return cdEvent;
+    }
+}
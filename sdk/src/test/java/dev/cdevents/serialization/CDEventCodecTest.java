@@ -0,0 +1,85 @@
+package dev.cdevents.serialization;
+
+import com.fasterxml.jackson.databind.SerializationFeature;
+import dev.cdevents.CDEvents;
+import dev.cdevents.config.CustomObjectMapper;
+import dev.cdevents.constants.CDEventConstants;
+import dev.cdevents.events.PipelinerunStartedCDEvent;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class CDEventCodecTest {
+
+    @Test
+    void readersAndWritersAreBuiltOncePerType() {
+        CDEventCodec codec = CDEventCodec.getDefault();
+        PipelinerunStartedCDEvent cdEvent = new PipelinerunStartedCDEvent();
+
+        for (CDEventConstants.CDEventTypes type : CDEventConstants.CDEventTypes.values()) {
+            assertThat(codec.reader(type)).isSameAs(codec.reader(type));
+            assertThat(codec.writer(type)).isSameAs(codec.writer(type));
+        }
+        assertThat(codec.writer(cdEvent)).isSameAs(codec.writer(CDEventConstants.CDEventTypes.PipelineRunStartedEvent));
+    }
+
+    @Test
+    void suppliedMapperIsUsedByTheSdk() {
+        CDEventCodec previous = CDEventCodec.getDefault();
+        CDEventCodec.setDefault(new CDEventCodec(new CustomObjectMapper().customConfiguration()
+                .enable(SerializationFeature.INDENT_OUTPUT)));
+        try {
+            String json = CDEvents.cdEventAsJson(pipelinerunStartedEvent());
+
+            assertThat(json).contains("\n");
+            assertThat(CDEvents.cdEventFromJson(json)).isInstanceOf(PipelinerunStartedCDEvent.class);
+        } finally {
+            CDEventCodec.setDefault(previous);
+        }
+    }
+
+    @Test
+    void eventsAreReadAndWrittenConcurrently() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < 64; i++) {
+                String subjectId = "/dev/pipeline/run/" + i;
+                results.add(executor.submit(() -> {
+                    PipelinerunStartedCDEvent cdEvent = pipelinerunStartedEvent();
+                    cdEvent.setSubjectId(subjectId);
+                    return CDEvents.cdEventFromJson(CDEvents.cdEventAsJson(cdEvent)).eventSubjectId();
+                }));
+            }
+            for (int i = 0; i < results.size(); i++) {
+                assertThat(results.get(i).get()).isEqualTo("/dev/pipeline/run/" + i);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void mapperIsRequired() {
+        assertThrows(IllegalArgumentException.class, () -> new CDEventCodec(null));
+        assertThrows(IllegalArgumentException.class, () -> CDEventCodec.setDefault(null));
+    }
+
+    private static PipelinerunStartedCDEvent pipelinerunStartedEvent() {
+        PipelinerunStartedCDEvent cdEvent = new PipelinerunStartedCDEvent();
+        cdEvent.setSource(URI.create("/dev/pipeline/run/1"));
+        cdEvent.setSubjectId("/dev/pipeline/run/subject");
+        cdEvent.setSubjectSource(URI.create("/dev/pipeline/run/subject"));
+        cdEvent.setSubjectPipelineName("test-pipeline");
+        cdEvent.setSubjectUrl("http://dev/pipeline/url");
+        return cdEvent;
+    }
+}
@@ -0,0 +1,95 @@
+package dev.cdevents.serialization;
+
+import dev.cdevents.CDEvents;
+import dev.cdevents.events.PipelinerunStartedCDEvent;
+import dev.cdevents.exception.CDEventsException;
+import dev.cdevents.models.CDEvent;
+import dev.cdevents.validation.ValidationPolicy;
+import io.cloudevents.CloudEvent;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class CDEventEncodingTest {
+
+    @Test
+    void eventsRoundTripInEveryEncoding() {
+        PipelinerunStartedCDEvent cdEvent = pipelinerunStartedEvent();
+        String json = CDEvents.cdEventAsJson(cdEvent);
+
+        for (CDEventEncoding encoding : CDEventEncoding.values()) {
+            byte[] encoded = CDEvents.cdEventAsBytes(cdEvent, encoding);
+            CDEvent decoded = CDEvents.cdEventFromBytes(encoded, encoding);
+
+            assertThat(decoded).as(encoding.name()).isInstanceOf(PipelinerunStartedCDEvent.class);
+            assertThat(CDEvents.cdEventAsJson(decoded)).as(encoding.name()).isEqualTo(json);
+        }
+    }
+
+    @Test
+    void binaryEncodingsAreSmallerThanJson() {
+        PipelinerunStartedCDEvent cdEvent = pipelinerunStartedEvent();
+        int jsonLength = CDEvents.cdEventAsBytes(cdEvent, CDEventEncoding.JSON).length;
+
+        assertThat(CDEvents.cdEventAsBytes(cdEvent, CDEventEncoding.CBOR)).hasSizeLessThan(jsonLength);
+        assertThat(CDEvents.cdEventAsBytes(cdEvent, CDEventEncoding.SMILE)).hasSizeLessThan(jsonLength);
+    }
+
+    @Test
+    void cloudEventsCarryTheContentTypeOfTheEncoding() {
+        PipelinerunStartedCDEvent cdEvent = pipelinerunStartedEvent();
+
+        CloudEvent cloudEvent = CDEvents.cdEventAsCloudEvent(cdEvent, CDEventEncoding.CBOR, ValidationPolicy.FULL);
+
+        assertThat(cloudEvent.getDataContentType()).isEqualTo("application/cbor");
+        CDEventEncoding encoding = CDEventEncoding.fromContentType(cloudEvent.getDataContentType());
+        assertThat(CDEvents.cdEventFromBytes(cloudEvent.getData().toBytes(), encoding).eventSubjectId())
+                .isEqualTo(cdEvent.eventSubjectId());
+    }
+
+    @Test
+    void invalidBinaryEventsAreRejected() {
+        PipelinerunStartedCDEvent invalidEvent = new PipelinerunStartedCDEvent();
+        invalidEvent.setSource(URI.create("/dev/pipeline/run/1"));
+        byte[] encoded = CDEvents.cdEventAsBytes(invalidEvent, CDEventEncoding.SMILE);
+
+        assertThrows(CDEventsException.class, () -> CDEvents.cdEventFromBytes(encoded, CDEventEncoding.SMILE));
+        assertThrows(CDEventsException.class,
+                () -> CDEvents.cdEventAsCloudEvent(invalidEvent, CDEventEncoding.SMILE, ValidationPolicy.FULL));
+        assertThat(CDEvents.cdEventFromBytes(encoded, CDEventEncoding.SMILE, ValidationPolicy.OFF))
+                .isInstanceOf(PipelinerunStartedCDEvent.class);
+    }
+
+    @Test
+    void contentTypesResolveToEncodings() {
+        assertThat(CDEventEncoding.fromContentType("application/cbor")).isEqualTo(CDEventEncoding.CBOR);
+        assertThat(CDEventEncoding.fromContentType("Application/CBOR; foo=bar")).isEqualTo(CDEventEncoding.CBOR);
+        assertThat(CDEventEncoding.fromContentType("application/x-jackson-smile")).isEqualTo(CDEventEncoding.SMILE);
+        assertThat(CDEventEncoding.fromContentType("application/json")).isEqualTo(CDEventEncoding.JSON);
+        assertThat(CDEventEncoding.fromContentType(null)).isEqualTo(CDEventEncoding.JSON);
+        assertThat(CDEventEncoding.fromContentType("application/cloudevents+json; charset=utf-8"))
+                .isEqualTo(CDEventEncoding.JSON);
+    }
+
+    @Test
+    void unsupportedContentTypesAreRejected() {
+        CDEventsException exception = assertThrows(CDEventsException.class,
+                () -> CDEventEncoding.fromContentType("application/protobuf"));
+
+        assertThat(exception.getMessage()).isEqualTo("Unsupported CDEvent datacontenttype application/protobuf");
+        assertThrows(CDEventsException.class, () -> CDEventEncoding.fromContentType("text/plain"));
+    }
+
+    private static PipelinerunStartedCDEvent pipelinerunStartedEvent() {
+        PipelinerunStartedCDEvent cdEvent = new PipelinerunStartedCDEvent();
+        cdEvent.setSource(URI.create("/dev/pipeline/run/1"));
+        cdEvent.setSubjectId("/dev/pipeline/run/subject");
+        cdEvent.setSubjectSource(URI.create("/dev/pipeline/run/subject"));
+        cdEvent.setSubjectPipelineName("test-pipeline");
+        cdEvent.setSubjectUrl("http://dev/pipeline/url");
+        return cdEvent;
+    }
+}
@@ -0,0 +1,108 @@
+package dev.cdevents.serialization;
+
+import dev.cdevents.events.PipelinerunStartedCDEvent;
+import dev.cdevents.events.TaskrunStartedCDEvent;
+import dev.cdevents.exception.CDEventsException;
+import dev.cdevents.models.CDEvent;
+import dev.cdevents.validation.ValidationPolicy;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class CDEventStreamTest {
+
+    @Test
+    void writtenEventsAreReadBackInOrder() throws Exception {
+        List<CDEvent> cdEvents = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            cdEvents.add(pipelinerunStartedEvent("/dev/pipeline/run/" + i));
+        }
+        cdEvents.add(taskrunStartedEvent());
+
+        byte[] ndjson = write(cdEvents);
+
+        String[] lines = new String(ndjson, StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(cdEvents.size());
+        try (CDEventStreamReader reader = new CDEventStreamReader(new ByteArrayInputStream(ndjson));
+             Stream<CDEvent> stream = reader.stream()) {
+            List<CDEvent> readEvents = stream.collect(Collectors.toList());
+
+            assertThat(readEvents).hasSize(cdEvents.size());
+            for (int i = 0; i < cdEvents.size(); i++) {
+                assertThat(readEvents.get(i)).isInstanceOf(cdEvents.get(i).getClass());
+                assertThat(readEvents.get(i).eventSubjectId()).isEqualTo(cdEvents.get(i).eventSubjectId());
+            }
+        }
+    }
+
+    @Test
+    void invalidEventsAreReportedWithTheirLine() throws Exception {
+        PipelinerunStartedCDEvent invalidEvent = new PipelinerunStartedCDEvent();
+        invalidEvent.setSource(URI.create("/dev/pipeline/run/1"));
+        List<CDEvent> cdEvents = new ArrayList<>();
+        cdEvents.add(pipelinerunStartedEvent("/dev/pipeline/run/1"));
+        cdEvents.add(invalidEvent);
+        byte[] ndjson = write(cdEvents);
+
+        try (CDEventStreamReader reader = new CDEventStreamReader(new ByteArrayInputStream(ndjson))) {
+            assertThat(reader.next().eventSubjectId()).isEqualTo("/dev/pipeline/run/1");
+            CDEventsException exception = assertThrows(CDEventsException.class, reader::next);
+            assertThat(exception.getMessage()).isEqualTo("Invalid CDEvent Json at line 2");
+        }
+        try (CDEventStreamReader reader = new CDEventStreamReader(new ByteArrayInputStream(ndjson),
+                ValidationPolicy.OFF)) {
+            reader.next();
+            assertThat(reader.next()).isInstanceOf(PipelinerunStartedCDEvent.class);
+            assertThat(reader.hasNext()).isFalse();
+        }
+    }
+
+    @Test
+    void onlyObjectsAreCDEvents() {
+        byte[] ndjson = "[]\n".getBytes(StandardCharsets.UTF_8);
+        CDEventStreamReader reader = new CDEventStreamReader(new ByteArrayInputStream(ndjson));
+
+        CDEventsException exception = assertThrows(CDEventsException.class, reader::hasNext);
+        assertThat(exception.getMessage()).isEqualTo("Expected a CDEvent Json object at line 1");
+    }
+
+    private static byte[] write(List<CDEvent> cdEvents) throws Exception {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (CDEventStreamWriter writer = new CDEventStreamWriter(outputStream)) {
+            writer.writeAll(cdEvents);
+        }
+        return outputStream.toByteArray();
+    }
+
+    private static PipelinerunStartedCDEvent pipelinerunStartedEvent(String subjectId) {
+        PipelinerunStartedCDEvent cdEvent = new PipelinerunStartedCDEvent();
+        cdEvent.setSource(URI.create("/dev/pipeline/run/1"));
+        cdEvent.setSubjectId(subjectId);
+        cdEvent.setSubjectSource(URI.create("/dev/pipeline/run/subject"));
+        cdEvent.setSubjectPipelineName("test-pipeline");
+        cdEvent.setSubjectUrl("http://dev/pipeline/url");
+        return cdEvent;
+    }
+
+    private static TaskrunStartedCDEvent taskrunStartedEvent() {
+        TaskrunStartedCDEvent cdEvent = new TaskrunStartedCDEvent();
+        cdEvent.setSource(URI.create("/dev/task/run/1"));
+        cdEvent.setSubjectId("/dev/task/run/subject");
+        cdEvent.setSubjectSource(URI.create("/dev/task/run/subject"));
+        cdEvent.setSubjectTaskName("test-task");
+        cdEvent.setSubjectUrl("http://dev/task/url");
+        cdEvent.setSubjectPipelineRunId("/dev/pipeline/run/subject");
+        cdEvent.setSubjectPipelineRunSource("/dev/pipeline/run/subject");
+        return cdEvent;
+    }
+}
@@ -0,0 +1,123 @@
+package dev.cdevents.serialization;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.exc.UnrecognizedPropertyException;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import dev.cdevents.config.CustomObjectMapper;
+import dev.cdevents.config.EventClock;
+import dev.cdevents.config.TimestampSerializer;
+import dev.cdevents.constants.CDEventConstants;
+import dev.cdevents.events.TestcaserunFinishedCDEvent;
+import dev.cdevents.events.TestcaserunQueuedCDEvent;
+import dev.cdevents.models.CDEvent;
+import dev.cdevents.models.testcaserun.finished.Content;
+import dev.cdevents.models.testcaserun.finished.TestCase;
+import dev.cdevents.models.testcaserun.queued.Trigger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Collections;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class CDEventsModuleTest {
+
+    private final ObjectMapper objectMapper = new CustomObjectMapper().customConfiguration();
+
+    private final ObjectMapper reflectionMapper = new ObjectMapper()
+            .enable(SerializationFeature.WRITE_ENUMS_USING_TO_STRING)
+            .enable(DeserializationFeature.READ_ENUMS_USING_TO_STRING)
+            .configure(SerializationFeature.FAIL_ON_EMPTY_BEANS, false)
+            .setSerializationInclusion(JsonInclude.Include.NON_NULL)
+            .registerModule(new SimpleModule().addSerializer(Date.class, new TimestampSerializer()));
+
+    @BeforeEach
+    void useWholeSecondClock() {
+        // timestamps are written with second precision
+        EventClock.setClock(Clock.fixed(Instant.parse("2023-03-20T14:27:05Z"), ZoneOffset.UTC));
+    }
+
+    @AfterEach
+    void resetClock() {
+        EventClock.setClock(Clock.systemUTC());
+    }
+
+    @Test
+    void everyEventIsWrittenAsWithBeanSerialization() throws Exception {
+        for (CDEventConstants.CDEventTypes type : CDEventConstants.CDEventTypes.values()) {
+            CDEvent cdEvent = (CDEvent) type.getEventClass().getDeclaredConstructor().newInstance();
+
+            String json = objectMapper.writeValueAsString(cdEvent);
+
+            assertThat(json).as(type.getEventType()).isEqualTo(reflectionMapper.writeValueAsString(cdEvent));
+        }
+    }
+
+    @Test
+    void everyEventIsReadBackEqual() throws Exception {
+        for (CDEventConstants.CDEventTypes type : CDEventConstants.CDEventTypes.values()) {
+            CDEvent cdEvent = (CDEvent) type.getEventClass().getDeclaredConstructor().newInstance();
+
+            Object read = objectMapper.readValue(objectMapper.writeValueAsBytes(cdEvent), type.getEventClass());
+
+            assertThat(read).isInstanceOf(type.getEventClass());
+            assertThat((JsonNode) objectMapper.valueToTree(read)).as(type.getEventType())
+                    .isEqualTo(objectMapper.valueToTree(cdEvent));
+        }
+    }
+
+    @Test
+    void nestedObjectsEnumsAndUrisAreReadAndWritten() throws Exception {
+        TestcaserunFinishedCDEvent cdEvent = new TestcaserunFinishedCDEvent();
+        cdEvent.setSource(URI.create("http://dev.cdevents"));
+        cdEvent.setSubjectId("/dev/testcase/run/subject");
+        cdEvent.setSubjectOutcome(Content.Outcome.PASS);
+        cdEvent.setSubjectTestCaseType(TestCase.Type.UNIT);
+        cdEvent.setSubjectTestCaseUri(URI.create("https://dev/testcase"));
+
+        JsonNode json = objectMapper.readTree(objectMapper.writeValueAsString(cdEvent));
+        TestcaserunFinishedCDEvent read = objectMapper.treeToValue(json, TestcaserunFinishedCDEvent.class);
+
+        assertThat(json.get("subject").get("content").get("outcome").asText()).isEqualTo("pass");
+        assertThat(json.get("subject").get("content").get("testCase").get("uri").asText()).isEqualTo("https://dev/testcase");
+        assertThat(read.getSubject().getContent().getTestCase().getType()).isEqualTo(TestCase.Type.UNIT);
+        assertThat(read.getContext().getTimestamp()).isEqualTo(cdEvent.getContext().getTimestamp());
+    }
+
+    @Test
+    void triggerAdditionalPropertiesRoundTrip() throws Exception {
+        TestcaserunQueuedCDEvent cdEvent = new TestcaserunQueuedCDEvent();
+        cdEvent.setSource(URI.create("http://dev.cdevents"));
+        cdEvent.setSubjectTriggerType(Trigger.Type.MANUAL);
+        cdEvent.getSubject().getContent().getTrigger().setAdditionalProperty("user", "dev");
+        cdEvent.getSubject().getContent().getTrigger().setAdditionalProperty("attempt", 2);
+        cdEvent.getSubject().getContent().getTrigger().setAdditionalProperty("labels",
+                Collections.singletonMap("team", "cd"));
+        String json = reflectionMapper.writeValueAsString(cdEvent);
+
+        TestcaserunQueuedCDEvent read = objectMapper.readValue(json, TestcaserunQueuedCDEvent.class);
+
+        assertThat(read.getSubject().getContent().getTrigger().getAdditionalProperties())
+                .isEqualTo(cdEvent.getSubject().getContent().getTrigger().getAdditionalProperties());
+        assertThat(objectMapper.writeValueAsString(read)).isEqualTo(json);
+    }
+
+    @Test
+    void unknownPropertiesAreRejected() {
+        String json = "{\"context\":{\"version\":\"0.3.0\",\"unknown\":\"value\"}}";
+
+        assertThrows(UnrecognizedPropertyException.class,
+                () -> objectMapper.readValue(json, TestcaserunFinishedCDEvent.class));
+    }
+}
@@ -0,0 +1,24 @@
+package dev.cdevents.spec.schemas;
+
+import dev.cdevents.exception.CDEventsException;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class SchemaLoaderTest {
+
+    @Test
+    void schemaIsLoadedOnce() {
+        String first = SchemaLoader.loadSchema("pipelinerunstarted.json");
+        String second = SchemaLoader.loadSchema("pipelinerunstarted.json");
+
+        assertThat(first).contains("\"$id\": \"https://cdevents.dev/0.3.0/schema/pipeline-run-started-event\"");
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    void missingSchemaIsRejected() {
+        assertThrows(CDEventsException.class, () -> SchemaLoader.loadSchema("missing.json"));
+    }
+}
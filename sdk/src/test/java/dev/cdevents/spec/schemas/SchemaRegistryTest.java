@@ -0,0 +1,34 @@
+package dev.cdevents.spec.schemas;
+
+import com.networknt.schema.JsonSchema;
+import dev.cdevents.constants.CDEventConstants.CDEventTypes;
+import dev.cdevents.events.PipelinerunStartedCDEvent;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SchemaRegistryTest {
+
+    @Test
+    void schemaIsCompiledOncePerEventType() {
+        JsonSchema first = SchemaRegistry.getSchema(CDEventTypes.PipelineRunStartedEvent);
+        JsonSchema second = SchemaRegistry.getSchema(new PipelinerunStartedCDEvent());
+
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    void warmUpCompilesSchemaForEveryEventType() {
+        SchemaRegistry.warmUp();
+
+        for (CDEventTypes type : CDEventTypes.values()) {
+            assertThat(SchemaRegistry.getSchema(type)).isNotNull();
+        }
+    }
+
+    @Test
+    void schemaFileNameIsDerivedFromEventType() {
+        assertThat(SchemaRegistry.schemaFileName(CDEventTypes.ServiceRolledBackEvent)).isEqualTo("servicerolledback.json");
+        assertThat(SchemaRegistry.schemaFileName(CDEventTypes.TestCaseRunFinishedEvent)).isEqualTo("testcaserunfinished.json");
+    }
+}
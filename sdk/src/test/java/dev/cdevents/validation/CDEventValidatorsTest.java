@@ -0,0 +1,220 @@
+package dev.cdevents.validation;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.BooleanNode;
+import com.fasterxml.jackson.databind.node.IntNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.NullNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+import com.networknt.schema.JsonSchema;
+import dev.cdevents.config.CustomObjectMapper;
+import dev.cdevents.constants.CDEventConstants;
+import dev.cdevents.events.PipelinerunStartedCDEvent;
+import dev.cdevents.models.CDEvent;
+import dev.cdevents.spec.schemas.SchemaLoader;
+import dev.cdevents.spec.schemas.SchemaRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Differential tests of the generated validators against the JsonSchema validation of the event schemas.
+ */
+public class CDEventValidatorsTest {
+
+    private static final JsonNodeFactory NODES = JsonNodeFactory.instance;
+
+    private static final String[] DATE_TIMES = {
+            "2023-03-20T14:27:05Z",
+            "2023-03-20T14:27:05.123456789+01:00",
+            "2024-02-29T23:59:59-08:00",
+            "2023-03-20",
+            "2023-03-20T14:27:05",
+            "2023-13-20T14:27:05Z",
+            "2023-03-20T24:00:00Z",
+            "2023-03-20T14:27:05+0100",
+            "not a date-time"
+    };
+
+    private static final List<JsonNode> REPLACEMENTS = new ArrayList<>(Arrays.asList(
+            TextNode.valueOf(""),
+            TextNode.valueOf("value"),
+            IntNode.valueOf(1),
+            BooleanNode.TRUE,
+            NullNode.getInstance(),
+            NODES.objectNode(),
+            NODES.arrayNode()));
+
+    static {
+        for (String dateTime : DATE_TIMES) {
+            REPLACEMENTS.add(TextNode.valueOf(dateTime));
+        }
+    }
+
+    private final ObjectMapper objectMapper = new CustomObjectMapper().customConfiguration();
+
+    @Test
+    void validInstancesOfEverySchemaAreValid() throws Exception {
+        for (CDEventConstants.CDEventTypes type : CDEventConstants.CDEventTypes.values()) {
+            JsonNode cdEventNode = validInstance(schemaOf(type));
+
+            assertThat(SchemaRegistry.getSchema(type).validate(cdEventNode)).as(type.getEventType()).isEmpty();
+            assertThat(CDEventValidators.validate(cdEventNode, type)).as(type.getEventType()).isEmpty();
+        }
+    }
+
+    @Test
+    void treeValidationMatchesJsonSchema() throws Exception {
+        for (CDEventConstants.CDEventTypes type : CDEventConstants.CDEventTypes.values()) {
+            JsonSchema jsonSchema = SchemaRegistry.getSchema(type);
+            for (JsonNode mutated : mutations((ObjectNode) validInstance(schemaOf(type)))) {
+                assertThat(CDEventValidators.validate(mutated, type).isEmpty())
+                        .as("%s %s", type.getEventType(), mutated)
+                        .isEqualTo(jsonSchema.validate(mutated).isEmpty());
+            }
+        }
+    }
+
+    @Test
+    void modelValidationMatchesJsonSchema() throws Exception {
+        for (CDEventConstants.CDEventTypes type : CDEventConstants.CDEventTypes.values()) {
+            JsonSchema jsonSchema = SchemaRegistry.getSchema(type);
+            List<CDEvent> cdEvents = new ArrayList<>();
+            cdEvents.add((CDEvent) type.getEventClass().getDeclaredConstructor().newInstance());
+            for (JsonNode mutated : mutations((ObjectNode) validInstance(schemaOf(type)))) {
+                try {
+                    cdEvents.add((CDEvent) objectMapper.treeToValue(mutated, type.getEventClass()));
+                } catch (Exception e) {
+                    // not bindable to the model, so never validated as a model
+                }
+            }
+            for (CDEvent cdEvent : cdEvents) {
+                JsonNode written = objectMapper.valueToTree(cdEvent);
+                assertThat(CDEventValidators.validate(cdEvent).isEmpty())
+                        .as("%s %s", type.getEventType(), written)
+                        .isEqualTo(jsonSchema.validate(written).isEmpty());
+            }
+        }
+    }
+
+    @Test
+    void customDataValidationMatchesJsonSchema() {
+        JsonSchema jsonSchema = SchemaRegistry.getSchema(CDEventConstants.CDEventTypes.PipelineRunStartedEvent);
+        Object[] customData = {new Object(), "text", "text".getBytes(StandardCharsets.UTF_8),
+                Collections.singletonMap("key", "value"), Collections.singletonList("value"), 1, true,
+                NODES.objectNode(), NODES.arrayNode(), URI.create("https://cdevents.dev")};
+        for (Object data : customData) {
+            PipelinerunStartedCDEvent cdEvent = validPipelinerunStartedEvent();
+            cdEvent.setCustomData(data);
+
+            assertThat(CDEventValidators.validate(cdEvent).isEmpty())
+                    .as("customData %s", data)
+                    .isEqualTo(jsonSchema.validate(objectMapper.valueToTree(cdEvent)).isEmpty());
+        }
+    }
+
+    @Test
+    void errorsNameThePathOfTheInvalidValue() throws Exception {
+        CDEventConstants.CDEventTypes type = CDEventConstants.CDEventTypes.PipelineRunStartedEvent;
+        ObjectNode cdEventNode = (ObjectNode) validInstance(schemaOf(type));
+        ((ObjectNode) cdEventNode.get("subject")).remove("id");
+        ((ObjectNode) cdEventNode.get("context")).put("timestamp", 1);
+
+        assertThat(CDEventValidators.validate(cdEventNode, type)).containsExactlyInAnyOrder(
+                "$.subject: required property 'id' not found",
+                "$.context.timestamp: number found, string expected");
+    }
+
+    private PipelinerunStartedCDEvent validPipelinerunStartedEvent() {
+        PipelinerunStartedCDEvent cdEvent = new PipelinerunStartedCDEvent();
+        cdEvent.setSource(URI.create("/dev/pipeline/run/1"));
+        cdEvent.setSubjectId("/dev/pipeline/run/subject");
+        cdEvent.setSubjectSource(URI.create("/dev/pipeline/run/subject"));
+        cdEvent.setSubjectPipelineName("test-pipeline");
+        cdEvent.setSubjectUrl("http://dev/pipeline/url");
+        assertThat(CDEventValidators.validate(cdEvent)).isEmpty();
+        return cdEvent;
+    }
+
+    private JsonNode schemaOf(CDEventConstants.CDEventTypes type) throws Exception {
+        return objectMapper.readTree(SchemaLoader.loadSchema(SchemaRegistry.schemaFileName(type)));
+    }
+
+    /**
+     * @return an instance of the schema with every property set to a valid value
+     */
+    private static JsonNode validInstance(JsonNode schemaNode) {
+        if (schemaNode.has("oneOf")) {
+            return validInstance(schemaNode.get("oneOf").get(0));
+        }
+        String type = schemaNode.has("type") ? schemaNode.get("type").asText() : null;
+        if ("object".equals(type)) {
+            ObjectNode objectNode = NODES.objectNode();
+            if (schemaNode.has("properties")) {
+                Iterator<String> names = schemaNode.get("properties").fieldNames();
+                while (names.hasNext()) {
+                    String name = names.next();
+                    objectNode.set(name, validInstance(schemaNode.get("properties").get(name)));
+                }
+            }
+            return objectNode;
+        }
+        if (schemaNode.has("enum")) {
+            return schemaNode.get("enum").get(0);
+        }
+        if (schemaNode.has("format")) {
+            return TextNode.valueOf(DATE_TIMES[0]);
+        }
+        if ("string".equals(type)) {
+            return TextNode.valueOf("value");
+        }
+        return TextNode.valueOf("https://cdevents.dev");
+    }
+
+    /**
+     * @return copies of the cdEventNode with one property removed, replaced or added
+     */
+    private static List<JsonNode> mutations(ObjectNode cdEventNode) {
+        List<JsonNode> mutations = new ArrayList<>();
+        addMutations(cdEventNode, new ArrayList<>(), cdEventNode, mutations);
+        return mutations;
+    }
+
+    private static void addMutations(ObjectNode cdEventNode, List<String> path, ObjectNode objectNode, List<JsonNode> mutations) {
+        mutations.add(mutate(cdEventNode, path, target -> target.put("unknown", "value")));
+        Iterator<String> names = objectNode.fieldNames();
+        while (names.hasNext()) {
+            String name = names.next();
+            mutations.add(mutate(cdEventNode, path, target -> target.remove(name)));
+            for (JsonNode replacement : REPLACEMENTS) {
+                mutations.add(mutate(cdEventNode, path, target -> target.set(name, replacement)));
+            }
+            if (objectNode.get(name).isObject()) {
+                List<String> childPath = new ArrayList<>(path);
+                childPath.add(name);
+                addMutations(cdEventNode, childPath, (ObjectNode) objectNode.get(name), mutations);
+            }
+        }
+    }
+
+    private static JsonNode mutate(ObjectNode cdEventNode, List<String> path, Consumer<ObjectNode> mutation) {
+        ObjectNode copy = cdEventNode.deepCopy();
+        ObjectNode target = copy;
+        for (String name : path) {
+            target = (ObjectNode) target.get(name);
+        }
+        mutation.accept(target);
+        return copy;
+    }
+}
@@ -0,0 +1,82 @@
+package dev.cdevents.validation;
+
+import dev.cdevents.CDEvents;
+import dev.cdevents.constants.CDEventConstants;
+import dev.cdevents.events.PipelinerunStartedCDEvent;
+import dev.cdevents.exception.CDEventsException;
+import io.cloudevents.CloudEvent;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ValidationPolicyTest {
+
+    @Test
+    void offSkipsValidation() {
+        long skipped = ValidationPolicy.OFF.getSkippedCount();
+        PipelinerunStartedCDEvent invalidEvent = new PipelinerunStartedCDEvent();
+        invalidEvent.setSource(URI.create("/dev/pipeline/run/1"));
+
+        CloudEvent cloudEvent = CDEvents.cdEventAsCloudEvent(invalidEvent,
+                CDEventConstants.CloudEventDataMode.POJO, ValidationPolicy.OFF);
+
+        assertThat(cloudEvent.getType()).isEqualTo(invalidEvent.currentCDEventType());
+        assertThat(ValidationPolicy.OFF.getSkippedCount()).isEqualTo(skipped + 1);
+        assertThat(ValidationPolicy.OFF.getValidatedCount()).isZero();
+    }
+
+    @Test
+    void fullRejectsAndCountsInvalidEvents() {
+        long validated = ValidationPolicy.FULL.getValidatedCount();
+        long failed = ValidationPolicy.FULL.getFailedCount();
+
+        assertThrows(CDEventsException.class, () -> CDEvents.cdEventAsCloudEvent(new PipelinerunStartedCDEvent(),
+                CDEventConstants.CloudEventDataMode.POJO, ValidationPolicy.FULL));
+
+        assertThat(ValidationPolicy.FULL.getValidatedCount()).isEqualTo(validated + 1);
+        assertThat(ValidationPolicy.FULL.getFailedCount()).isEqualTo(failed + 1);
+    }
+
+    @Test
+    void failFastStopsAtTheFirstError() {
+        PipelinerunStartedCDEvent invalidEvent = new PipelinerunStartedCDEvent();
+
+        List<String> allErrors = CDEventValidators.validate(invalidEvent, ValidationPolicy.FULL);
+        List<String> firstError = CDEventValidators.validate(invalidEvent, ValidationPolicy.FAIL_FAST);
+
+        assertThat(allErrors).hasSizeGreaterThan(1);
+        assertThat(firstError).containsExactly(allErrors.get(0));
+    }
+
+    @Test
+    void sampledPoliciesValidateTheirFractionOfEvents() {
+        ValidationPolicy never = ValidationPolicy.sampled(0);
+        ValidationPolicy always = ValidationPolicy.sampled(1);
+        ValidationPolicy half = ValidationPolicy.sampled(0.5);
+        PipelinerunStartedCDEvent invalidEvent = new PipelinerunStartedCDEvent();
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(CDEventValidators.validate(invalidEvent, never)).isEmpty();
+            assertThat(CDEventValidators.validate(invalidEvent, always)).isNotEmpty();
+            CDEventValidators.validate(invalidEvent, half);
+        }
+
+        assertThat(never.getSkippedCount()).isEqualTo(100);
+        assertThat(always.getValidatedCount()).isEqualTo(100);
+        assertThat(always.getFailedCount()).isEqualTo(100);
+        assertThat(half.getValidatedCount() + half.getSkippedCount()).isEqualTo(100);
+        assertThat(half.getFailedCount()).isEqualTo(half.getValidatedCount());
+        assertThat(half.toString()).isEqualTo("SAMPLED(0.5)");
+    }
+
+    @Test
+    void sampleRateMustBeAFraction() {
+        assertThrows(IllegalArgumentException.class, () -> ValidationPolicy.sampled(1.5));
+        assertThrows(IllegalArgumentException.class, () -> ValidationPolicy.sampled(-0.1));
+        assertThrows(IllegalArgumentException.class, () -> ValidationPolicy.sampled(Double.NaN));
+    }
+}